@@ -0,0 +1,76 @@
+package benchmarks;
+
+import engine.dto.RuleDTO;
+import synthwave.utils.access.RightManager;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for rules & excludes resolving by user rights
+ * @author small-entropy
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AccessBenchmark {
+
+    /** Excludes for documents (same as in category service) */
+    private static final String[] GLOBAL_EXCLUDES = new String[] {};
+    private static final String[] PUBLIC_EXCLUDES = new String[] { "owner", "version", "status" };
+    private static final String[] PRIVATE_EXCLUDES = new String[] { "version", "status" };
+
+    @Param({ "011001", "111111", "000000" })
+    private String rule;
+
+    @Param({ "true", "false" })
+    private boolean trusted;
+
+    private RuleDTO ruleObject;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        ruleObject = new RuleDTO(rule);
+    }
+
+    /**
+     * Benchmark for parse rule string to rule object
+     * @return rule object
+     */
+    @Benchmark
+    public RuleDTO ruleFromString() {
+        return new RuleDTO(rule);
+    }
+
+    /**
+     * Benchmark for get shared rule object by bitmask
+     * @return rule object
+     */
+    @Benchmark
+    public RuleDTO ruleFromMask() {
+        return RuleDTO.of(ruleObject.getMask());
+    }
+
+    /**
+     * Benchmark for get excludes list by rule
+     * @return excludes list
+     */
+    @Benchmark
+    public String[] excludesByRule() {
+        return RightManager.getExludesByRule(
+                trusted,
+                ruleObject,
+                GLOBAL_EXCLUDES,
+                PUBLIC_EXCLUDES,
+                PRIVATE_EXCLUDES
+        );
+    }
+}
@@ -0,0 +1,110 @@
+package benchmarks;
+
+import core.models.morphia.embeddeds.EmbeddedOwner;
+import core.models.morphia.embeddeds.EmbeddedProperty;
+import core.models.morphia.embeddeds.EmbeddedRight;
+import core.utils.GsonManager;
+
+import synthwave.codecs.EmbeddedsCodecs;
+import synthwave.codecs.ModelsCodecs;
+import synthwave.models.morphia.embeddeds.EmbeddedBreadcrumb;
+import synthwave.models.morphia.embeddeds.EmbeddedCatalog;
+import synthwave.models.morphia.extend.Category;
+import synthwave.models.morphia.extend.User;
+
+import engine.response.codecs.EngineCodecs;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.bson.types.ObjectId;
+
+/**
+ * Class with factory methods for realistic payloads used in benchmarks
+ * @author small-entropy
+ */
+public final class Payloads {
+
+    /** Names of default rights of user */
+    private static final String[] RIGHTS = new String[] {
+        "users", "catalogs", "categories", "companies", "tags", "products"
+    };
+
+    /** State of registered codecs */
+    private static boolean registered = false;
+
+    private Payloads() {}
+
+    /**
+     * Method for register codecs same as application on startup
+     */
+    public static synchronized void registerCodecs() {
+        if (!registered) {
+            EngineCodecs.register(GsonManager.getCodecFactory());
+            EmbeddedsCodecs.register(GsonManager.getCodecFactory());
+            ModelsCodecs.register(GsonManager.getCodecFactory());
+            registered = true;
+        }
+    }
+
+    /**
+     * Method for create list of properties
+     * @param size count of properties
+     * @return list of properties
+     */
+    public static List<EmbeddedProperty> properties(int size) {
+        List<EmbeddedProperty> properties = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            properties.add(new EmbeddedProperty("key" + i, "value" + i));
+        }
+        return properties;
+    }
+
+    /**
+     * Method for create user document with profile, properties & rights
+     * @return user document
+     */
+    public static User user() {
+        List<EmbeddedRight> rights = new ArrayList<>(RIGHTS.length);
+        for (String right : RIGHTS) {
+            rights.add(new EmbeddedRight(right));
+        }
+        User user = new User(
+                new ObjectId(),
+                "benchmark_user",
+                "benchmark_password",
+                properties(8),
+                properties(8),
+                rights
+        );
+        List<String> tokens = new ArrayList<>();
+        tokens.add("header.payload.signature");
+        user.setIssuedTokens(tokens);
+        return user;
+    }
+
+    /**
+     * Method for create category document with breadcrumbs
+     * @return category document
+     */
+    public static Category category() {
+        EmbeddedOwner owner = new EmbeddedOwner(new ObjectId(), "benchmark_user");
+        EmbeddedCatalog catalog = new EmbeddedCatalog(
+                new ObjectId(),
+                "Benchmark catalog",
+                owner
+        );
+        List<EmbeddedBreadcrumb> breadcrumbs = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            breadcrumbs.add(new EmbeddedBreadcrumb(new ObjectId(), "Level " + i));
+        }
+        return new Category(
+                new ObjectId(),
+                "benchmark-category",
+                "Benchmark category",
+                "Category for measure serialization of documents",
+                catalog,
+                breadcrumbs,
+                owner
+        );
+    }
+}
@@ -0,0 +1,96 @@
+package benchmarks;
+
+import core.models.morphia.embeddeds.EmbeddedProperty;
+import core.utils.Searcher;
+import engine.repositories.morphia.BasePropertyRepository;
+import synthwave.filters.UsersFilter;
+import synthwave.models.morphia.extend.User;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for search in lists of embedded properties. Searched
+ * elements are last in list (worst case for linear search)
+ * @author small-entropy
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PropertiesBenchmark {
+
+    @Param({ "10", "1000", "10000" })
+    private int size;
+
+    private List<EmbeddedProperty> properties;
+    private ObjectId lastId;
+    private String lastKey;
+    private User user;
+    private PropertyRepository repository;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        properties = Payloads.properties(size);
+        EmbeddedProperty last = properties.get(size - 1);
+        lastId = last.getPureId();
+        lastKey = last.getKey();
+        user = new User();
+        user.setProperties(properties);
+        repository = new PropertyRepository();
+    }
+
+    /**
+     * Benchmark for search property by id
+     * @return founded property
+     */
+    @Benchmark
+    public EmbeddedProperty propertyById() {
+        return Searcher.getPropertyByIdFromList(lastId, properties);
+    }
+
+    /**
+     * Benchmark for check exist property by key
+     * @return result of check
+     */
+    @Benchmark
+    public boolean hasPropertyByKey() {
+        return repository.hasProperty(lastKey, user);
+    }
+
+    /**
+     * Benchmark for check not exist property by key
+     * @return result of check
+     */
+    @Benchmark
+    public boolean hasPropertyMissing() {
+        return repository.hasProperty("missing", user);
+    }
+
+    /**
+     * Class of property repository with public access to check of
+     * property (repository not used for work with datastore)
+     */
+    private static final class PropertyRepository
+            extends BasePropertyRepository<User, UsersFilter, Object> {
+
+        private PropertyRepository() {
+            super("properties", new ArrayList<>(), null);
+        }
+
+        @Override
+        public boolean hasProperty(String key, User entity) {
+            return super.hasProperty(key, entity);
+        }
+    }
+}
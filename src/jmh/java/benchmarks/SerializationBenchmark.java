@@ -0,0 +1,142 @@
+package benchmarks;
+
+import core.dto.BaseDTO;
+import core.response.transformers.JsonTransformer;
+import synthwave.dto.CategoryDTO;
+import synthwave.models.morphia.extend.Category;
+import synthwave.models.morphia.extend.User;
+
+import java.io.ByteArrayInputStream;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import spark.Request;
+import spark.RequestResponseFactory;
+
+/**
+ * Benchmarks for render of response documents & parse of request body
+ * @author small-entropy
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SerializationBenchmark {
+
+    /** Body of request for create category */
+    private static final String CATEGORY_BODY = "{"
+            + "\"name\":\"benchmark-category\","
+            + "\"title\":\"Benchmark category\","
+            + "\"description\":\"Category for measure parse of request body\","
+            + "\"catalog\":{\"id\":\"5f9b3b3b3b3b3b3b3b3b3b3b\"},"
+            + "\"parent\":{\"id\":\"5f9b3b3b3b3b3b3b3b3b3b3c\"}"
+            + "}";
+
+    private JsonTransformer transformer;
+    private User user;
+    private Category category;
+    private Request request;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Payloads.registerCodecs();
+        transformer = new JsonTransformer();
+        user = Payloads.user();
+        category = Payloads.category();
+        request = RequestResponseFactory.create(
+                createServletRequest(CATEGORY_BODY.getBytes(StandardCharsets.UTF_8))
+        );
+    }
+
+    /**
+     * Benchmark for render user document
+     * @return JSON string
+     */
+    @Benchmark
+    public String renderUser() {
+        return transformer.render(user);
+    }
+
+    /**
+     * Benchmark for render category document
+     * @return JSON string
+     */
+    @Benchmark
+    public String renderCategory() {
+        return transformer.render(category);
+    }
+
+    /**
+     * Benchmark for build data transfer object from request body
+     * @return data transfer object
+     */
+    @Benchmark
+    public CategoryDTO buildCategoryDTO() {
+        return BaseDTO.build(request, CategoryDTO.class);
+    }
+
+    /**
+     * Method for create servlet request with body. Each call of
+     * getInputStream return new stream over same bytes
+     * @param body request body
+     * @return servlet request
+     */
+    private static HttpServletRequest createServletRequest(byte[] body) {
+        return (HttpServletRequest) Proxy.newProxyInstance(
+                SerializationBenchmark.class.getClassLoader(),
+                new Class<?>[] { HttpServletRequest.class },
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getInputStream" -> new BodyStream(body);
+                    case "getContentLength" -> body.length;
+                    case "getContentLengthLong" -> (long) body.length;
+                    case "getCharacterEncoding" -> StandardCharsets.UTF_8.name();
+                    case "getContentType" -> "application/json";
+                    default -> null;
+                }
+        );
+    }
+
+    /**
+     * Class of servlet input stream over bytes array
+     */
+    private static final class BodyStream extends ServletInputStream {
+        private final ByteArrayInputStream stream;
+
+        private BodyStream(byte[] body) {
+            this.stream = new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public int read() {
+            return stream.read();
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            return stream.read(buffer, offset, length);
+        }
+
+        @Override
+        public boolean isFinished() {
+            return stream.available() == 0;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener listener) {}
+    }
+}
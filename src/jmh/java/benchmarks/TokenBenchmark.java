@@ -0,0 +1,76 @@
+package benchmarks;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import core.utils.JsonWebToken;
+
+import java.util.concurrent.TimeUnit;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for encode & decode of JSON web tokens
+ * @author small-entropy
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TokenBenchmark {
+
+    private String username;
+    private String id;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        username = "benchmark_user";
+        id = new ObjectId().toString();
+        token = JsonWebToken.encode(username, id);
+    }
+
+    /**
+     * Benchmark for sign new token (sign in & sign up routes)
+     * @return encoded token
+     */
+    @Benchmark
+    public String encode() {
+        return JsonWebToken.encode(username, id);
+    }
+
+    /**
+     * Benchmark for decode token already verified before (cache hit)
+     * @return decoded token
+     */
+    @Benchmark
+    public DecodedJWT decodeCached() {
+        return JsonWebToken.decode(token);
+    }
+
+    /**
+     * Benchmark for verify & decode token not exist in cache
+     * @param state state with cleared cache
+     * @return decoded token
+     */
+    @Benchmark
+    public DecodedJWT decodeVerified(EmptyCache state) {
+        return JsonWebToken.decode(token);
+    }
+
+    /**
+     * State for clear cache of verified tokens before each invocation
+     */
+    @State(Scope.Thread)
+    public static class EmptyCache {
+
+        @Setup(Level.Invocation)
+        public void clear() {
+            JsonWebToken.getCache().invalidateAll();
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package load;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * Class of HTTP client for REST API. Each request recorded to route
+ * statistics by route name (not by URL with ids)
+ * @author small-entropy
+ */
+public class ApiClient {
+
+    /** Name of authorization header */
+    private static final String AUTH_HEADER = "Authorization";
+    /** Prefix of authorization header value */
+    private static final String AUTH_PREFIX = "Bearer ";
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final Duration timeout;
+    private final RouteStats stats;
+
+    /**
+     * Class for parsed response
+     */
+    public static final class Result {
+        private final int status;
+        private final JsonObject body;
+        private final String token;
+
+        private Result(int status, JsonObject body, String token) {
+            this.status = status;
+            this.body = body;
+            this.token = token;
+        }
+
+        public boolean isSuccess() {
+            return status >= 200 && status < 300;
+        }
+
+        public int getStatus() {
+            return status;
+        }
+
+        public String getToken() {
+            return token;
+        }
+
+        /**
+         * Method for get id of document from response data
+         * @return id of document or null if not exist
+         */
+        public String getDataId() {
+            if (body == null || !body.has("data") || !body.get("data").isJsonObject()) {
+                return null;
+            }
+            return getId(body.getAsJsonObject("data"));
+        }
+
+        /**
+         * Method for get id of first document from response data list
+         * (like batch results)
+         * @return id of document or null if not exist
+         */
+        public String getFirstDataId() {
+            if (body == null || !body.has("data") || !body.get("data").isJsonArray()) {
+                return null;
+            }
+            JsonArray data = body.getAsJsonArray("data");
+            return (data.size() > 0 && data.get(0).isJsonObject())
+                    ? getId(data.get(0).getAsJsonObject())
+                    : null;
+        }
+
+        /**
+         * Method for get id from JSON object. Id can be written as
+         * string or as object with $oid field
+         * @param object JSON object
+         * @return id or null if not exist
+         */
+        public static String getId(JsonObject object) {
+            JsonElement id = object.get("id");
+            if (id == null || id.isJsonNull()) {
+                return null;
+            } else if (id.isJsonObject() && id.getAsJsonObject().has("$oid")) {
+                return id.getAsJsonObject().get("$oid").getAsString();
+            } else {
+                return id.getAsString();
+            }
+        }
+    }
+
+    public ApiClient(String baseUrl, long timeout, RouteStats stats) {
+        this.baseUrl = baseUrl;
+        this.timeout = Duration.ofMillis(timeout);
+        this.stats = stats;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(this.timeout)
+                .build();
+    }
+
+    public Result get(String route, String path, String token) {
+        return send(route, "GET", path, null, token);
+    }
+
+    public Result post(String route, String path, String body, String token) {
+        return send(route, "POST", path, body, token);
+    }
+
+    public Result put(String route, String path, String body, String token) {
+        return send(route, "PUT", path, body, token);
+    }
+
+    public Result delete(String route, String path, String token) {
+        return send(route, "DELETE", path, null, token);
+    }
+
+    /**
+     * Method for send request & record latency
+     * @param route route name for statistics
+     * @param method HTTP method
+     * @param path path after base URL
+     * @param body request body (can be null)
+     * @param token user token (can be null)
+     * @return parsed response
+     */
+    public Result send(String route, String method, String path, String body, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .method(method, (body == null)
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(body));
+        if (token != null) {
+            builder.header(AUTH_HEADER, AUTH_PREFIX + token);
+        }
+        long start = System.nanoTime();
+        Result result;
+        try {
+            HttpResponse<String> response = client.send(
+                    builder.build(),
+                    HttpResponse.BodyHandlers.ofString()
+            );
+            result = parse(response);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            result = new Result(0, null, null);
+        } catch (Exception exception) {
+            result = new Result(0, null, null);
+        }
+        stats.record(route, System.nanoTime() - start, result.isSuccess());
+        return result;
+    }
+
+    /**
+     * Method for parse response body & authorization header
+     * @param response HTTP response
+     * @return parsed response
+     */
+    private static Result parse(HttpResponse<String> response) {
+        JsonObject body = null;
+        try {
+            JsonElement element = new JsonParser().parse(response.body());
+            if (element.isJsonObject()) {
+                body = element.getAsJsonObject();
+            }
+        } catch (RuntimeException exception) {
+            // Not JSON body - response recorded by status only
+        }
+        String token = response.headers()
+                .firstValue(AUTH_HEADER)
+                .map(value -> value.startsWith(AUTH_PREFIX)
+                        ? value.substring(AUTH_PREFIX.length())
+                        : value)
+                .orElse(null);
+        return new Result(response.statusCode(), body, token);
+    }
+}
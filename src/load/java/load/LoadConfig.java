@@ -0,0 +1,156 @@
+package load;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Class for load test options. All options read from system properties
+ * (-Dload.option=value), so run can be reproduced by same command line
+ * @author small-entropy
+ */
+public class LoadConfig {
+
+    /** Default mix of operations (operation=weight) */
+    public static final String DEFAULT_MIX = "login=2,autologin=10,"
+            + "catalogs_list=10,catalog_entity=10,"
+            + "categories_list=10,category_entity=10,"
+            + "tags_list=10,tag_entity=10,"
+            + "property_crud=4,right_crud=2";
+
+    /** Base URL of running server (if empty - server started in process) */
+    private final String url;
+    /** Port for server started in process */
+    private final int port;
+    /** Prefix of database name generated for server started in process */
+    private static final String DB_PREFIX = "AmethystLoad";
+    /** Database name for server started in process */
+    private final String dbName;
+    /** State of database name generated by load test (not set by option) */
+    private final boolean generatedDatabase;
+    /** State drop database after run */
+    private final boolean dropDatabase;
+    /** Count of concurrent virtual users */
+    private final int users;
+    /** Warm up duration (in seconds) */
+    private final int warmup;
+    /** Measure duration (in seconds) */
+    private final int duration;
+    /** Seed for random generators */
+    private final long seed;
+    /** Timeout for one request (in milliseconds) */
+    private final long timeout;
+    /** Path to JSON report file */
+    private final String report;
+    /** Weights of operations */
+    private final Map<Operations, Integer> mix;
+
+    public LoadConfig() {
+        this.url = System.getProperty("load.url", "").trim();
+        this.port = Integer.getInteger("load.port", 4567);
+        String db = System.getProperty("load.db", "").trim();
+        this.generatedDatabase = db.isEmpty();
+        this.dbName = (generatedDatabase) 
+                ? DB_PREFIX + System.currentTimeMillis() 
+                : db;
+        this.dropDatabase = Boolean.parseBoolean(System.getProperty("load.drop", "true"));
+        this.users = Integer.getInteger("load.users", 32);
+        this.warmup = Integer.getInteger("load.warmup", 10);
+        this.duration = Integer.getInteger("load.duration", 60);
+        this.seed = Long.getLong("load.seed", 42L);
+        this.timeout = Long.getLong("load.timeout", 10000L);
+        this.report = System.getProperty("load.report", "target/load-result.json");
+        String mixValue = System.getProperty("load.mix", "");
+        this.mix = parseMix(mixValue.isBlank() ? DEFAULT_MIX : mixValue);
+    }
+
+    /**
+     * Method for parse mix of operations from string like "login=1,autologin=5"
+     * @param value mix as string
+     * @return weights of operations
+     */
+    public static Map<Operations, Integer> parseMix(String value) {
+        Map<Operations, Integer> mix = new EnumMap<>(Operations.class);
+        for (String item : value.split(",")) {
+            String trimmed = item.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            String[] pair = trimmed.split("=");
+            Operations operation = Operations.byName(pair[0].trim());
+            if (operation == null) {
+                throw new IllegalArgumentException("Unknown operation: " + pair[0]);
+            }
+            int weight = (pair.length > 1) ? Integer.parseInt(pair[1].trim()) : 1;
+            if (weight > 0) {
+                mix.put(operation, weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("Mix of operations is empty");
+        }
+        return mix;
+    }
+
+    /**
+     * Method for check server must be started in process
+     * @return result of check
+     */
+    public boolean isEmbedded() {
+        return url.isEmpty();
+    }
+
+    /**
+     * Getter for base URL of API
+     * @return base URL of API
+     */
+    public String getBaseUrl() {
+        String base = isEmbedded() ? "http://localhost:" + port : url;
+        return base.endsWith("/") ? base + "api/v1" : base + "/api/v1";
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public String getDbName() {
+        return dbName;
+    }
+
+    /**
+     * Method for check database must be dropped after run. Only database
+     * generated by load test can be dropped (database set by load.db
+     * option never dropped)
+     * @return result of check
+     */
+    public boolean isDropDatabase() {
+        return dropDatabase && generatedDatabase;
+    }
+
+    public int getUsers() {
+        return users;
+    }
+
+    public int getWarmup() {
+        return warmup;
+    }
+
+    public int getDuration() {
+        return duration;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public long getTimeout() {
+        return timeout;
+    }
+
+    public String getReport() {
+        return report;
+    }
+
+    public Map<Operations, Integer> getMix() {
+        return mix;
+    }
+}
@@ -0,0 +1,189 @@
+package load;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.HdrHistogram.Histogram;
+
+import synthwave.applications.RESTSynthwave;
+
+import static spark.Spark.awaitStop;
+import static spark.Spark.stop;
+
+/**
+ * Class for end-to-end load test of REST API. By default server started
+ * in process against local MongoDB (mongodb://localhost:27017) with
+ * separate generated database, which dropped after run (database set by
+ * load.db option never dropped). Report with throughput &
+ * latency percentiles by route printed & written to JSON file
+ * @author small-entropy
+ */
+public class LoadTest {
+
+    /** Percentiles for report */
+    private static final double[] PERCENTILES = new double[] { 50.0, 99.0, 99.9 };
+
+    public static void main(String[] args) throws Exception {
+        LoadConfig config = new LoadConfig();
+        if (config.isEmbedded()) {
+            startServer(config);
+        }
+        try {
+            RouteStats stats = run(config);
+            report(config, stats);
+        } finally {
+            if (config.isEmbedded()) {
+                stop();
+                awaitStop();
+                if (config.isDropDatabase()) {
+                    dropDatabase(config.getDbName());
+                }
+            }
+        }
+    }
+
+    /**
+     * Method for start REST API server in process
+     * @param config load test options
+     */
+    private static void startServer(LoadConfig config) {
+        RESTSynthwave application = new RESTSynthwave(
+                true,
+                true,
+                config.getDbName(),
+                "*",
+                "Content-Type, api_key, Authorization",
+                "GET, POST, PUT, DELETE, OPTIONS",
+                config.getPort()
+        );
+        application.run();
+    }
+
+    /**
+     * Method for drop database created by load test
+     * @param dbName database name
+     */
+    private static void dropDatabase(String dbName) {
+        try (MongoClient client = MongoClients.create()) {
+            client.getDatabase(dbName).drop();
+        }
+    }
+
+    /**
+     * Method for run virtual users: prepare, warm up & measure
+     * @param config load test options
+     * @return recorded statistics
+     * @throws InterruptedException throw if interrupted
+     */
+    private static RouteStats run(LoadConfig config) throws InterruptedException {
+        RouteStats stats = new RouteStats();
+        ApiClient client = new ApiClient(config.getBaseUrl(), config.getTimeout(), stats);
+        CountDownLatch ready = new CountDownLatch(config.getUsers());
+        AtomicLong deadline = new AtomicLong(Long.MAX_VALUE);
+        List<VirtualUser> users = new ArrayList<>(config.getUsers());
+        List<Thread> threads = new ArrayList<>(config.getUsers());
+        for (int i = 0; i < config.getUsers(); i++) {
+            VirtualUser user = new VirtualUser(
+                    i,
+                    config.getSeed(),
+                    client,
+                    config.getMix(),
+                    ready,
+                    deadline
+            );
+            Thread thread = new Thread(user, "load-user-" + i);
+            users.add(user);
+            threads.add(thread);
+            thread.start();
+        }
+        ready.await();
+        long prepared = users.stream().filter(VirtualUser::isPrepared).count();
+        System.out.printf("Prepared users: %d of %d%n", prepared, config.getUsers());
+        if (prepared == 0) {
+            throw new IllegalStateException("Can not prepare users (is backend running?)");
+        }
+        deadline.set(System.nanoTime()
+                + TimeUnit.SECONDS.toNanos(config.getWarmup() + config.getDuration()));
+        TimeUnit.SECONDS.sleep(config.getWarmup());
+        stats.start();
+        long start = System.nanoTime();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        stats.stop();
+        stats.setElapsed(System.nanoTime() - start);
+        return stats;
+    }
+
+    /**
+     * Method for print report & write it to JSON file
+     * @param config load test options
+     * @param stats recorded statistics
+     * @throws IOException throw if can not write report file
+     */
+    private static void report(LoadConfig config, RouteStats stats) throws IOException {
+        double seconds = stats.getElapsed() / 1e9;
+        Map<String, RouteStats.Route> routes = stats.getRoutes();
+        long total = 0;
+        long errors = 0;
+        System.out.printf("%-56s %10s %8s %10s %10s %10s %10s%n",
+                "Route", "Count", "Errors", "Req/s", "p50 us", "p99 us", "p999 us");
+        for (Map.Entry<String, RouteStats.Route> entry : routes.entrySet()) {
+            Histogram histogram = entry.getValue().getHistogram();
+            total += histogram.getTotalCount();
+            errors += entry.getValue().getErrors();
+            System.out.printf("%-56s %10d %8d %10.1f %10d %10d %10d%n",
+                    entry.getKey(),
+                    histogram.getTotalCount(),
+                    entry.getValue().getErrors(),
+                    histogram.getTotalCount() / seconds,
+                    histogram.getValueAtPercentile(PERCENTILES[0]),
+                    histogram.getValueAtPercentile(PERCENTILES[1]),
+                    histogram.getValueAtPercentile(PERCENTILES[2]));
+        }
+        System.out.printf("Total: %d requests, %d errors, %.1f req/s%n",
+                total, errors, total / seconds);
+
+        Path path = Path.of(config.getReport());
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write("{\"users\":" + config.getUsers());
+            writer.write(",\"duration\":" + seconds);
+            writer.write(",\"seed\":" + config.getSeed());
+            writer.write(",\"requests\":" + total);
+            writer.write(",\"errors\":" + errors);
+            writer.write(",\"throughput\":" + (total / seconds));
+            writer.write(",\"routes\":[");
+            boolean first = true;
+            for (Map.Entry<String, RouteStats.Route> entry : routes.entrySet()) {
+                Histogram histogram = entry.getValue().getHistogram();
+                writer.write(first ? "" : ",");
+                writer.write("{\"route\":\"" + entry.getKey() + "\"");
+                writer.write(",\"count\":" + histogram.getTotalCount());
+                writer.write(",\"errors\":" + entry.getValue().getErrors());
+                writer.write(",\"throughput\":" + (histogram.getTotalCount() / seconds));
+                writer.write(",\"p50\":" + histogram.getValueAtPercentile(PERCENTILES[0]));
+                writer.write(",\"p99\":" + histogram.getValueAtPercentile(PERCENTILES[1]));
+                writer.write(",\"p999\":" + histogram.getValueAtPercentile(PERCENTILES[2]));
+                writer.write(",\"max\":" + histogram.getMaxValue());
+                writer.write("}");
+                first = false;
+            }
+            writer.write("],\"unit\":\"us\"}");
+        }
+        System.out.println("Report is saved to " + path.toAbsolutePath());
+    }
+}
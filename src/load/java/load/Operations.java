@@ -0,0 +1,43 @@
+package load;
+
+/**
+ * Enum with operations of load test mix. One operation can send
+ * several requests (like create, read, update & delete of property)
+ * @author small-entropy
+ */
+public enum Operations {
+    LOGIN("login"),
+    AUTOLOGIN("autologin"),
+    CATALOGS_LIST("catalogs_list"),
+    CATALOG_ENTITY("catalog_entity"),
+    CATEGORIES_LIST("categories_list"),
+    CATEGORY_ENTITY("category_entity"),
+    TAGS_LIST("tags_list"),
+    TAG_ENTITY("tag_entity"),
+    PROPERTY_CRUD("property_crud"),
+    RIGHT_CRUD("right_crud");
+
+    private final String name;
+
+    Operations(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Method for get operation by name
+     * @param name name of operation
+     * @return operation or null if not exist
+     */
+    public static Operations byName(String name) {
+        for (Operations operation : values()) {
+            if (operation.name.equals(name)) {
+                return operation;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,92 @@
+package load;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Class for latency statistics by route. Latency recorded in
+ * microseconds to HdrHistogram (3 significant digits)
+ * @author small-entropy
+ */
+public class RouteStats {
+
+    /** Highest trackable latency (in microseconds) */
+    private static final long HIGHEST_LATENCY = 60_000_000L;
+    /** Count of significant digits of histograms */
+    private static final int DIGITS = 3;
+
+    /** Statistics by route name */
+    private final Map<String, Route> routes = new ConcurrentHashMap<>();
+    /** State of recording (false on warm up) */
+    private volatile boolean recording = false;
+    /** Duration of recording (in nanoseconds) */
+    private long elapsed = 0;
+
+    /**
+     * Class for statistic of one route
+     */
+    public static final class Route {
+        private final Histogram histogram = new ConcurrentHistogram(HIGHEST_LATENCY, DIGITS);
+        private final LongAdder errors = new LongAdder();
+
+        public Histogram getHistogram() {
+            return histogram;
+        }
+
+        public long getErrors() {
+            return errors.sum();
+        }
+    }
+
+    /**
+     * Method for start recording (after warm up)
+     */
+    public void start() {
+        routes.clear();
+        recording = true;
+    }
+
+    /**
+     * Method for stop recording
+     */
+    public void stop() {
+        recording = false;
+    }
+
+    /**
+     * Method for record result of request
+     * @param route route name
+     * @param nanos request latency (in nanoseconds)
+     * @param success state of success response
+     */
+    public void record(String route, long nanos, boolean success) {
+        if (!recording) {
+            return;
+        }
+        Route stats = routes.computeIfAbsent(route, name -> new Route());
+        stats.histogram.recordValue(Math.min(nanos / 1000L, HIGHEST_LATENCY));
+        if (!success) {
+            stats.errors.increment();
+        }
+    }
+
+    public long getElapsed() {
+        return elapsed;
+    }
+
+    public void setElapsed(long elapsed) {
+        this.elapsed = elapsed;
+    }
+
+    /**
+     * Getter for statistics sorted by route name
+     * @return statistics by route
+     */
+    public Map<String, Route> getRoutes() {
+        return new TreeMap<>(routes);
+    }
+}
@@ -0,0 +1,264 @@
+package load;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Class of virtual user. Virtual user register own account, create own
+ * catalog, category & tag, then send operations from mix in closed loop
+ * (next operation sent after response on previous) until deadline
+ * @author small-entropy
+ */
+public class VirtualUser implements Runnable {
+
+    /** Rule with full access */
+    private static final String FULL_ACCESS = "111111";
+
+    private final int index;
+    private final ApiClient client;
+    private final Random random;
+    private final Operations[] operations;
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+    private final CountDownLatch ready;
+    private final AtomicLong deadline;
+
+    private String username;
+    private String password;
+    private String userId;
+    private String token;
+    private String catalogId;
+    private String categoryId;
+    private String tagId;
+    private long counter = 0;
+    private boolean prepared = false;
+
+    /**
+     * Constructor for virtual user
+     * @param index index of virtual user (used for unique names)
+     * @param seed seed for random generator
+     * @param client API client
+     * @param mix weights of operations
+     * @param ready latch for count prepared virtual users
+     * @param deadline shared deadline (System.nanoTime value)
+     */
+    public VirtualUser(
+            int index,
+            long seed,
+            ApiClient client,
+            Map<Operations, Integer> mix,
+            CountDownLatch ready,
+            AtomicLong deadline
+    ) {
+        this.index = index;
+        this.client = client;
+        this.random = new Random(seed + index);
+        this.ready = ready;
+        this.deadline = deadline;
+        this.operations = new Operations[mix.size()];
+        this.cumulativeWeights = new int[mix.size()];
+        int total = 0;
+        int position = 0;
+        for (Map.Entry<Operations, Integer> entry : mix.entrySet()) {
+            total += entry.getValue();
+            operations[position] = entry.getKey();
+            cumulativeWeights[position] = total;
+            position++;
+        }
+        this.totalWeight = total;
+    }
+
+    /**
+     * Getter for state of success prepare of user data
+     * @return state of prepare
+     */
+    public boolean isPrepared() {
+        return prepared;
+    }
+
+    @Override
+    public void run() {
+        try {
+            prepared = prepare();
+        } finally {
+            ready.countDown();
+        }
+        if (!prepared) {
+            return;
+        }
+        try {
+            ready.await();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        while (!Thread.currentThread().isInterrupted() && System.nanoTime() < deadline.get()) {
+            execute(next());
+        }
+    }
+
+    /**
+     * Method for register user & create user documents
+     * @return state of success prepare
+     */
+    private boolean prepare() {
+        String suffix = index + "_" + Long.toHexString(System.nanoTime());
+        username = "load_user_" + suffix;
+        password = "load_password_" + index;
+        ApiClient.Result registered = client.post(
+                "POST /users/register",
+                "/users/register",
+                "{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}",
+                null
+        );
+        if (!registered.isSuccess() || registered.getToken() == null) {
+            return false;
+        }
+        token = registered.getToken();
+        userId = registered.getDataId();
+        catalogId = client.post(
+                "POST /catalogs/owner/:user_id",
+                "/catalogs/owner/" + userId,
+                document("load-catalog-" + suffix, "Load catalog"),
+                token
+        ).getDataId();
+        categoryId = client.post(
+                "POST /categories/owner/:user_id/batch",
+                "/categories/owner/" + userId + "/batch",
+                "[{\"name\":\"load-category-" + suffix + "\","
+                        + "\"title\":\"Load category\","
+                        + "\"description\":\"Category for load test\","
+                        + "\"catalog\":{\"id\":\"" + catalogId + "\"}}]",
+                token
+        ).getFirstDataId();
+        tagId = client.post(
+                "POST /tags/owner/:user_id",
+                "/tags/owner/" + userId,
+                document("load-tag-" + suffix, "Load tag"),
+                token
+        ).getDataId();
+        return userId != null && catalogId != null && categoryId != null && tagId != null;
+    }
+
+    /**
+     * Method for get next operation by weights
+     * @return operation
+     */
+    private Operations next() {
+        int value = random.nextInt(totalWeight);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    /**
+     * Method for execute operation
+     * @param operation operation from mix
+     */
+    private void execute(Operations operation) {
+        switch (operation) {
+            case LOGIN -> {
+                ApiClient.Result result = client.post(
+                        "POST /users/login",
+                        "/users/login",
+                        "{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}",
+                        null
+                );
+                if (result.isSuccess() && result.getToken() != null) {
+                    token = result.getToken();
+                }
+            }
+            case AUTOLOGIN -> client.get("GET /users/autologin", "/users/autologin", token);
+            case CATALOGS_LIST -> client.get("GET /catalogs", "/catalogs", token);
+            case CATALOG_ENTITY -> client.get(
+                    "GET /catalogs/owner/:user_id/catalog/:catalog_id",
+                    "/catalogs/owner/" + userId + "/catalog/" + catalogId,
+                    token
+            );
+            case CATEGORIES_LIST -> client.get("GET /categories", "/categories", token);
+            case CATEGORY_ENTITY -> client.get(
+                    "GET /categories/owner/:user_id/category/:category_id",
+                    "/categories/owner/" + userId + "/category/" + categoryId,
+                    token
+            );
+            case TAGS_LIST -> client.get("GET /tags", "/tags", token);
+            case TAG_ENTITY -> client.get(
+                    "GET /tags/owner/:user_id/tag/:tag_id",
+                    "/tags/owner/" + userId + "/tag/" + tagId,
+                    token
+            );
+            case PROPERTY_CRUD -> propertyCrud();
+            case RIGHT_CRUD -> rightCrud();
+        }
+    }
+
+    /**
+     * Method for create, read, update & delete user property
+     */
+    private void propertyCrud() {
+        String list = "/users/" + userId + "/properties";
+        String id = client.post(
+                "POST /users/:user_id/properties",
+                list,
+                "{\"key\":\"load_key_" + (counter++) + "\",\"value\":\"value\"}",
+                token
+        ).getDataId();
+        if (id == null) {
+            return;
+        }
+        String entity = list + "/" + id;
+        client.get("GET /users/:user_id/properties/:property_id", entity, token);
+        client.put(
+                "PUT /users/:user_id/properties/:property_id",
+                entity,
+                "{\"value\":\"updated\"}",
+                token
+        );
+        client.delete("DELETE /users/:user_id/properties/:property_id", entity, token);
+    }
+
+    /**
+     * Method for create, read, update & delete user right
+     */
+    private void rightCrud() {
+        String list = "/users/" + userId + "/rights";
+        String id = client.post(
+                "POST /users/:user_id/rights",
+                list,
+                "{\"name\":\"load_right_" + (counter++) + "\","
+                        + "\"create\":\"" + FULL_ACCESS + "\","
+                        + "\"read\":\"" + FULL_ACCESS + "\","
+                        + "\"update\":\"" + FULL_ACCESS + "\","
+                        + "\"delete\":\"" + FULL_ACCESS + "\"}",
+                token
+        ).getDataId();
+        if (id == null) {
+            return;
+        }
+        String entity = list + "/" + id;
+        client.get("GET /users/:user_id/rights/:right_id", entity, token);
+        client.put(
+                "PUT /users/:user_id/rights/:right_id",
+                entity,
+                "{\"read\":\"011001\"}",
+                token
+        );
+        client.delete("DELETE /users/:user_id/rights/:right_id", entity, token);
+    }
+
+    /**
+     * Method for get body of simple document
+     * @param name document name
+     * @param title document title
+     * @return JSON body
+     */
+    private static String document(String name, String title) {
+        return "{\"name\":\"" + name + "\",\"title\":\"" + title + "\","
+                + "\"description\":\"Document for load test\"}";
+    }
+}
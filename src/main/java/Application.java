@@ -1,5 +1,6 @@
 // Import UserController class
 import synthwave.applications.RESTSynthwave;
+import core.constants.ThreadModes;
 
 
 /** Class for fun applications */
@@ -7,27 +8,44 @@ public class Application {
 
     public static boolean STORE_NULLS = true;
     public static boolean STORE_EMPTIES = true;
-    public static String MODELS_PATH = "synthwave.models.mongodb.standalones";
     public static String DB_NAME = "Amethyst";
     public static String ORIGINS = "*";
     public static String METHODS = "GET, POST, PUT, DELETE, OPTIONS";
     public static String HEADERS = "Content-Type, api_key, Authorization";
     public static int PORT = 4567;
+    public static ThreadModes THREAD_MODE = ThreadModes.POOL;
+    public static int MAX_THREADS = 200;
+    public static int MIN_THREADS = 8;
+    public static int THREAD_TIMEOUT = 30000;
+    public static int QUEUE_CAPACITY = 1000;
+    public static String METRICS_PATH = "/admin/metrics";
+    public static String METRICS_TOKEN = System.getenv("METRICS_TOKEN");
+    public static String READINESS_PATH = "/admin/ready";
+    public static long SLOW_QUERY_THRESHOLD = 100;
+    public static boolean MIGRATE_PRICES = false;
     
     /**
      * Main function (run by start project)
      * @param args method arguments
      */
     public static void main(String[] args) {
-        new RESTSynthwave(
+        RESTSynthwave application = new RESTSynthwave(
                 STORE_NULLS, 
                 STORE_EMPTIES, 
-                MODELS_PATH, 
                 DB_NAME, 
                 ORIGINS, 
                 HEADERS, 
                 METHODS,
-                PORT
-        ).run();
+                PORT,
+                SLOW_QUERY_THRESHOLD
+        );
+        application.setThreadMode(THREAD_MODE);
+        application.setThreadLimits(MAX_THREADS, MIN_THREADS, THREAD_TIMEOUT);
+        application.setQueueCapacity(QUEUE_CAPACITY);
+        application.setMetricsPath(METRICS_PATH);
+        application.setMetricsToken(METRICS_TOKEN);
+        application.setReadinessPath(READINESS_PATH);
+        application.setMigratePrices(MIGRATE_PRICES);
+        application.run();
     }
 }
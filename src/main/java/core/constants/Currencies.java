@@ -0,0 +1,47 @@
+package core.constants;
+
+/**
+ * Enum for supported currencies (ISO 4217 code & count of digits of
+ * minor unit). Price index created for each currency
+ * @author small-entropy
+ */
+public enum Currencies {
+    USD("USD", 2),
+    EUR("EUR", 2),
+    GBP("GBP", 2),
+    RUB("RUB", 2),
+    CNY("CNY", 2),
+    JPY("JPY", 0);
+
+    private final String name;
+    private final int digits;
+
+    Currencies(String name, int digits) {
+        this.name = name;
+        this.digits = digits;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getDigits() {
+        return digits;
+    }
+
+    /**
+     * Method for get currency by code
+     * @param code currency code (case insensitive)
+     * @return currency or null if currency not supported
+     */
+    public static Currencies byCode(String code) {
+        if (code != null) {
+            for (Currencies currency : values()) {
+                if (currency.name.equalsIgnoreCase(code.trim())) {
+                    return currency;
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -7,7 +7,8 @@ public enum HttpErrors {
     UNAUTHORIZED(401, "Unauthorized user"),
     CONFLICT(409, "Conflict with sent data"),
     NOT_ACCEPTABLE(406, "Not Acceptable"),
-    NOT_IMPLEMENTED(501, "Not Implemented"); 
+    NOT_IMPLEMENTED(501, "Not Implemented"),
+    SERVICE_UNAVAILABLE(503, "Service unavailable");
     private final int code;
     private final String message;
     HttpErrors(int code, String message) {
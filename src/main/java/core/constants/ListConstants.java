@@ -6,7 +6,8 @@ package core.constants;
  */
 public enum ListConstants {
     SKIP(0),
-    LIMIT(10);
+    LIMIT(10),
+    BATCH_LIMIT(10000);
 
     private final int value;
     
@@ -0,0 +1,24 @@
+package core.constants;
+
+/**
+ * Enum with types of metrics (names as in Prometheus text format)
+ * @author small-entropy
+ */
+public enum MetricTypes {
+    /** Monotonic counter */
+    COUNTER("counter"),
+    /** Value which can go up & down */
+    GAUGE("gauge"),
+    /** Distribution of values by buckets */
+    HISTOGRAM("histogram");
+
+    private final String name;
+
+    MetricTypes(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
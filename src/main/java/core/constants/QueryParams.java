@@ -6,7 +6,20 @@ package core.constants;
  */
 public enum QueryParams {
     SKIP("skip"),
-    LIMIT("limit");
+    LIMIT("limit"),
+    AFTER("after"),
+    BEFORE("before"),
+    CURSOR("cursor"),
+    STREAM("stream"),
+    CATEGORY("category"),
+    TAG("tag"),
+    SELLER("seller"),
+    MANUFACTURER("manufacturer"),
+    PRICE_MIN("price_min"),
+    PRICE_MAX("price_max"),
+    CURRENCY("currency"),
+    ORDER("order"),
+    DEPTH("depth");
     
     private final String key;
 
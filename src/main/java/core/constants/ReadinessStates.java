@@ -0,0 +1,24 @@
+package core.constants;
+
+/**
+ * Enum with states of application readiness
+ * @author small-entropy
+ */
+public enum ReadinessStates {
+    /** Application started, background tasks not finished */
+    STARTING("starting"),
+    /** Application started & all background tasks finished */
+    READY("ready"),
+    /** One of background tasks failed */
+    FAILED("failed");
+
+    private final String name;
+
+    ReadinessStates(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
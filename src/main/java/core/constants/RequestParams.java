@@ -11,7 +11,9 @@ public enum RequestParams {
     PROPERTY_ID("property_id"),
     RIGHT_ID("right_id"),
     COMPANY_ID("comapny_id"),
-    TAGS_ID("tags_id");
+    TAGS_ID("tag_id"),
+    PRODUCT_ID("product_id"),
+    CURRENCY("currency");
     
     private final String name;
 
@@ -0,0 +1,36 @@
+package core.constants;
+
+/**
+ * Enum with modes of executing requests by web server
+ * @author small-entropy
+ */
+public enum ThreadModes {
+    /** Requests executed by sized pool of platform threads */
+    POOL("pool"),
+    /** Each request executed by new virtual thread (JDK 21+) */
+    VIRTUAL("virtual");
+
+    private final String name;
+
+    ThreadModes(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Method for get thread mode by name
+     * @param name name of mode
+     * @return thread mode (pool mode if name unknown)
+     */
+    public static ThreadModes byName(String name) {
+        for (ThreadModes mode : values()) {
+            if (mode.getName().equalsIgnoreCase(name)) {
+                return mode;
+            }
+        }
+        return POOL;
+    }
+}
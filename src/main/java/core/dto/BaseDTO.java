@@ -5,7 +5,7 @@
  */
 package core.dto;
 
-import com.google.gson.Gson;
+import core.utils.GsonManager;
 import spark.Request;
 
 /**
@@ -13,8 +13,26 @@ import spark.Request;
  * @author small-entropy
  */
 public class BaseDTO {
+    /** Expected version of document (optimistic locking, can be null) */
+    private Long version;
     
     public static <T> T build(Request request, Class<T> dto) {
-        return new Gson().fromJson(request.body(), dto);
+        return GsonManager.fromRequest(request, dto);
+    }
+    
+    /**
+     * Getter for expected version of document
+     * @return expected version or null if version not sent
+     */
+    public Long getVersion() {
+        return version;
+    }
+    
+    /**
+     * Setter for expected version of document
+     * @param version expected version
+     */
+    public void setVersion(Long version) {
+        this.version = version;
     }
 }
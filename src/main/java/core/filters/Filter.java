@@ -20,6 +20,14 @@ public abstract class Filter {
     private ObjectId owner;
     /** Property for excludes fields */
     private String[] excludes =  new String[] {};
+    /** Property for include fields (if set - used instead excludes) */
+    private String[] includes = new String[] {};
+    /** Property for cursor mode state */
+    private boolean cursor;
+    /** Property for cursor (id) after which documents must be got */
+    private ObjectId after;
+    /** Property for cursor (id) before which documents must be got */
+    private ObjectId before;
     
     /**
      * Default constructor for filter object. Create instance without any data
@@ -197,4 +205,76 @@ public abstract class Filter {
     public void setExcludes(String[] excludes) {
         this.excludes = excludes;
     }
+    
+    /**
+     * Getter for include fields
+     * @return value of include fields
+     */
+    public String[] getIncludes() {
+        return includes;
+    }
+    
+    /**
+     * Setter for include fields
+     * @param includes include fields
+     */
+    public void setIncludes(String[] includes) {
+        this.includes = includes;
+    }
+    
+    /**
+     * Method for check include projection mode
+     * @return true if include fields set
+     */
+    public boolean hasIncludes() {
+        return includes != null && includes.length > 0;
+    }
+    
+    /**
+     * Getter for cursor mode state
+     * @return true if used cursor (keyset) pagination
+     */
+    public boolean isCursorMode() {
+        return cursor || after != null || before != null;
+    }
+    
+    /**
+     * Setter for cursor mode state
+     * @param cursor new value of cursor mode state
+     */
+    public void setCursor(boolean cursor) {
+        this.cursor = cursor;
+    }
+    
+    /**
+     * Getter for after cursor
+     * @return value of after cursor
+     */
+    public ObjectId getAfter() {
+        return after;
+    }
+    
+    /**
+     * Setter for after cursor
+     * @param after new value of after cursor
+     */
+    public void setAfter(ObjectId after) {
+        this.after = after;
+    }
+    
+    /**
+     * Getter for before cursor
+     * @return value of before cursor
+     */
+    public ObjectId getBefore() {
+        return before;
+    }
+    
+    /**
+     * Setter for before cursor
+     * @param before new value of before cursor
+     */
+    public void setBefore(ObjectId before) {
+        this.before = before;
+    }
 }
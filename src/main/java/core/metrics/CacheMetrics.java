@@ -0,0 +1,56 @@
+package core.metrics;
+
+import core.constants.MetricTypes;
+import core.utils.ExpiringCache;
+
+/**
+ * Class for expose statistics of caches as metrics. Values read from
+ * cache counters on scrape (without extra work on cache access)
+ * @author small-entropy
+ */
+public class CacheMetrics {
+
+    /** Name of label with cache name */
+    private static final String[] LABELS = new String[] { "cache" };
+
+    /**
+     * Method for register metrics of cache
+     * @param name name of cache (label value)
+     * @param cache cache object
+     */
+    public static void register(String name, ExpiringCache<?, ?> cache) {
+        String[] values = new String[] { name };
+        MetricsRegistry.sample(
+                "cache_hits_total",
+                "Count of cache hits",
+                MetricTypes.COUNTER,
+                LABELS,
+                values,
+                cache::getHits
+        );
+        MetricsRegistry.sample(
+                "cache_misses_total",
+                "Count of cache misses",
+                MetricTypes.COUNTER,
+                LABELS,
+                values,
+                cache::getMisses
+        );
+        MetricsRegistry.sample(
+                "cache_evictions_total",
+                "Count of evicted cache entries",
+                MetricTypes.COUNTER,
+                LABELS,
+                values,
+                cache::getEvictions
+        );
+        MetricsRegistry.sample(
+                "cache_size",
+                "Count of entries in cache",
+                MetricTypes.GAUGE,
+                LABELS,
+                values,
+                cache::size
+        );
+    }
+}
@@ -0,0 +1,41 @@
+package core.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Class for lock-free monotonic counter
+ * @author small-entropy
+ */
+public final class Counter implements Metric {
+
+    /** Counter value (striped for low contention) */
+    private final LongAdder value = new LongAdder();
+
+    /**
+     * Method for increment counter by one
+     */
+    public void inc() {
+        value.increment();
+    }
+
+    /**
+     * Method for increment counter by value
+     * @param amount value for add (must be positive)
+     */
+    public void add(long amount) {
+        value.add(amount);
+    }
+
+    /**
+     * Getter for counter value
+     * @return counter value
+     */
+    public long get() {
+        return value.sum();
+    }
+
+    @Override
+    public void write(StringBuilder out, String name, String labels) {
+        MetricsRegistry.writeSample(out, name, labels, get());
+    }
+}
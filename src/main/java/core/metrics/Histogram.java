@@ -0,0 +1,110 @@
+package core.metrics;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Class for lock-free histogram of durations with fixed buckets. Values
+ * recorded in nanoseconds & written in seconds (as Prometheus expect)
+ * @author small-entropy
+ */
+public final class Histogram implements Metric {
+
+    /** Default upper bounds of buckets (in seconds) */
+    public static final double[] DEFAULT_BUCKETS = new double[] {
+        0.0001, 0.00025, 0.0005, 0.001, 0.0025, 0.005, 0.01,
+        0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10
+    };
+
+    /** Count of nanoseconds in second */
+    private static final double NANOS_IN_SECOND = 1e9;
+
+    /** Upper bounds of buckets formatted for "le" label */
+    private final String[] bucketLabels;
+    /** Upper bounds of buckets (in nanoseconds) */
+    private final long[] bounds;
+    /** Counts by bucket (last item for values greater than all bounds) */
+    private final LongAdder[] counts;
+    /** Sum of all values (in nanoseconds) */
+    private final LongAdder sum = new LongAdder();
+
+    public Histogram() {
+        this(DEFAULT_BUCKETS);
+    }
+
+    /**
+     * Constructor for histogram with own buckets
+     * @param buckets sorted upper bounds of buckets (in seconds)
+     */
+    public Histogram(double[] buckets) {
+        this.bucketLabels = new String[buckets.length];
+        this.bounds = new long[buckets.length];
+        this.counts = new LongAdder[buckets.length + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            bounds[i] = (long) (buckets[i] * NANOS_IN_SECOND);
+            bucketLabels[i] = BigDecimal.valueOf(buckets[i]).toPlainString();
+        }
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Method for record duration
+     * @param nanos duration (in nanoseconds)
+     */
+    public void observe(long nanos) {
+        int index = Arrays.binarySearch(bounds, nanos);
+        // Not found value - index of first bound greater than value
+        counts[(index >= 0) ? index : -index - 1].increment();
+        sum.add(nanos);
+    }
+
+    /**
+     * Method for record duration from start time to now
+     * @param start start time (System.nanoTime value)
+     */
+    public void observeSince(long start) {
+        observe(System.nanoTime() - start);
+    }
+
+    /**
+     * Getter for count of recorded values
+     * @return count of values
+     */
+    public long getCount() {
+        long count = 0;
+        for (LongAdder bucket : counts) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    /**
+     * Getter for sum of recorded values
+     * @return sum of values (in seconds)
+     */
+    public double getSum() {
+        return sum.sum() / NANOS_IN_SECOND;
+    }
+
+    @Override
+    public void write(StringBuilder out, String name, String labels) {
+        String prefix = labels.isEmpty() ? "" : labels + ",";
+        long cumulative = 0;
+        for (int i = 0; i < bounds.length; i++) {
+            cumulative += counts[i].sum();
+            MetricsRegistry.writeSample(
+                    out,
+                    name + "_bucket",
+                    prefix + "le=\"" + bucketLabels[i] + "\"",
+                    cumulative
+            );
+        }
+        cumulative += counts[bounds.length].sum();
+        MetricsRegistry.writeSample(out, name + "_bucket", prefix + "le=\"+Inf\"", cumulative);
+        MetricsRegistry.writeSample(out, name + "_sum", labels, getSum());
+        MetricsRegistry.writeSample(out, name + "_count", labels, cumulative);
+    }
+}
@@ -0,0 +1,16 @@
+package core.metrics;
+
+/**
+ * Interface for one metric (one set of label values of metric family)
+ * @author small-entropy
+ */
+public interface Metric {
+
+    /**
+     * Method for write metric samples in Prometheus text format
+     * @param out output builder
+     * @param name name of metric family
+     * @param labels formatted labels (like a="1",b="2") or empty string
+     */
+    void write(StringBuilder out, String name, String labels);
+}
@@ -0,0 +1,123 @@
+package core.metrics;
+
+import core.constants.MetricTypes;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Class for metric family (metrics with same name & different label
+ * values). Metric for label values created on first use
+ * @author small-entropy
+ * @param <T> type of metric
+ */
+public final class MetricFamily<T extends Metric> {
+
+    /** Name of metric family */
+    private final String name;
+    /** Description of metric family */
+    private final String help;
+    /** Type of metrics */
+    private final MetricTypes type;
+    /** Names of labels */
+    private final String[] labelNames;
+    /** Factory for create metric */
+    private final Supplier<T> factory;
+    /** Metrics by label values */
+    private final Map<List<String>, T> metrics = new ConcurrentHashMap<>();
+
+    MetricFamily(
+            String name,
+            String help,
+            MetricTypes type,
+            String[] labelNames,
+            Supplier<T> factory
+    ) {
+        this.name = name;
+        this.help = help;
+        this.type = type;
+        this.labelNames = labelNames;
+        this.factory = factory;
+    }
+
+    /**
+     * Method for get metric by label values (metric created if not exist)
+     * @param values label values (in order of label names)
+     * @return metric
+     */
+    public T labels(String... values) {
+        if (values.length != labelNames.length) {
+            throw new IllegalArgumentException(
+                    "Metric " + name + " expects " + labelNames.length + " labels"
+            );
+        }
+        List<String> key = Arrays.asList(values);
+        T metric = metrics.get(key);
+        return (metric != null)
+                ? metric
+                : metrics.computeIfAbsent(key, labels -> factory.get());
+    }
+
+    /**
+     * Method for add metric with known label values
+     * @param metric metric
+     * @param values label values (in order of label names)
+     */
+    void put(T metric, String... values) {
+        metrics.put(Arrays.asList(values), metric);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getHelp() {
+        return help;
+    }
+
+    public MetricTypes getType() {
+        return type;
+    }
+
+    /**
+     * Method for write all metrics of family in Prometheus text format
+     * @param out output builder
+     */
+    void write(StringBuilder out) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type.getName()).append('\n');
+        for (Map.Entry<List<String>, T> entry : metrics.entrySet()) {
+            entry.getValue().write(out, name, formatLabels(entry.getKey()));
+        }
+    }
+
+    /**
+     * Method for format labels like a="1",b="2"
+     * @param values label values
+     * @return formatted labels
+     */
+    private String formatLabels(List<String> values) {
+        StringBuilder labels = new StringBuilder();
+        for (int i = 0; i < labelNames.length; i++) {
+            if (i > 0) {
+                labels.append(',');
+            }
+            labels.append(labelNames[i]).append("=\"");
+            String value = values.get(i);
+            for (int j = 0; j < value.length(); j++) {
+                char symbol = value.charAt(j);
+                switch (symbol) {
+                    case '\\' -> labels.append("\\\\");
+                    case '"' -> labels.append("\\\"");
+                    case '\n' -> labels.append("\\n");
+                    default -> labels.append(symbol);
+                }
+            }
+            labels.append('"');
+        }
+        return labels.toString();
+    }
+}
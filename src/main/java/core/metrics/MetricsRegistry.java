@@ -0,0 +1,163 @@
+package core.metrics;
+
+import core.constants.MetricTypes;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Class for registry of application metrics. Metrics recorded without
+ * locks & written in Prometheus text format on scrape
+ * @author small-entropy
+ */
+public class MetricsRegistry {
+
+    /** Content type of Prometheus text format */
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    /** Metric families by name (sorted for stable output) */
+    private static final Map<String, MetricFamily<?>> FAMILIES =
+            new ConcurrentSkipListMap<>();
+
+    /**
+     * Method for get or register family of counters
+     * @param name name of metric
+     * @param help description of metric
+     * @param labelNames names of labels
+     * @return family of counters
+     */
+    public static MetricFamily<Counter> counter(
+            String name,
+            String help,
+            String... labelNames
+    ) {
+        return register(name, help, MetricTypes.COUNTER, labelNames, Counter::new);
+    }
+
+    /**
+     * Method for get or register family of histograms of durations
+     * @param name name of metric
+     * @param help description of metric
+     * @param labelNames names of labels
+     * @return family of histograms
+     */
+    public static MetricFamily<Histogram> histogram(
+            String name,
+            String help,
+            String... labelNames
+    ) {
+        return register(name, help, MetricTypes.HISTOGRAM, labelNames, Histogram::new);
+    }
+
+    /**
+     * Method for register metric with value read on scrape
+     * @param name name of metric
+     * @param help description of metric
+     * @param type type of metric (counter or gauge)
+     * @param labelNames names of labels
+     * @param labelValues values of labels
+     * @param supplier supplier of metric value
+     */
+    public static void sample(
+            String name,
+            String help,
+            MetricTypes type,
+            String[] labelNames,
+            String[] labelValues,
+            DoubleSupplier supplier
+    ) {
+        MetricFamily<Sample> family = register(name, help, type, labelNames, () -> {
+            throw new IllegalStateException("Metric " + name + " has no value supplier");
+        });
+        family.put(new Sample(supplier), labelValues);
+    }
+
+    /**
+     * Method for get or register metric family
+     * @param <T> type of metric
+     * @param name name of metric
+     * @param help description of metric
+     * @param type type of metric
+     * @param labelNames names of labels
+     * @param factory factory of metric
+     * @return metric family
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends Metric> MetricFamily<T> register(
+            String name,
+            String help,
+            MetricTypes type,
+            String[] labelNames,
+            Supplier<T> factory
+    ) {
+        MetricFamily<?> family = FAMILIES.computeIfAbsent(
+                name,
+                key -> new MetricFamily<>(name, help, type, labelNames, factory)
+        );
+        if (family.getType() != type) {
+            throw new IllegalArgumentException(
+                    "Metric " + name + " already registered as " + family.getType().getName()
+            );
+        }
+        return (MetricFamily<T>) family;
+    }
+
+    /**
+     * Method for write all metrics in Prometheus text format
+     * @return metrics as text
+     */
+    public static String scrape() {
+        StringBuilder out = new StringBuilder(8192);
+        for (MetricFamily<?> family : FAMILIES.values()) {
+            family.write(out);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Method for write one sample line with integer value
+     * @param out output builder
+     * @param name sample name
+     * @param labels formatted labels or empty string
+     * @param value sample value
+     */
+    static void writeSample(StringBuilder out, String name, String labels, long value) {
+        writeName(out, name, labels).append(value).append('\n');
+    }
+
+    /**
+     * Method for write one sample line with floating point value
+     * @param out output builder
+     * @param name sample name
+     * @param labels formatted labels or empty string
+     * @param value sample value
+     */
+    static void writeSample(StringBuilder out, String name, String labels, double value) {
+        writeName(out, name, labels);
+        if (Double.isNaN(value)) {
+            out.append("NaN");
+        } else if (Double.isInfinite(value)) {
+            out.append((value > 0) ? "+Inf" : "-Inf");
+        } else {
+            out.append(value);
+        }
+        out.append('\n');
+    }
+
+    /**
+     * Method for write sample name with labels
+     * @param out output builder
+     * @param name sample name
+     * @param labels formatted labels or empty string
+     * @return output builder
+     */
+    private static StringBuilder writeName(StringBuilder out, String name, String labels) {
+        out.append(name);
+        if (!labels.isEmpty()) {
+            out.append('{').append(labels).append('}');
+        }
+        return out.append(' ');
+    }
+}
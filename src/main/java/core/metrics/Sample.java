@@ -0,0 +1,31 @@
+package core.metrics;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * Class for metric with value read on scrape (like size of cache or
+ * counter of hits already collected by cache)
+ * @author small-entropy
+ */
+public final class Sample implements Metric {
+
+    /** Supplier of metric value */
+    private final DoubleSupplier supplier;
+
+    public Sample(DoubleSupplier supplier) {
+        this.supplier = supplier;
+    }
+
+    /**
+     * Getter for current metric value
+     * @return metric value
+     */
+    public double get() {
+        return supplier.getAsDouble();
+    }
+
+    @Override
+    public void write(StringBuilder out, String name, String labels) {
+        MetricsRegistry.writeSample(out, name, labels, get());
+    }
+}
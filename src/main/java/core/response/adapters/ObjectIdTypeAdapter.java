@@ -2,6 +2,7 @@ package core.response.adapters;
 
 import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.JsonWriter;
 import org.bson.types.ObjectId;
 
@@ -10,11 +11,19 @@ import java.io.IOException;
 public class ObjectIdTypeAdapter extends TypeAdapter<ObjectId> {
     @Override
     public void write(final JsonWriter out, final ObjectId value) throws IOException {
-            out.value(value.toString());
+        if (value == null) {
+            out.nullValue();
+        } else {
+            out.value(value.toHexString());
         }
+    }
 
     @Override
     public ObjectId read(JsonReader jsonReader) throws IOException {
-        return null;
+        if (jsonReader.peek() == JsonToken.NULL) {
+            jsonReader.nextNull();
+            return null;
+        }
+        return new ObjectId(jsonReader.nextString());
     }
 }
@@ -0,0 +1,78 @@
+package core.response.answers;
+
+import org.bson.types.ObjectId;
+
+/**
+ * Class for result of one item of batch operation
+ * @author small-entropy
+ */
+public class BatchResult {
+    /** Status of success processed item */
+    public static final String SUCCESS = "success";
+    /** Status of failed item */
+    public static final String FAILED = "failed";
+
+    // Index of item in batch
+    private final int index;
+    // Status of item processing
+    private final String status;
+    // Document id
+    private final ObjectId id;
+    // Error message (for failed item)
+    private final String error;
+
+    /**
+     * Constructor for batch item result
+     * @param index index of item in batch
+     * @param status status of item processing
+     * @param id document id
+     * @param error error message
+     */
+    private BatchResult(int index, String status, ObjectId id, String error) {
+        this.index = index;
+        this.status = status;
+        this.id = id;
+        this.error = error;
+    }
+
+    /**
+     * Method for create result of success processed item
+     * @param index index of item in batch
+     * @param id document id
+     * @return batch item result
+     */
+    public static BatchResult success(int index, ObjectId id) {
+        return new BatchResult(index, SUCCESS, id, null);
+    }
+
+    /**
+     * Method for create result of failed item
+     * @param index index of item in batch
+     * @param id document id (can be null)
+     * @param error error message
+     * @return batch item result
+     */
+    public static BatchResult failed(int index, ObjectId id, String error) {
+        return new BatchResult(index, FAILED, id, error);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public ObjectId getId() {
+        return id;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public boolean isSuccess() {
+        return SUCCESS.equals(status);
+    }
+}
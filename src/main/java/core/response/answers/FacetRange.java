@@ -0,0 +1,30 @@
+package core.response.answers;
+
+/**
+ * Class for numeric search facet (bounds of values in founded documents)
+ * @author small-entropy
+ */
+public class FacetRange {
+    // Minimal value
+    private final Long min;
+    // Maximal value
+    private final Long max;
+
+    /**
+     * Constructor for numeric facet
+     * @param min minimal value
+     * @param max maximal value
+     */
+    public FacetRange(Long min, Long max) {
+        this.min = min;
+        this.max = max;
+    }
+
+    public Long getMin() {
+        return min;
+    }
+
+    public Long getMax() {
+        return max;
+    }
+}
@@ -0,0 +1,41 @@
+package core.response.answers;
+
+import org.bson.types.ObjectId;
+
+/**
+ * Class for one value of search facet (referenced document & count of
+ * documents with this value)
+ * @author small-entropy
+ */
+public class FacetValue {
+    // Id of referenced document
+    private final ObjectId id;
+    // Title of referenced document
+    private final String title;
+    // Count of documents with value
+    private final long count;
+
+    /**
+     * Constructor for facet value
+     * @param id id of referenced document
+     * @param title title of referenced document
+     * @param count count of documents with value
+     */
+    public FacetValue(ObjectId id, String title, long count) {
+        this.id = id;
+        this.title = title;
+        this.count = count;
+    }
+
+    public ObjectId getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public long getCount() {
+        return count;
+    }
+}
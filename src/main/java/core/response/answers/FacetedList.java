@@ -0,0 +1,56 @@
+package core.response.answers;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Class for result of faceted search (page of documents, total count of
+ * founded documents & counts by facets values)
+ * @author small-entropy
+ * @param <T> type of documents
+ */
+public class FacetedList<T> {
+    // Page of founded documents
+    private final List<T> items;
+    // Total count of founded documents
+    private final long total;
+    // Values of facets by facet name
+    private final Map<String, List<FacetValue>> facets;
+    // Numeric facets by facet name
+    private final Map<String, FacetRange> ranges;
+
+    /**
+     * Constructor for faceted search result
+     * @param items page of founded documents
+     * @param total total count of founded documents
+     * @param facets values of facets by facet name
+     * @param ranges numeric facets by facet name
+     */
+    public FacetedList(
+            List<T> items,
+            long total,
+            Map<String, List<FacetValue>> facets,
+            Map<String, FacetRange> ranges
+    ) {
+        this.items = items;
+        this.total = total;
+        this.facets = facets;
+        this.ranges = ranges;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public Map<String, List<FacetValue>> getFacets() {
+        return facets;
+    }
+
+    public Map<String, FacetRange> getRanges() {
+        return ranges;
+    }
+}
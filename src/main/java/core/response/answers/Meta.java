@@ -8,11 +8,15 @@ public class Meta {
     private int count;
     // Token property
     private String token;
+    // Cursor for get next page of list
+    private String next;
+    // Cursor for get previous page of list
+    private String prev;
 
     /**
      * Default object constructor
      */
-    Meta() {}
+    public Meta() {}
 
     /**
      * Setter for count property
@@ -37,5 +41,28 @@ public class Meta {
     public String getToken() {
         return token;
     }
-    
+
+    /**
+     * Setter for next page cursor property
+     * @param next new value of next page cursor
+     */
+    public void setNext(String next) {
+        this.next = next;
+    }
+
+    public String getNext() {
+        return next;
+    }
+
+    /**
+     * Setter for previous page cursor property
+     * @param prev new value of previous page cursor
+     */
+    public void setPrev(String prev) {
+        this.prev = prev;
+    }
+
+    public String getPrev() {
+        return prev;
+    }
 }
@@ -0,0 +1,80 @@
+package core.response.answers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.bson.types.ObjectId;
+
+/**
+ * Class for node of documents tree (document short data & child nodes)
+ * @author small-entropy
+ */
+public class TreeNode {
+    /** Fields of document required for build tree node */
+    public static final String[] FIELDS = new String[] { 
+        "name", "title", "parent", "depth" 
+    };
+    // Document id
+    private final ObjectId id;
+    // Document name
+    private final String name;
+    // Document title
+    private final String title;
+    // Depth of document in tree
+    private final int depth;
+    // Child nodes (unmodifiable after freeze)
+    private List<TreeNode> children = new ArrayList<>();
+
+    /**
+     * Constructor for tree node
+     * @param id document id
+     * @param name document name
+     * @param title document title
+     * @param depth depth of document in tree
+     */
+    public TreeNode(ObjectId id, String name, String title, int depth) {
+        this.id = id;
+        this.name = name;
+        this.title = title;
+        this.depth = depth;
+    }
+
+    public ObjectId getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public List<TreeNode> getChildren() {
+        return children;
+    }
+
+    /**
+     * Method for add child node
+     * @param child child node
+     */
+    public void addChild(TreeNode child) {
+        children.add(child);
+    }
+
+    /**
+     * Method for make node & all descendants nodes unmodifiable (frozen
+     * nodes can be shared between threads)
+     */
+    public void freeze() {
+        for (TreeNode child : children) {
+            child.freeze();
+        }
+        children = Collections.unmodifiableList(children);
+    }
+}
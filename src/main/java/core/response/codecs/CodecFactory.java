@@ -0,0 +1,52 @@
+package core.response.codecs;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Class for factory of registered model codecs. Codec used only for
+ * exactly registered class, for all other types used Gson adapters
+ * @author small-entropy
+ */
+public class CodecFactory implements TypeAdapterFactory {
+
+    /** Property with codec suppliers by model class */
+    private final Map<Class<?>, Supplier<? extends ModelCodec<?>>> codecs = 
+            new ConcurrentHashMap<>();
+
+    /**
+     * Method for register codec for model class
+     * @param <T> type of model
+     * @param type model class
+     * @param supplier supplier of codec
+     */
+    public <T> void register(Class<T> type, Supplier<? extends ModelCodec<T>> supplier) {
+        codecs.put(type, supplier);
+    }
+
+    /**
+     * Method for check registered codec for model class
+     * @param type model class
+     * @return result of check
+     */
+    public boolean hasCodec(Class<?> type) {
+        return codecs.containsKey(type);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> typeToken) {
+        Supplier<? extends ModelCodec<?>> supplier = codecs.get(typeToken.getRawType());
+        if (supplier == null) {
+            return null;
+        }
+        ModelCodec<T> codec = (ModelCodec<T>) supplier.get();
+        codec.init(gson, gson.getDelegateAdapter(this, typeToken));
+        return codec;
+    }
+}
@@ -0,0 +1,98 @@
+package core.response.codecs;
+
+import com.google.gson.stream.JsonWriter;
+import core.models.morphia.embeddeds.EmbeddedOwner;
+import core.models.morphia.embeddeds.EmbeddedProperty;
+import core.models.morphia.embeddeds.EmbeddedRight;
+import core.response.answers.BatchResult;
+import core.response.answers.Meta;
+import java.io.IOException;
+
+/**
+ * Class with codecs for core models (embedded documents & meta)
+ * @author small-entropy
+ */
+public class CoreCodecs {
+
+    /**
+     * Codec for user right embedded document
+     */
+    public static class EmbeddedRightCodec extends ModelCodec<EmbeddedRight> {
+        @Override
+        protected void writeFields(JsonWriter out, EmbeddedRight value) 
+                throws IOException {
+            writeId(out, "id", value.getPureId());
+            out.name("name").value(value.getName());
+            out.name("create").value(value.getCreate());
+            out.name("read").value(value.getRead());
+            out.name("update").value(value.getUpdate());
+            out.name("delete").value(value.getDelete());
+        }
+    }
+
+    /**
+     * Codec for property embedded document
+     */
+    public static class EmbeddedPropertyCodec extends ModelCodec<EmbeddedProperty> {
+        @Override
+        protected void writeFields(JsonWriter out, EmbeddedProperty value) 
+                throws IOException {
+            writeId(out, "id", value.getPureId());
+            out.name("key").value(value.getKey());
+            writeValue(out, "value", value.getValue());
+        }
+    }
+
+    /**
+     * Codec for owner embedded document
+     */
+    public static class EmbeddedOwnerCodec extends ModelCodec<EmbeddedOwner> {
+        @Override
+        protected void writeFields(JsonWriter out, EmbeddedOwner value) 
+                throws IOException {
+            writeId(out, "id", value.getId());
+            out.name("username").value(value.getUsername());
+            out.name("time").value(value.getTime());
+        }
+    }
+
+    /**
+     * Codec for response meta object
+     */
+    public static class MetaCodec extends ModelCodec<Meta> {
+        @Override
+        protected void writeFields(JsonWriter out, Meta value) 
+                throws IOException {
+            out.name("count").value(value.getCount());
+            out.name("token").value(value.getToken());
+            out.name("next").value(value.getNext());
+            out.name("prev").value(value.getPrev());
+        }
+    }
+
+    /**
+     * Codec for result of batch item
+     */
+    public static class BatchResultCodec extends ModelCodec<BatchResult> {
+        @Override
+        protected void writeFields(JsonWriter out, BatchResult value) 
+                throws IOException {
+            out.name("index").value(value.getIndex());
+            out.name("status").value(value.getStatus());
+            writeId(out, "id", value.getId());
+            out.name("error").value(value.getError());
+        }
+    }
+
+    /**
+     * Method for register core codecs
+     * @param factory codecs factory
+     */
+    public static void register(CodecFactory factory) {
+        factory.register(EmbeddedRight.class, EmbeddedRightCodec::new);
+        factory.register(EmbeddedProperty.class, EmbeddedPropertyCodec::new);
+        factory.register(EmbeddedOwner.class, EmbeddedOwnerCodec::new);
+        factory.register(Meta.class, MetaCodec::new);
+        factory.register(BatchResult.class, BatchResultCodec::new);
+    }
+}
@@ -0,0 +1,239 @@
+package core.response.codecs;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import core.models.morphia.standalones.Standalone;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import org.bson.types.ObjectId;
+
+/**
+ * Abstract class for reflection-free JSON codec of model. Codec writes
+ * fields of model by getters (in same order and with same names as
+ * reflective Gson adapter). Reading delegated to Gson adapter
+ * @author small-entropy
+ * @param <T> type of model
+ */
+public abstract class ModelCodec<T> extends TypeAdapter<T> {
+
+    /** Property with Gson instance (for nested types) */
+    private Gson gson;
+    /** Property with Gson adapter for reading & unknown runtime types */
+    private TypeAdapter<T> delegate;
+    /** Property with adapter for values with unknown type */
+    private TypeAdapter<Object> objectAdapter;
+
+    /**
+     * Method for initialize codec by Gson instance
+     * @param gson Gson instance
+     * @param delegate Gson adapter for model
+     */
+    final void init(Gson gson, TypeAdapter<T> delegate) {
+        this.gson = gson;
+        this.delegate = delegate;
+        this.objectAdapter = gson.getAdapter(Object.class);
+        initAdapters(gson);
+    }
+
+    /**
+     * Method for resolve adapters of nested types
+     * @param gson Gson instance
+     */
+    protected void initAdapters(Gson gson) {}
+
+    /**
+     * Method for write model fields
+     * @param out JSON writer
+     * @param value model object
+     * @throws IOException throw if can not write
+     */
+    protected abstract void writeFields(JsonWriter out, T value) 
+            throws IOException;
+
+    @Override
+    public void write(JsonWriter out, T value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+        } else {
+            out.beginObject();
+            writeFields(out, value);
+            out.endObject();
+        }
+    }
+
+    @Override
+    public T read(JsonReader in) throws IOException {
+        return delegate.read(in);
+    }
+
+    /**
+     * Getter for Gson instance
+     * @return Gson instance
+     */
+    protected Gson getGson() {
+        return gson;
+    }
+
+    /**
+     * Method for write document id field
+     * @param out JSON writer
+     * @param name name of field
+     * @param id value of id
+     * @throws IOException throw if can not write
+     */
+    protected static void writeId(JsonWriter out, String name, ObjectId id) 
+            throws IOException {
+        out.name(name);
+        if (id == null) {
+            out.nullValue();
+        } else {
+            out.value(id.toHexString());
+        }
+    }
+
+    /**
+     * Method for write field with any type (type resolved in runtime)
+     * @param out JSON writer
+     * @param name name of field
+     * @param value value of field
+     * @throws IOException throw if can not write
+     */
+    protected void writeValue(JsonWriter out, String name, Object value) 
+            throws IOException {
+        out.name(name);
+        objectAdapter.write(out, value);
+    }
+
+    /**
+     * Method for write nested object field
+     * @param <E> type of nested object
+     * @param out JSON writer
+     * @param name name of field
+     * @param value nested object
+     * @param adapter adapter for nested object
+     * @throws IOException throw if can not write
+     */
+    protected static <E> void writeObject(
+            JsonWriter out, 
+            String name, 
+            E value, 
+            TypeAdapter<E> adapter
+    ) throws IOException {
+        out.name(name);
+        adapter.write(out, value);
+    }
+
+    /**
+     * Method for write list field
+     * @param <E> type of list element
+     * @param out JSON writer
+     * @param name name of field
+     * @param values list of values
+     * @param adapter adapter for list element
+     * @throws IOException throw if can not write
+     */
+    protected static <E> void writeList(
+            JsonWriter out, 
+            String name, 
+            List<E> values, 
+            TypeAdapter<E> adapter
+    ) throws IOException {
+        out.name(name);
+        if (values == null) {
+            out.nullValue();
+        } else {
+            out.beginArray();
+            for (E value : values) {
+                adapter.write(out, value);
+            }
+            out.endArray();
+        }
+    }
+
+    /**
+     * Method for write list of strings field
+     * @param out JSON writer
+     * @param name name of field
+     * @param values list of strings
+     * @throws IOException throw if can not write
+     */
+    protected static void writeStrings(
+            JsonWriter out, 
+            String name, 
+            List<String> values
+    ) throws IOException {
+        out.name(name);
+        if (values == null) {
+            out.nullValue();
+        } else {
+            out.beginArray();
+            for (String value : values) {
+                out.value(value);
+            }
+            out.endArray();
+        }
+    }
+
+    /**
+     * Method for write list of ids field
+     * @param out JSON writer
+     * @param name name of field
+     * @param values list of ids
+     * @throws IOException throw if can not write
+     */
+    protected static void writeIds(
+            JsonWriter out, 
+            String name, 
+            List<ObjectId> values
+    ) throws IOException {
+        out.name(name);
+        if (values == null) {
+            out.nullValue();
+        } else {
+            out.beginArray();
+            for (ObjectId value : values) {
+                out.value(value.toHexString());
+            }
+            out.endArray();
+        }
+    }
+
+    /**
+     * Method for write map of numbers field
+     * @param out JSON writer
+     * @param name name of field
+     * @param values map of numbers by keys
+     * @throws IOException throw if can not write
+     */
+    protected static void writeNumbers(
+            JsonWriter out, 
+            String name, 
+            Map<String, Long> values
+    ) throws IOException {
+        out.name(name);
+        if (values == null) {
+            out.nullValue();
+        } else {
+            out.beginObject();
+            for (Map.Entry<String, Long> value : values.entrySet()) {
+                out.name(value.getKey()).value(value.getValue());
+            }
+            out.endObject();
+        }
+    }
+
+    /**
+     * Method for write fields of standalone document (id & status)
+     * @param out JSON writer
+     * @param value standalone document
+     * @throws IOException throw if can not write
+     */
+    protected static void writeStandalone(JsonWriter out, Standalone value) 
+            throws IOException {
+        writeId(out, "id", value.getId());
+        out.name("status").value(value.getStatus());
+    }
+}
@@ -1,18 +1,40 @@
 package core.response.transformers;
-import core.response.adapters.ObjectIdTypeAdapter;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import org.bson.types.ObjectId;
+import core.metrics.Histogram;
+import core.metrics.MetricFamily;
+import core.metrics.MetricsRegistry;
+import core.utils.GsonManager;
 import spark.ResponseTransformer;
 
 public class JsonTransformer implements ResponseTransformer {
-    // Create instance GsonBuilder
+    /** Histograms of render durations by type of rendered object */
+    private static final MetricFamily<Histogram> RENDER_TIME = MetricsRegistry.histogram(
+            "serialization_seconds",
+            "Duration of render objects to JSON by object type",
+            "type"
+    );
+
+    // Shared Gson instance
     // Used for work with MongoDB uuid (not tranform to object)
-    private Gson gson = new GsonBuilder().registerTypeAdapter(ObjectId.class, new ObjectIdTypeAdapter()).create();
+    private final Gson gson = GsonManager.getGson();
 
     @Override
     public String render(Object model) {
-        return gson.toJson(model);
+        long start = System.nanoTime();
+        try {
+            return gson.toJson(model);
+        } finally {
+            String type = (model != null) ? model.getClass().getSimpleName() : "null";
+            RENDER_TIME.labels(type).observeSince(start);
+        }
+    }
+
+    /**
+     * Getter for Gson instance used by transformer
+     * @return Gson instance
+     */
+    public Gson getGson() {
+        return gson;
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,114 @@
+package core.utils;
+
+import java.util.List;
+import org.bson.types.ObjectId;
+import spark.Request;
+
+/**
+ * Class for request-scoped authentication context. Context resolved once
+ * per request (in before filter) and saved in request attributes
+ * @author small-entropy
+ */
+public class AuthContext {
+
+    /** Name of request attribute for authentication context */
+    private static final String ATTRIBUTE = "amethyst.authContext";
+
+    /** Property with user token */
+    private final String token;
+    /** Property with user id from token */
+    private final ObjectId userId;
+    /** Property with stringified user id (for compare with params) */
+    private final String stringifiedUserId;
+    /** Property with compiled user rights */
+    private final CompiledRights rights;
+    /** Property with user issued tokens */
+    private final List<String> issuedTokens;
+
+    /**
+     * Default constructor for authentication context
+     * @param token user token
+     * @param userId user id from token
+     * @param rights compiled user rights
+     * @param issuedTokens user issued tokens
+     */
+    public AuthContext(
+            String token,
+            ObjectId userId,
+            CompiledRights rights,
+            List<String> issuedTokens
+    ) {
+        this.token = token;
+        this.userId = userId;
+        this.stringifiedUserId = userId.toString();
+        this.rights = rights;
+        this.issuedTokens = issuedTokens;
+    }
+
+    /**
+     * Method for get authentication context from request
+     * @param request Spark request object
+     * @return authentication context or null if context not resolved
+     */
+    public static AuthContext get(Request request) {
+        return request.attribute(ATTRIBUTE);
+    }
+
+    /**
+     * Method for save authentication context in request
+     * @param request Spark request object
+     * @param context authentication context
+     */
+    public static void set(Request request, AuthContext context) {
+        request.attribute(ATTRIBUTE, context);
+    }
+
+    /**
+     * Method for check trust state by user id from request params
+     * @param idParam user id from request params
+     * @return result of compare
+     */
+    public boolean isTrusted(String idParam) {
+        return idParam != null && idParam.equals(stringifiedUserId);
+    }
+
+    /**
+     * Method for check token in user issued tokens list
+     * @return result of check
+     */
+    public boolean isIssuedToken() {
+        return issuedTokens != null && issuedTokens.contains(token);
+    }
+
+    /**
+     * Getter for user token
+     * @return value of user token
+     */
+    public String getToken() {
+        return token;
+    }
+
+    /**
+     * Getter for user id
+     * @return value of user id
+     */
+    public ObjectId getUserId() {
+        return userId;
+    }
+
+    /**
+     * Getter for compiled user rights
+     * @return compiled user rights
+     */
+    public CompiledRights getRights() {
+        return rights;
+    }
+
+    /**
+     * Getter for user issued tokens
+     * @return list of issued tokens
+     */
+    public List<String> getIssuedTokens() {
+        return issuedTokens;
+    }
+}
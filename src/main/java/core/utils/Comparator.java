@@ -17,10 +17,16 @@ public class Comparator {
      */
     public static boolean id_fromParam_fromToken(Request request) {
         boolean isTrusted;
-        String token = RequestManager.getTokenByRequest(request);
         String idParam = request.params(RequestParams.USER_ID.getName());
-        if (token != null && idParam != null) {
-            DecodedJWT decodedJWT = JsonWebToken.decode(token);
+        // Use resolved authentication context if it exist
+        AuthContext context = AuthContext.get(request);
+        if (context != null) {
+            return context.isTrusted(idParam);
+        }
+        DecodedJWT decodedJWT = (idParam != null)
+                ? RequestManager.getDecodedTokenByRequest(request)
+                : null;
+        if (decodedJWT != null) {
             String decodedId = decodedJWT.getClaim("id").asString();
             isTrusted = idParam.equals(decodedId);
         } else {
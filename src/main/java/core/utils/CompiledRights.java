@@ -0,0 +1,131 @@
+package core.utils;
+
+import core.constants.DefaultActions;
+import core.models.morphia.embeddeds.EmbeddedRight;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Class for user rights compiled to bitmask table. Each rule string
+ * (like "011001") compiled to 6 bits, where bit with index i is set if
+ * char with index i equals '1'. Rules of all actions (create, read,
+ * update, delete) packed to one int value per right name
+ * @author small-entropy
+ */
+public final class CompiledRights {
+
+    /** Value for not exist right */
+    public static final int NOT_EXIST = -1;
+    /** Count of bits for one rule */
+    private static final int RULE_BITS = 6;
+    /** Mask for one rule */
+    private static final int RULE_MASK = (1 << RULE_BITS) - 1;
+    /** Length of rule string */
+    private static final int RULE_LENGTH = 6;
+    /** Char for allowed access in rule string */
+    private static final char ALLOWED = '1';
+    /** Empty rights table */
+    private static final CompiledRights EMPTY = new CompiledRights(Collections.emptyMap());
+
+    /** Table with packed rules by right name */
+    private final Map<String, Integer> table;
+
+    /**
+     * Private constructor for compiled rights table
+     * @param table table with packed rules
+     */
+    private CompiledRights(Map<String, Integer> table) {
+        this.table = table;
+    }
+
+    /**
+     * Method for compile list of user rights to bitmask table
+     * @param rights list of user rights
+     * @return compiled rights table
+     */
+    public static CompiledRights compile(List<EmbeddedRight> rights) {
+        if (rights == null || rights.isEmpty()) {
+            return EMPTY;
+        }
+        Map<String, Integer> table = new HashMap<>(rights.size() * 2);
+        for (EmbeddedRight right : rights) {
+            // First right with name wins (as linear search in list)
+            table.putIfAbsent(right.getName(), pack(right));
+        }
+        return new CompiledRights(table);
+    }
+
+    /**
+     * Method for pack rules of all actions in one value
+     * @param right user right
+     * @return packed rules
+     */
+    private static int pack(EmbeddedRight right) {
+        return (parseRule(right.getCreate()) & RULE_MASK)
+                | (parseRule(right.getRead()) & RULE_MASK) << RULE_BITS
+                | (parseRule(right.getUpdate()) & RULE_MASK) << (RULE_BITS * 2)
+                | (parseRule(right.getDelete()) & RULE_MASK) << (RULE_BITS * 3);
+    }
+
+    /**
+     * Method for parse rule string to bitmask
+     * @param rule rule string
+     * @return rule bitmask (not correct rule string parsed as no access)
+     */
+    public static int parseRule(String rule) {
+        int mask = 0;
+        if (rule != null && rule.length() >= RULE_LENGTH) {
+            for (int i = 0; i < RULE_LENGTH; i++) {
+                if (rule.charAt(i) == ALLOWED) {
+                    mask |= 1 << i;
+                }
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Method for get index of action in packed rules
+     * @param action name of action
+     * @return index of action or -1 if action unknown
+     */
+    private static int getActionIndex(String action) {
+        if (DefaultActions.CREATE.getName().equals(action)) {
+            return 0;
+        } else if (DefaultActions.READ.getName().equals(action)) {
+            return 1;
+        } else if (DefaultActions.UPDATE.getName().equals(action)) {
+            return 2;
+        } else if (DefaultActions.DELETE.getName().equals(action)) {
+            return 3;
+        } else {
+            return -1;
+        }
+    }
+
+    /**
+     * Method for get rule bitmask by right name & action name
+     * @param right name of right
+     * @param action name of action
+     * @return rule bitmask or NOT_EXIST if user hasn't right
+     */
+    public int getRule(String right, String action) {
+        Integer packed = table.get(right);
+        if (packed == null) {
+            return NOT_EXIST;
+        }
+        int index = getActionIndex(action);
+        return (index < 0) ? 0 : (packed >>> (RULE_BITS * index)) & RULE_MASK;
+    }
+
+    /**
+     * Method for check exist right in table
+     * @param right name of right
+     * @return result of check
+     */
+    public boolean hasRight(String right) {
+        return table.containsKey(right);
+    }
+}
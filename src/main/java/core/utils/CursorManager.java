@@ -0,0 +1,39 @@
+package core.utils;
+
+import core.exceptions.DataException;
+import java.util.Base64;
+import org.bson.types.ObjectId;
+
+/**
+ * Class for work with opaque cursors for keyset pagination. Cursor is
+ * URL-safe base64 representation of document id
+ * @author small-entropy
+ */
+public class CursorManager {
+
+    /**
+     * Method for encode document id to cursor
+     * @param id document id
+     * @return cursor string
+     */
+    public static String encode(ObjectId id) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(id.toByteArray());
+    }
+
+    /**
+     * Method for decode cursor to document id
+     * @param cursor cursor string
+     * @return document id
+     * @throws DataException throw if cursor not correct
+     */
+    public static ObjectId decode(String cursor) throws DataException {
+        try {
+            return new ObjectId(Base64.getUrlDecoder().decode(cursor));
+        } catch (IllegalArgumentException exception) {
+            Error error = new Error("Not correct cursor");
+            throw new DataException("NotCorrectCursor", error);
+        }
+    }
+}
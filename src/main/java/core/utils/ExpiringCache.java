@@ -0,0 +1,240 @@
+package core.utils;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Class for bounded concurrent cache with expiration of entries
+ * @author small-entropy
+ * @param <K> type of cache key
+ * @param <V> type of cache value
+ */
+public class ExpiringCache<K, V> {
+
+    /**
+     * Class for cache entry (value with expiration time)
+     * @param <V> type of value
+     */
+    private static final class Entry<V> {
+        /** Cached value */
+        private final V value;
+        /** Time of expiration (in nanoseconds) */
+        private final long expiresAt;
+
+        Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+
+    /** Count of stripes with invalidation counters of keys */
+    private static final int STRIPES = 256;
+
+    /** Property with cache entries */
+    private final ConcurrentHashMap<K, Entry<V>> entries;
+    /** Maximum count of entries in cache */
+    private final int maxSize;
+    /** Count of entries left after eviction (90% of maximum count) */
+    private final int evictTo;
+    /** State of running eviction (only one thread evicts entries) */
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    /** Time to live for entry (in nanoseconds) */
+    private final long ttlNanos;
+    /** Invalidation counters of keys (key mapped to stripe by hash) */
+    private final AtomicLongArray generations = new AtomicLongArray(STRIPES);
+    /** Invalidation counter of all keys */
+    private final AtomicLong epoch = new AtomicLong();
+    /** Counter of cache hits */
+    private final LongAdder hits = new LongAdder();
+    /** Counter of cache misses */
+    private final LongAdder misses = new LongAdder();
+    /** Counter of evicted entries */
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Default constructor for cache
+     * @param maxSize maximum count of entries
+     * @param ttlMillis time to live for entry (in milliseconds)
+     */
+    public ExpiringCache(int maxSize, long ttlMillis) {
+        this.maxSize = maxSize;
+        this.evictTo = maxSize - Math.max(maxSize / 10, 1);
+        this.ttlNanos = ttlMillis * 1_000_000L;
+        this.entries = new ConcurrentHashMap<>(Math.min(maxSize, 1024));
+    }
+
+    /**
+     * Method for get value from cache
+     * @param key cache key
+     * @return cached value or null if value not exist or expired
+     */
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null) {
+            if (!entry.isExpired(System.nanoTime())) {
+                hits.increment();
+                return entry.value;
+            }
+            entries.remove(key, entry);
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Method for get value from cache or load it if value not exist.
+     * Loaded value not cached if key was invalidated while value loading
+     * (value loaded before invalidation can be stale)
+     * @param key cache key
+     * @param loader function for load value (null values not cached)
+     * @return cached or loaded value
+     */
+    public V get(K key, Function<K, V> loader) {
+        V value = get(key);
+        if (value == null) {
+            int stripe = getStripe(key);
+            long epochBefore = epoch.get();
+            long generationBefore = generations.get(stripe);
+            value = loader.apply(key);
+            if (value != null) {
+                Entry<V> loaded = new Entry<>(value, System.nanoTime() + ttlNanos);
+                entries.compute(key, (k, current) ->
+                        (epoch.get() == epochBefore
+                                && generations.get(stripe) == generationBefore)
+                                ? loaded
+                                : current
+                );
+                evictIfOverflowed();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Method for put value to cache with default time to live
+     * @param key cache key
+     * @param value value for cache
+     */
+    public void put(K key, V value) {
+        put(key, value, ttlNanos);
+    }
+
+    /**
+     * Method for put value to cache with custom time to live
+     * @param key cache key
+     * @param value value for cache
+     * @param ttlNanos time to live (in nanoseconds)
+     */
+    public void put(K key, V value, long ttlNanos) {
+        long ttl = Math.min(ttlNanos, this.ttlNanos);
+        entries.put(key, new Entry<>(value, System.nanoTime() + ttl));
+        evictIfOverflowed();
+    }
+
+    /**
+     * Method for remove value from cache. Invalidation counter of key
+     * changed before remove, so value loaded before invalidation will not
+     * be cached
+     * @param key cache key
+     */
+    public void invalidate(K key) {
+        generations.incrementAndGet(getStripe(key));
+        entries.remove(key);
+    }
+
+    /**
+     * Method for remove all values from cache
+     */
+    public void invalidateAll() {
+        epoch.incrementAndGet();
+        entries.clear();
+    }
+
+    /**
+     * Method for get stripe of invalidation counter by key
+     * @param key cache key
+     * @return index of stripe
+     */
+    private static int getStripe(Object key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (STRIPES - 1);
+    }
+
+    /**
+     * Method for run eviction if count of entries more than maximum count
+     */
+    private void evictIfOverflowed() {
+        if (entries.size() > maxSize && evicting.compareAndSet(false, true)) {
+            try {
+                evict();
+            } finally {
+                evicting.set(false);
+            }
+        }
+    }
+
+    /**
+     * Method for evict entries if cache is overflowed. Remove expired
+     * entries first, after it - remove entries in iteration order. Cache
+     * shrinked below maximum count, so full scan of entries runs once per
+     * 10% of maximum count puts (not on each put to full cache)
+     */
+    private void evict() {
+        long now = System.nanoTime();
+        Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getValue().isExpired(now)) {
+                iterator.remove();
+                evictions.increment();
+            }
+        }
+        iterator = entries.entrySet().iterator();
+        while (entries.size() > evictTo && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    /**
+     * Getter for count of entries in cache
+     * @return count of entries
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Getter for count of cache hits
+     * @return count of hits
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Getter for count of cache misses
+     * @return count of misses
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Getter for count of evicted entries
+     * @return count of evictions
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+}
@@ -0,0 +1,84 @@
+package core.utils;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import core.response.adapters.ObjectIdTypeAdapter;
+import core.response.codecs.CodecFactory;
+import core.response.codecs.CoreCodecs;
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import org.bson.types.ObjectId;
+import spark.Request;
+
+/**
+ * Class for work with shared Gson instance. Gson is thread-safe, so one
+ * configured instance (with cached type adapters) used for parse request
+ * bodies & render responses
+ * @author small-entropy
+ */
+public class GsonManager {
+
+    /** Factory of reflection-free codecs for models */
+    private static final CodecFactory CODECS = new CodecFactory();
+
+    static {
+        CoreCodecs.register(CODECS);
+    }
+
+    /** Shared configured Gson instance (registered codecs used first) */
+    private static final Gson GSON = new GsonBuilder()
+            .registerTypeAdapter(ObjectId.class, new ObjectIdTypeAdapter())
+            .registerTypeAdapterFactory(CODECS)
+            .create();
+
+    /**
+     * Getter for shared Gson instance
+     * @return Gson instance
+     */
+    public static Gson getGson() {
+        return GSON;
+    }
+
+    /**
+     * Getter for codecs factory. Codecs must be registered before first
+     * serialization of model
+     * @return codecs factory
+     */
+    public static CodecFactory getCodecFactory() {
+        return CODECS;
+    }
+
+    /**
+     * Method for precompute type adapters for classes (so reflection
+     * not used on first request)
+     * @param classes classes for precompute adapters
+     */
+    public static void warmUp(Class<?>... classes) {
+        for (Class<?> type : classes) {
+            GSON.getAdapter(type);
+        }
+    }
+
+    /**
+     * Method for parse request body to object. Body already buffered by
+     * Spark, so body parsed from buffered bytes (without build string
+     * from body)
+     * @param <T> type of result object
+     * @param request Spark request object
+     * @param type class of result object
+     * @return parsed object
+     */
+    public static <T> T fromRequest(Request request, Class<T> type) {
+        byte[] body = request.bodyAsBytes();
+        if (body == null) {
+            return null;
+        }
+        Reader reader = new InputStreamReader(
+                new ByteArrayInputStream(body),
+                StandardCharsets.UTF_8
+        );
+        return GSON.fromJson(reader, type);
+    }
+}
@@ -4,6 +4,7 @@ import com.auth0.jwt.JWT;
 import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import java.util.Date;
 import org.bson.types.ObjectId;
 
 /**
@@ -19,13 +20,26 @@ public class JsonWebToken {
     private static final String CLAIMS_FIELDS_USERNAME = "username";
     /** Name of auth type */
     private static final String AUTH_ISSUE = "auth0";
+    /** Maximum count of verified tokens in cache */
+    private static final int CACHE_MAX_SIZE = 10000;
+    /** Time to live of verified token in cache (in milliseconds) */
+    private static final long CACHE_TTL = 10 * 60 * 1000L;
+    /** Algorithm for encode/decode token (thread-safe, create once) */
+    private static final Algorithm ALGORITHM = Algorithm.HMAC256(SALT);
+    /** Verifier for tokens (thread-safe, create once) */
+    private static final JWTVerifier VERIFIER = JWT.require(ALGORITHM)
+            .withIssuer(AUTH_ISSUE)
+            .build();
+    /** Cache of verified & decoded tokens */
+    private static final ExpiringCache<String, DecodedJWT> CACHE =
+            new ExpiringCache<>(CACHE_MAX_SIZE, CACHE_TTL);
 
     /**
      * Method for get algorithm for decode/encode token
      * @return algorithm for decode & encode token
      */
     private static Algorithm getAlgorithm() {
-        return Algorithm.HMAC256(SALT);
+        return ALGORITHM;
     }
 
     /**
@@ -46,12 +60,30 @@ public class JsonWebToken {
      * @return verified & decoded token
      */
     public static DecodedJWT decode(String token) {
-        // Create JWTVerifier object
-        JWTVerifier verifier = JWT.require(getAlgorithm())
-                .withIssuer(JsonWebToken.AUTH_ISSUE)
-                .build();
-        // Return result verifier
-        return verifier.verify(token);
+        DecodedJWT decoded = CACHE.get(token);
+        if (decoded == null) {
+            // Verify token only if it not exist in cache
+            decoded = VERIFIER.verify(token);
+            Date expiresAt = decoded.getExpiresAt();
+            if (expiresAt == null) {
+                CACHE.put(token, decoded);
+            } else {
+                // Token with expiration date can not live in cache longer
+                long ttl = expiresAt.getTime() - System.currentTimeMillis();
+                if (ttl > 0) {
+                    CACHE.put(token, decoded, ttl * 1_000_000L);
+                }
+            }
+        }
+        return decoded;
+    }
+
+    /**
+     * Getter for cache of verified tokens
+     * @return cache of verified tokens
+     */
+    public static ExpiringCache<String, DecodedJWT> getCache() {
+        return CACHE;
     }
 
     /**
@@ -61,7 +93,16 @@ public class JsonWebToken {
      */
     public static ObjectId getIdFromToken(String token) {
         DecodedJWT decoded = JsonWebToken.decode(token);
-        String claimId = decoded.getClaim("id").asString();
+        return getIdFromToken(decoded);
+    }
+
+    /**
+     * Method for return user id (as ObjectId) from decoded token
+     * @param decoded verified & decoded token
+     * @return user id
+     */
+    public static ObjectId getIdFromToken(DecodedJWT decoded) {
+        String claimId = decoded.getClaim(CLAIMS_FIELDS_ID).asString();
         return new ObjectId(claimId);
     }
 }
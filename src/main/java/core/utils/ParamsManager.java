@@ -1,6 +1,7 @@
 package core.utils;
 
 import core.exceptions.DataException;
+import core.constants.Currencies;
 import core.constants.RequestParams;
 import org.bson.types.ObjectId;
 import spark.Request;
@@ -117,6 +118,19 @@ public class ParamsManager {
         return getObjectIdFromRequest(request, key, errorMessage);
     }
     
+    /**
+     * Method for get product id from request params
+     * @param request Spark request object
+     * @return product id
+     * @throws DataException throw if param not found in request
+     */
+    public static final ObjectId getProductId(Request request) 
+            throws DataException {
+        String key = RequestParams.PRODUCT_ID.getName();
+        String errorMessage = "Incorrect product id in request";
+        return getObjectIdFromRequest(request, key, errorMessage);
+    }
+    
     /**
      * Method for get company id from request params
      * @param request Spark request object
@@ -129,4 +143,27 @@ public class ParamsManager {
         String errorMessage = "Incorrect company id in request";
         return getObjectIdFromRequest(request, key, errorMessage);
     }
+    
+    /**
+     * Method for get currency from request params
+     * @param request Spark request object
+     * @return founded currency
+     * @throws DataException throw if param not found in request or
+     *                       currency not supported
+     */
+    public static final Currencies getCurrency(Request request) 
+            throws DataException
+    {
+        String value = request.params(RequestParams.CURRENCY.getName());
+        if (value == null) {
+            Error error = new Error("Incorrect currency in request");
+            throw new DataException("NotSendParams", error);
+        }
+        Currencies currency = Currencies.byCode(value);
+        if (currency == null) {
+            Error error = new Error("Not supported currency " + value);
+            throw new DataException("NotCorrectParams", error);
+        }
+        return currency;
+    }
 }
@@ -0,0 +1,61 @@
+package core.utils;
+
+import core.constants.Currencies;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Locale;
+
+/**
+ * Class with methods for work with prices in minor units of currency
+ * @author small-entropy
+ */
+public class PriceManager {
+
+    /** Count of minor unit digits for not supported currencies */
+    private static final int DEFAULT_DIGITS = 2;
+
+    /**
+     * Method for normalize currency code (trimmed & upper case)
+     * @param currency currency code
+     * @return normalized currency code or null if code not set
+     */
+    public static String normalizeCurrency(String currency) {
+        if (currency == null || currency.isBlank()) {
+            return null;
+        }
+        return currency.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Method for get count of minor unit digits of currency
+     * @param currency currency code
+     * @return count of minor unit digits
+     */
+    public static int getDigits(String currency) {
+        Currencies known = Currencies.byCode(currency);
+        return (known != null) ? known.getDigits() : DEFAULT_DIGITS;
+    }
+
+    /**
+     * Method for convert decimal price (like "12.50" or "12,5") to minor
+     * units of currency (rounded half up)
+     * @param value decimal price
+     * @param currency currency code
+     * @return price in minor units
+     * @throws NumberFormatException throw if value not correct number
+     */
+    public static long toMinorUnits(String value, String currency) {
+        if (value == null) {
+            throw new NumberFormatException("Price value not set");
+        }
+        BigDecimal decimal = new BigDecimal(value.trim().replace(',', '.'));
+        try {
+            return decimal
+                    .movePointRight(getDigits(currency))
+                    .setScale(0, RoundingMode.HALF_UP)
+                    .longValueExact();
+        } catch (ArithmeticException exception) {
+            throw new NumberFormatException("Price value too big: " + value);
+        }
+    }
+}
@@ -1,4 +1,11 @@
 package core.utils;
+import core.constants.Currencies;
+import core.constants.QueryParams;
+import core.exceptions.DataException;
+import core.filters.Filter;
+import java.util.ArrayList;
+import java.util.List;
+import org.bson.types.ObjectId;
 import spark.Request;
 
 enum queryKeys {
@@ -51,4 +58,173 @@ public class QueryManager {
                 ? DEFAULT_LIMIT 
                 : Integer.parseInt(fromQuery);
     }
+    
+    /**
+     * Method for get cursor from query by query param
+     * @param request Spark request object
+     * @param param query param with cursor
+     * @return document id from cursor or null if cursor not send
+     * @throws DataException throw if cursor not correct
+     */
+    private static ObjectId getCursor(Request request, QueryParams param) 
+            throws DataException {
+        String fromQuery = request
+                .queryMap()
+                .get(param.getKey())
+                .value();
+        return (fromQuery == null || fromQuery.isEmpty())
+                ? null
+                : CursorManager.decode(fromQuery);
+    }
+    
+    /**
+     * Method for get "after" cursor from query
+     * @param request Spark request object
+     * @return document id from cursor or null if cursor not send
+     * @throws DataException throw if cursor not correct
+     */
+    public static ObjectId getAfter(Request request) throws DataException {
+        return getCursor(request, QueryParams.AFTER);
+    }
+    
+    /**
+     * Method for get "before" cursor from query
+     * @param request Spark request object
+     * @return document id from cursor or null if cursor not send
+     * @throws DataException throw if cursor not correct
+     */
+    public static ObjectId getBefore(Request request) throws DataException {
+        return getCursor(request, QueryParams.BEFORE);
+    }
+    
+    /**
+     * Method for check cursor (keyset) pagination mode. Mode enabled by
+     * "cursor=true" query param or by send "after" / "before" cursor
+     * @param request Spark request object
+     * @return true if cursor mode enabled
+     */
+    public static boolean isCursorMode(Request request) {
+        var queryMap = request.queryMap();
+        return "true".equals(queryMap.get(QueryParams.CURSOR.getKey()).value())
+                || queryMap.get(QueryParams.AFTER.getKey()).value() != null
+                || queryMap.get(QueryParams.BEFORE.getKey()).value() != null;
+    }
+    
+    /**
+     * Method for check streaming response mode (enabled by "stream=true"
+     * query param)
+     * @param request Spark request object
+     * @return true if streaming mode enabled
+     */
+    public static boolean isStreamMode(Request request) {
+        return "true".equals(request
+                .queryMap()
+                .get(QueryParams.STREAM.getKey())
+                .value());
+    }
+    
+    /**
+     * Method for set pagination params (cursors) from query
+     * to filter
+     * @param request Spark request object
+     * @param filter filter object
+     * @throws DataException throw if cursor not correct
+     */
+    public static void setPagination(Request request, Filter filter) 
+            throws DataException {
+        filter.setCursor(isCursorMode(request));
+        filter.setAfter(getAfter(request));
+        filter.setBefore(getBefore(request));
+    }
+    
+    /**
+     * Method for get list of ids from query by query param. Ids can be
+     * sent by repeated param or separated by comma
+     * @param request Spark request object
+     * @param param query param with ids
+     * @return list of ids (empty if param not send)
+     * @throws DataException throw if id not correct
+     */
+    public static List<ObjectId> getObjectIds(Request request, QueryParams param) 
+            throws DataException {
+        List<ObjectId> ids = new ArrayList<>();
+        String[] values = request
+                .queryMap()
+                .get(param.getKey())
+                .values();
+        if (values != null) {
+            for (String value : values) {
+                for (String item : value.split(",")) {
+                    if (item.isEmpty()) {
+                        continue;
+                    }
+                    if (!ObjectId.isValid(item)) {
+                        Error error = new Error("Incorrect id in query param " + param.getKey());
+                        throw new DataException("NotCorrectParams", error);
+                    }
+                    ids.add(new ObjectId(item));
+                }
+            }
+        }
+        return ids;
+    }
+    
+    /**
+     * Method for get integer number from query by query param
+     * @param request Spark request object
+     * @param param query param with number
+     * @return number or null if param not send
+     * @throws DataException throw if number not correct
+     */
+    public static Long getLong(Request request, QueryParams param) 
+            throws DataException {
+        String fromQuery = request
+                .queryMap()
+                .get(param.getKey())
+                .value();
+        if (fromQuery == null || fromQuery.isEmpty()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(fromQuery);
+        } catch (NumberFormatException exception) {
+            Error error = new Error("Incorrect number in query param " + param.getKey());
+            throw new DataException("NotCorrectParams", error);
+        }
+    }
+    
+    /**
+     * Method for get currency from query
+     * @param request Spark request object
+     * @return currency or null if currency not send
+     * @throws DataException throw if currency not supported
+     */
+    public static Currencies getCurrency(Request request) throws DataException {
+        String fromQuery = request
+                .queryMap()
+                .get(QueryParams.CURRENCY.getKey())
+                .value();
+        if (fromQuery == null || fromQuery.isEmpty()) {
+            return null;
+        }
+        Currencies currency = Currencies.byCode(fromQuery);
+        if (currency == null) {
+            Error error = new Error("Not supported currency " + fromQuery);
+            throw new DataException("NotCorrectParams", error);
+        }
+        return currency;
+    }
+    
+    /**
+     * Method for check descending sort order (enabled by "order=desc"
+     * query param)
+     * @param request Spark request object
+     * @return true if descending order
+     */
+    public static boolean isDescending(Request request) {
+        return "desc".equals(request
+                .queryMap()
+                .get(QueryParams.ORDER.getKey())
+                .value());
+    }
 }
@@ -1,12 +1,18 @@
 package core.utils;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import core.utils.QueryManager;
 import core.utils.HeadersManager;
+import org.bson.types.ObjectId;
 import spark.Request;
 
 /**
  * Class for work with Spark Request object
  */
 public class RequestManager {
+
+    /** Name of request attribute for memoized decoded token */
+    private static final String DECODED_TOKEN_ATTRIBUTE = "amethyst.decodedToken";
+
     /**
      * Method for get token from headers or query params
      * @param request Spark request object
@@ -21,4 +27,32 @@ public class RequestManager {
             return null;
         }
     }
+
+    /**
+     * Method for get verified & decoded token from request. Token
+     * verified only once per request, result saved in request attributes
+     * @param request Spark request object
+     * @return decoded token or null if token not send
+     */
+    public static DecodedJWT getDecodedTokenByRequest(Request request) {
+        DecodedJWT decoded = request.attribute(DECODED_TOKEN_ATTRIBUTE);
+        if (decoded == null) {
+            String token = getTokenByRequest(request);
+            if (token != null) {
+                decoded = JsonWebToken.decode(token);
+                request.attribute(DECODED_TOKEN_ATTRIBUTE, decoded);
+            }
+        }
+        return decoded;
+    }
+
+    /**
+     * Method for get user id from request token
+     * @param request Spark request object
+     * @return user id or null if token not send
+     */
+    public static ObjectId getUserIdByRequest(Request request) {
+        DecodedJWT decoded = getDecodedTokenByRequest(request);
+        return (decoded != null) ? JsonWebToken.getIdFromToken(decoded) : null;
+    }
 }
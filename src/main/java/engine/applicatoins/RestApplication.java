@@ -1,8 +1,23 @@
 package engine.applicatoins;
 
+import core.utils.GsonManager;
+import engine.response.codecs.EngineCodecs;
 import core.applications.BaseApplication;
 import engine.middlewares.CORS;
 import engine.middlewares.ResponseTypeJSON;
+import engine.metrics.RouteMetrics;
+
+import core.constants.ThreadModes;
+import engine.server.Readiness;
+import engine.server.VirtualThreadPool;
+import java.util.concurrent.BlockingQueue;
+import org.eclipse.jetty.util.BlockingArrayQueue;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+import org.eclipse.jetty.util.thread.ThreadPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import spark.embeddedserver.EmbeddedServers;
+import spark.embeddedserver.jetty.EmbeddedJettyFactory;
 
 import static spark.Spark.*;
 
@@ -11,10 +26,28 @@ import static spark.Spark.*;
  * @author small-entropy
  */
 public abstract class RestApplication <D, T> extends BaseApplication<D, T> {
+    /** Logger of application */
+    private static final Logger LOGGER = LoggerFactory.getLogger(RestApplication.class);
     private final String origins;
     private final String headers;
     private final String methods;
     private final int port;
+    /** Mode of executing requests */
+    private ThreadModes threadMode = ThreadModes.POOL;
+    /** Maximum count of threads (for pool mode) */
+    private int maxThreads = 200;
+    /** Minimum count of threads (for pool mode) */
+    private int minThreads = 8;
+    /** Idle timeout of thread in milliseconds (for pool mode) */
+    private int threadTimeout = 30000;
+    /** Capacity of requests queue (for pool mode, 0 - unbounded) */
+    private int queueCapacity = 0;
+    /** Path of route with metrics (null - route not registered) */
+    private String metricsPath = null;
+    /** Access token of route with metrics (null - only local requests) */
+    private String metricsToken = null;
+    /** Path of route with readiness state (null - route not registered) */
+    private String readinessPath = null;
 
     /**
      * Default constructor for create REST application
@@ -64,7 +97,132 @@ public abstract class RestApplication <D, T> extends BaseApplication<D, T> {
     }
 
     /**
-     * Method for prepare datastore for use in routes
+     * Setter for thread mode
+     * @param threadMode mode of executing requests
+     */
+    public void setThreadMode(ThreadModes threadMode) {
+        this.threadMode = threadMode;
+    }
+
+    /**
+     * Setter for thread pool limits
+     * @param maxThreads maximum count of threads
+     * @param minThreads minimum count of threads
+     * @param threadTimeout idle timeout of thread in milliseconds
+     */
+    public void setThreadLimits(int maxThreads, int minThreads, int threadTimeout) {
+        this.maxThreads = maxThreads;
+        this.minThreads = minThreads;
+        this.threadTimeout = threadTimeout;
+    }
+
+    /**
+     * Setter for capacity of requests queue
+     * @param queueCapacity capacity of queue (0 - unbounded queue)
+     */
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * Setter for path of route with metrics in Prometheus text format
+     * @param metricsPath path of route (null - route not registered)
+     */
+    public void setMetricsPath(String metricsPath) {
+        this.metricsPath = metricsPath;
+    }
+
+    /**
+     * Getter for path of route with metrics
+     * @return path of route with metrics
+     */
+    public String getMetricsPath() {
+        return metricsPath;
+    }
+
+    /**
+     * Setter for access token of route with metrics (sent by scraper in
+     * header "Authorization: Bearer token")
+     * @param metricsToken access token (null - route available only for
+     *                     requests from local host)
+     */
+    public void setMetricsToken(String metricsToken) {
+        this.metricsToken = metricsToken;
+    }
+
+    /**
+     * Setter for path of route with readiness state
+     * @param readinessPath path of route (null - route not registered)
+     */
+    public void setReadinessPath(String readinessPath) {
+        this.readinessPath = readinessPath;
+    }
+
+    /**
+     * Getter for path of route with readiness state
+     * @return path of route with readiness state
+     */
+    public String getReadinessPath() {
+        return readinessPath;
+    }
+
+    /**
+     * Method for create thread pool of web server by thread mode. If JDK
+     * not support virtual threads - used pool mode
+     * @return thread pool
+     */
+    protected ThreadPool createThreadPool() {
+        if (threadMode == ThreadModes.VIRTUAL) {
+            ThreadPool virtual = VirtualThreadPool.create();
+            if (virtual != null) {
+                return virtual;
+            }
+            LOGGER.warn("Virtual threads not supported by JDK, used thread pool");
+        }
+        BlockingQueue<Runnable> queue = (queueCapacity > 0)
+                ? new BlockingArrayQueue<>(queueCapacity, 0, queueCapacity)
+                : new BlockingArrayQueue<>(minThreads, minThreads);
+        return new QueuedThreadPool(maxThreads, minThreads, threadTimeout, queue);
+    }
+
+    /**
+     * Method for initialize web server thread pool
+     */
+    protected void threadPoolInit() {
+        EmbeddedServers.add(
+                EmbeddedServers.Identifiers.JETTY,
+                new EmbeddedJettyFactory().withThreadPool(createThreadPool())
+        );
+    }
+
+    /**
+     * Method for initialize metrics: record durations of all requests
+     * & register route with metrics (if path of route set)
+     */
+    protected void metricsInit() {
+        RouteMetrics.register();
+        if (metricsPath != null) {
+            RouteMetrics.registerEndpoint(metricsPath, metricsToken);
+        }
+    }
+
+    /**
+     * Method for initialize readiness route (if path of route set)
+     */
+    protected void readinessInit() {
+        if (readinessPath != null) {
+            Readiness.registerEndpoint(readinessPath);
+        }
+    }
+
+    /**
+     * Method for initialize serialization (precompute JSON type adapters)
+     */
+    protected void serializationInit() {}
+
+    /**
+     * Method for prepare datastore for use in routes. Long preparations
+     * (like index build) can be run by Readiness.runInBackground
      */
     protected void datastorePrepare() {}
 
@@ -80,6 +238,12 @@ public abstract class RestApplication <D, T> extends BaseApplication<D, T> {
         CORS.enable(origins, methods, headers);
     }
 
+    /**
+     * Method for initialize resolving of authentication context
+     * (before filter, called once per request)
+     */
+    protected void authContextInit() {}
+
     /**
      * Method for initialize application routes
      */
@@ -95,22 +259,24 @@ public abstract class RestApplication <D, T> extends BaseApplication<D, T> {
 
     @Override
     public final void run() {
-        // Set maximum threads
-        int maxThreads = Runtime.getRuntime().availableProcessors();
-        // Set muinumum
-        int minThreads = 2;
-        // Set thread timeout
-        int timeOutMillis = 30000;
+        // Set options to thread pool
+        threadPoolInit();
         // Set server port
         port(port);
-        // Set options to thread pool
-        threadPool(maxThreads, minThreads, timeOutMillis);
+        EngineCodecs.register(GsonManager.getCodecFactory());
+        serializationInit();
         datastorePrepare();
+        metricsInit();
+        readinessInit();
         corsInit();
+        authContextInit();
         path("/api", () -> routesInit());
         responseTypeInit();
         errorsHandlersInit();
+        // Routes patterns for metrics known only after routes registration
+        RouteMetrics.loadPatterns();
         // Await init all threads
         awaitInitialization();
+        Readiness.markStarted();
     }
 }
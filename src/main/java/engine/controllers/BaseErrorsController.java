@@ -5,6 +5,7 @@ import com.auth0.jwt.exceptions.AlgorithmMismatchException;
 import com.google.gson.Gson;
 import com.mongodb.MongoWriteException;
 import core.constants.HttpErrors;
+import core.utils.GsonManager;
 import spark.Response;
 
 import static spark.Spark.*;
@@ -20,7 +21,7 @@ public class BaseErrorsController {
     public static String RESPONSE_TYPE = "application/json";
 
     /** Instance of GSON object */
-    public static final Gson GSON = new Gson();
+    public static final Gson GSON = GsonManager.getGson();
 
     /**
      * Method for send default error response by status code & exception
@@ -44,7 +44,11 @@ public class ErrorsController extends BaseErrorsController {
                 case "NotFound" -> HttpErrors.NOT_FOUND.getCode();
                 case "CanNotCreate" -> HttpErrors.CONFLICT.getCode();
                 case "CanNotUpdate" -> HttpErrors.BAD_REQUEST.getCode();
+                case "VersionConflict" -> HttpErrors.CONFLICT.getCode();
                 case "NotSendParams" -> HttpErrors.BAD_REQUEST.getCode();
+                case "NotCorrectCursor" -> HttpErrors.BAD_REQUEST.getCode();
+                case "NotCorrectBatch" -> HttpErrors.BAD_REQUEST.getCode();
+                case "NotCorrectParams" -> HttpErrors.BAD_REQUEST.getCode();
                 case "ServerError" -> 
                     HttpErrors.INTERNAL_SERVER_ERROR.getCode();
                 default -> HttpErrors.INTERNAL_SERVER_ERROR.getCode();
@@ -1,61 +1,80 @@
 package engine.dto;
 
 import core.dto.BaseDTO;
+import core.utils.CompiledRights;
 
 /**
- * Class of data transfer object for rule
+ * Class of data transfer object for rule. Rule stored as bitmask
+ * (bit with index i set if char with index i in rule string equals '1')
  */
 public class RuleDTO extends BaseDTO {
-    private final boolean myPublic;
-    private final boolean myPrivate;
-    private final boolean myGlobal;
+    /** Bit for access to own global fields */
+    public static final int MY_GLOBAL = 1;
+    /** Bit for access to own private fields */
+    public static final int MY_PRIVATE = 1 << 1;
+    /** Bit for access to own public fields */
+    public static final int MY_PUBLIC = 1 << 2;
+    /** Bit for access to not own global fields */
+    public static final int OTHER_GLOBAL = 1 << 3;
+    /** Bit for access to not own private fields */
+    public static final int OTHER_PRIVATE = 1 << 4;
+    /** Bit for access to not own public fields */
+    public static final int OTHER_PUBLIC = 1 << 5;
+
+    /** Shared immutable instances for all possible rules */
+    private static final RuleDTO[] RULES = new RuleDTO[64];
+
+    static {
+        for (int mask = 0; mask < RULES.length; mask++) {
+            RULES[mask] = new RuleDTO(mask);
+        }
+    }
 
-    private final boolean otherPublic;
-    private final boolean otherPrivate;
-    private final boolean otherGlobal;
+    private final int mask;
 
     public RuleDTO(String rule) {
-        Character ALLOWED = '1';
-
-        Character own_Public = rule.charAt(2);
-        Character own_Private = rule.charAt(1);
-        Character own_Global = rule.charAt(0);
+        this(CompiledRights.parseRule(rule));
+    }
 
-        Character notOwn_Public = rule.charAt(5);
-        Character notOwn_Private = rule.charAt(4);
-        Character notOwn_Global = rule.charAt(3);
+    private RuleDTO(int mask) {
+        this.mask = mask;
+    }
 
-        this.myPublic = own_Public.equals(ALLOWED);
-        this.myPrivate = own_Private.equals(ALLOWED);
-        this.myGlobal = own_Global.equals(ALLOWED);
+    /**
+     * Method for get shared rule object by bitmask
+     * @param mask rule bitmask
+     * @return rule object or null if rule not exist
+     */
+    public static RuleDTO of(int mask) {
+        return (mask < 0) ? null : RULES[mask & (RULES.length - 1)];
+    }
 
-        this.otherPublic = notOwn_Public.equals(ALLOWED);
-        this.otherPrivate = notOwn_Private.equals(ALLOWED);
-        this.otherGlobal = notOwn_Global.equals(ALLOWED);
+    public int getMask() {
+        return mask;
     }
 
     public boolean isMyPublic() {
-        return myPublic;
+        return (mask & MY_PUBLIC) != 0;
     }
 
     public boolean isMyPrivate() {
-        return myPrivate;
+        return (mask & MY_PRIVATE) != 0;
     }
 
     public boolean isMyGlobal() {
-        return myGlobal;
+        return (mask & MY_GLOBAL) != 0;
     }
 
     public boolean isOtherPublic() {
-        return otherPublic;
+        return (mask & OTHER_PUBLIC) != 0;
     }
 
     public boolean isOtherPrivate() {
-        return otherPrivate;
+        return (mask & OTHER_PRIVATE) != 0;
     }
 
     public boolean isOtherGlobal() {
-        return otherGlobal;
+        return (mask & OTHER_GLOBAL) != 0;
     }
 
     /**
@@ -0,0 +1,322 @@
+package engine.metrics;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+
+import core.metrics.Counter;
+import core.metrics.Histogram;
+import core.metrics.MetricFamily;
+import core.metrics.MetricsRegistry;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonDouble;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Class for listener of MongoDB commands. Listener record duration of
+ * data commands (find, update, insert & etc) by collection & write
+ * commands slower than threshold to slow query log (one JSON per line)
+ * @author small-entropy
+ */
+public class MongoCommandListener implements CommandListener {
+
+    /** Default threshold of slow command (in milliseconds) */
+    public static final long DEFAULT_THRESHOLD = 100;
+
+    /** Logger for slow queries */
+    private static final Logger SLOW_LOGGER = LoggerFactory.getLogger("mongo.slow-query");
+    /** Placeholder for values in filter shape */
+    private static final BsonString PLACEHOLDER = new BsonString("?");
+    /** Names of tracked data commands */
+    private static final Set<String> COMMANDS = Set.of(
+            "find",
+            "getMore",
+            "aggregate",
+            "count",
+            "distinct",
+            "findAndModify",
+            "insert",
+            "update",
+            "delete"
+    );
+    /** Logical operators with list of conditions */
+    private static final Set<String> LOGICAL_OPERATORS = Set.of("$and", "$or", "$nor");
+
+    /** Histograms of commands durations */
+    private static final MetricFamily<Histogram> COMMANDS_TIME = MetricsRegistry.histogram(
+            "mongo_command_seconds",
+            "Duration of MongoDB commands by command & collection",
+            "command",
+            "collection",
+            "status"
+    );
+    /** Counters of slow commands */
+    private static final MetricFamily<Counter> SLOW_COMMANDS = MetricsRegistry.counter(
+            "mongo_slow_commands_total",
+            "Count of MongoDB commands slower than threshold",
+            "command",
+            "collection"
+    );
+
+    /** Threshold of slow command (in nanoseconds) */
+    private final long threshold;
+    /** Started commands by request id */
+    private final Map<Integer, Started> started = new ConcurrentHashMap<>();
+
+    /**
+     * Class for information about started command (command document is
+     * valid only in listener callback, so all needed data copied)
+     */
+    private static final class Started {
+        private final String database;
+        private final String command;
+        private final String collection;
+        private final BsonDocument filter;
+        private final int projection;
+
+        private Started(
+                String database,
+                String command,
+                String collection,
+                BsonDocument filter,
+                int projection
+        ) {
+            this.database = database;
+            this.command = command;
+            this.collection = collection;
+            this.filter = filter;
+            this.projection = projection;
+        }
+    }
+
+    /**
+     * Constructor for listener
+     * @param thresholdMillis threshold of slow command (in milliseconds)
+     */
+    public MongoCommandListener(long thresholdMillis) {
+        this.threshold = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        String command = event.getCommandName();
+        if (!COMMANDS.contains(command)) {
+            return;
+        }
+        BsonDocument document = event.getCommand();
+        started.put(event.getRequestId(), new Started(
+                event.getDatabaseName(),
+                command,
+                getCollection(command, document),
+                getFilterShape(command, document),
+                getProjectionSize(command, document)
+        ));
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        Started command = started.remove(event.getRequestId());
+        if (command != null) {
+            record(
+                    command,
+                    event.getElapsedTime(TimeUnit.NANOSECONDS),
+                    getReturned(command.command, event.getResponse()),
+                    null
+            );
+        }
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        Started command = started.remove(event.getRequestId());
+        if (command != null) {
+            record(
+                    command,
+                    event.getElapsedTime(TimeUnit.NANOSECONDS),
+                    0,
+                    event.getThrowable()
+            );
+        }
+    }
+
+    /**
+     * Method for record command duration & write slow command to log
+     * @param command started command
+     * @param elapsed command duration (in nanoseconds)
+     * @param returned count of returned (or changed) documents
+     * @param error command error (null for success command)
+     */
+    private void record(
+            Started command,
+            long elapsed,
+            long returned,
+            Throwable error
+    ) {
+        COMMANDS_TIME.labels(
+                command.command,
+                command.collection,
+                (error == null) ? "success" : "failed"
+        ).observe(elapsed);
+        if (elapsed >= threshold) {
+            SLOW_COMMANDS.labels(command.command, command.collection).inc();
+            BsonDocument entry = new BsonDocument()
+                    .append("database", new BsonString(command.database))
+                    .append("collection", new BsonString(command.collection))
+                    .append("command", new BsonString(command.command))
+                    .append("filter", command.filter)
+                    .append("projection", new BsonInt32(command.projection))
+                    .append("returned", new BsonInt64(returned))
+                    .append("elapsedMs", new BsonDouble(elapsed / 1e6));
+            if (error != null) {
+                entry.append("error", new BsonString(String.valueOf(error.getMessage())));
+            }
+            SLOW_LOGGER.warn(entry.toJson());
+        }
+    }
+
+    /**
+     * Method for get collection name from command document
+     * @param command command name
+     * @param document command document
+     * @return collection name
+     */
+    private static String getCollection(String command, BsonDocument document) {
+        BsonValue value = "getMore".equals(command)
+                ? document.get("collection")
+                : document.get(command);
+        return (value != null && value.isString()) ? value.asString().getValue() : "unknown";
+    }
+
+    /**
+     * Method for get shape of command filter (values replaced by "?")
+     * @param command command name
+     * @param document command document
+     * @return filter shape
+     */
+    private static BsonDocument getFilterShape(String command, BsonDocument document) {
+        BsonValue filter = switch (command) {
+            case "find" -> document.get("filter");
+            case "count", "distinct", "findAndModify" -> document.get("query");
+            case "update" -> getFirstItemField(document, "updates", "q");
+            case "delete" -> getFirstItemField(document, "deletes", "q");
+            case "aggregate" -> getFirstItemField(document, "pipeline", "$match");
+            default -> null;
+        };
+        return (filter != null && filter.isDocument())
+                ? shape(filter.asDocument())
+                : new BsonDocument();
+    }
+
+    /**
+     * Method for get field of first document in array field
+     * @param document command document
+     * @param arrayField name of array field
+     * @param field name of field in first document
+     * @return field value or null
+     */
+    private static BsonValue getFirstItemField(
+            BsonDocument document,
+            String arrayField,
+            String field
+    ) {
+        BsonValue items = document.get(arrayField);
+        if (items == null || !items.isArray() || items.asArray().isEmpty()) {
+            return null;
+        }
+        BsonValue first = items.asArray().get(0);
+        return first.isDocument() ? first.asDocument().get(field) : null;
+    }
+
+    /**
+     * Method for replace values of filter by placeholders (field names &
+     * operators are kept)
+     * @param filter filter document
+     * @return filter shape
+     */
+    private static BsonDocument shape(BsonDocument filter) {
+        BsonDocument result = new BsonDocument();
+        for (Map.Entry<String, BsonValue> entry : filter.entrySet()) {
+            String key = entry.getKey();
+            BsonValue value = entry.getValue();
+            if (LOGICAL_OPERATORS.contains(key) && value.isArray()) {
+                BsonArray conditions = new BsonArray();
+                for (BsonValue condition : value.asArray()) {
+                    conditions.add(condition.isDocument()
+                            ? shape(condition.asDocument())
+                            : PLACEHOLDER);
+                }
+                result.append(key, conditions);
+            } else if (value.isDocument()) {
+                result.append(key, shape(value.asDocument()));
+            } else {
+                result.append(key, PLACEHOLDER);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Method for get count of fields in command projection
+     * @param command command name
+     * @param document command document
+     * @return count of fields (0 - all fields returned)
+     */
+    private static int getProjectionSize(String command, BsonDocument document) {
+        BsonValue projection = switch (command) {
+            case "find" -> document.get("projection");
+            case "findAndModify" -> document.get("fields");
+            default -> null;
+        };
+        return (projection != null && projection.isDocument())
+                ? projection.asDocument().size()
+                : 0;
+    }
+
+    /**
+     * Method for get count of returned (or changed) documents
+     * @param command command name
+     * @param response command response
+     * @return count of documents
+     */
+    private static long getReturned(String command, BsonDocument response) {
+        if (response == null) {
+            return 0;
+        }
+        switch (command) {
+            case "find", "getMore", "aggregate" -> {
+                BsonValue cursor = response.get("cursor");
+                if (cursor != null && cursor.isDocument()) {
+                    BsonValue batch = cursor.asDocument().containsKey("firstBatch")
+                            ? cursor.asDocument().get("firstBatch")
+                            : cursor.asDocument().get("nextBatch");
+                    return (batch != null && batch.isArray()) ? batch.asArray().size() : 0;
+                }
+                return 0;
+            }
+            case "findAndModify" -> {
+                BsonValue value = response.get("value");
+                return (value != null && !value.isNull()) ? 1 : 0;
+            }
+            case "distinct" -> {
+                BsonValue values = response.get("values");
+                return (values != null && values.isArray()) ? values.asArray().size() : 0;
+            }
+            default -> {
+                BsonValue count = response.get("n");
+                return (count != null && count.isNumber()) ? count.asNumber().longValue() : 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package engine.metrics;
+
+import core.constants.HttpErrors;
+import core.metrics.Histogram;
+import core.metrics.MetricFamily;
+import core.metrics.MetricsRegistry;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import spark.Request;
+import spark.Response;
+import spark.route.HttpMethod;
+import spark.routematch.RouteMatch;
+
+import static spark.Spark.afterAfter;
+import static spark.Spark.before;
+import static spark.Spark.get;
+import static spark.Spark.halt;
+import static spark.Spark.routes;
+
+/**
+ * Class for record latency of requests by route pattern (like
+ * /api/v1/users/:user_id/properties), method & status code
+ * @author small-entropy
+ */
+public class RouteMetrics {
+
+    /** Name of request attribute with request start time */
+    private static final String START_ATTRIBUTE = "metrics.start";
+    /** Route label for requests not matched by any route */
+    private static final String UNMATCHED = "unmatched";
+    /** Param segment prefix in route pattern */
+    private static final String PARAM_PREFIX = ":";
+    /** Wildcard segment in route pattern */
+    private static final String WILDCARD = "*";
+    /** Method label for requests with not standard HTTP methods */
+    private static final String OTHER_METHOD = "other";
+    /** Standard HTTP methods (used as method label) */
+    private static final Set<String> METHODS = Set.of(
+            "GET", "POST", "PUT", "PATCH", "DELETE", "HEAD", "OPTIONS"
+    );
+    /** Prefix of authorization header value with token */
+    private static final String BEARER = "Bearer ";
+
+    /** Histograms of requests durations */
+    private static final MetricFamily<Histogram> REQUESTS = MetricsRegistry.histogram(
+            "http_server_requests_seconds",
+            "Duration of HTTP requests by route pattern",
+            "method",
+            "route",
+            "status"
+    );
+
+    /** Route patterns by HTTP method (in order of registration) */
+    private static volatile Map<String, List<Pattern>> patterns;
+
+    /**
+     * Class for route pattern split by segments
+     */
+    private static final class Pattern {
+        private final String path;
+        private final String[] segments;
+
+        private Pattern(String path) {
+            this.path = path;
+            this.segments = split(path);
+        }
+
+        /**
+         * Method for check request path segments by pattern
+         * @param request request path segments
+         * @return result of check
+         */
+        private boolean matches(String[] request) {
+            for (int i = 0; i < segments.length; i++) {
+                String segment = segments[i];
+                if (WILDCARD.equals(segment)) {
+                    return true;
+                }
+                if (i >= request.length) {
+                    return false;
+                }
+                if (!segment.startsWith(PARAM_PREFIX) && !segment.equals(request[i])) {
+                    return false;
+                }
+            }
+            return segments.length == request.length;
+        }
+    }
+
+    /**
+     * Method for register filters for record requests durations
+     */
+    public static void register() {
+        before((request, response) -> {
+            request.attribute(START_ATTRIBUTE, System.nanoTime());
+        });
+        afterAfter(RouteMetrics::record);
+    }
+
+    /**
+     * Method for register route with metrics in Prometheus text format.
+     * If token set - route require header "Authorization: Bearer token",
+     * else route available only from local host
+     * @param path path of metrics route
+     * @param token access token of route (can be null)
+     */
+    public static void registerEndpoint(String path, String token) {
+        get(path, (request, response) -> {
+            if (!isAllowed(request, token)) {
+                halt(
+                        HttpErrors.UNAUTHORIZED.getCode(), 
+                        HttpErrors.UNAUTHORIZED.getMessage()
+                );
+            }
+            response.type(MetricsRegistry.CONTENT_TYPE);
+            return MetricsRegistry.scrape();
+        });
+    }
+
+    /**
+     * Method for check access to metrics route
+     * @param request Spark request object
+     * @param token access token of route (can be null)
+     * @return true if request has access
+     */
+    private static boolean isAllowed(Request request, String token) {
+        if (token != null) {
+            String header = request.headers("Authorization");
+            return header != null
+                    && header.startsWith(BEARER)
+                    && MessageDigest.isEqual(
+                            header.substring(BEARER.length())
+                                    .getBytes(StandardCharsets.UTF_8),
+                            token.getBytes(StandardCharsets.UTF_8)
+                    );
+        }
+        try {
+            return InetAddress.getByName(request.ip()).isLoopbackAddress();
+        } catch (UnknownHostException exception) {
+            return false;
+        }
+    }
+
+    /**
+     * Method for record request duration
+     * @param request Spark request object
+     * @param response Spark response object
+     */
+    private static void record(Request request, Response response) {
+        Object start = request.attribute(START_ATTRIBUTE);
+        if (start instanceof Long) {
+            String method = request.requestMethod();
+            REQUESTS.labels(
+                    (METHODS.contains(method)) ? method : OTHER_METHOD,
+                    resolve(method, request.uri()),
+                    String.valueOf(response.raw().getStatus())
+            ).observeSince((Long) start);
+        }
+    }
+
+    /**
+     * Method for resolve route pattern by request method & path. First
+     * matched pattern wins (as in routes matching)
+     * @param method HTTP method
+     * @param path request path
+     * @return route pattern or "unmatched"
+     */
+    static String resolve(String method, String path) {
+        List<Pattern> candidates = getPatterns().get(method.toLowerCase());
+        if (candidates != null && path != null) {
+            String[] segments = split(path);
+            for (Pattern pattern : candidates) {
+                if (pattern.matches(segments)) {
+                    return pattern.path;
+                }
+            }
+        }
+        return UNMATCHED;
+    }
+
+    /**
+     * Method for get route patterns (loaded on first use if not loaded
+     * after routes registration)
+     * @return route patterns by HTTP method
+     */
+    private static Map<String, List<Pattern>> getPatterns() {
+        if (patterns == null) {
+            loadPatterns();
+        }
+        return patterns;
+    }
+
+    /**
+     * Method for load route patterns from registered routes. Must be
+     * called after all routes registered
+     */
+    public static void loadPatterns() {
+        Map<String, List<Pattern>> loaded = new HashMap<>();
+        for (RouteMatch route : routes()) {
+            HttpMethod method = route.getHttpMethod();
+            if (method == HttpMethod.before
+                    || method == HttpMethod.after
+                    || method == HttpMethod.afterafter) {
+                continue;
+            }
+            loaded.computeIfAbsent(method.name(), key -> new ArrayList<>())
+                    .add(new Pattern(route.getMatchUri()));
+        }
+        patterns = loaded;
+    }
+
+    /**
+     * Method for split path by segments (without empty segments)
+     * @param path path
+     * @return path segments
+     */
+    private static String[] split(String path) {
+        List<String> segments = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i <= path.length(); i++) {
+            if (i == path.length() || path.charAt(i) == '/') {
+                if (i > start) {
+                    segments.add(path.substring(start, i));
+                }
+                start = i + 1;
+            }
+        }
+        return segments.toArray(new String[0]);
+    }
+}
@@ -11,9 +11,11 @@ public class ResponseTypeJSON {
      * Method for call after all api methods calls
      */
     public static void afterCall() {
-        // Callback for call after methods
+        // Callback for call after methods (route can set own type)
         after("/*", (req, res) -> {
-            res.type("application/json");
+            if (res.type() == null) {
+                res.type("application/json");
+            }
         });
     }
 }
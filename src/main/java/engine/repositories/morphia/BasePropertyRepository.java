@@ -1,8 +1,12 @@
 package engine.repositories.morphia;
 
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Updates;
+import org.bson.conversions.Bson;
 import org.bson.types.ObjectId;
 
-import java.util.Iterator;
+import java.util.ArrayList;
 import java.util.List;
 
 import core.exceptions.DataException;
@@ -114,7 +118,9 @@ public class BasePropertyRepository<M extends Standalone, F extends Filter, R> {
 	}
 	
 	/**
-	 * Method for create embedded property in field
+	 * Method for create embedded property in field. Property pushed to
+	 * list by one atomic operation (only if list hasn't property with
+	 * same key)
 	 * @param entityId entity/document id
 	 * @param propertyDTO property data transfer object
 	 * @return created property
@@ -124,25 +130,32 @@ public class BasePropertyRepository<M extends Standalone, F extends Filter, R> {
 			ObjectId entityId,
 			PropertyDTO propertyDTO
 	) throws DataException {
-		M entity = getEntity(entityId);
-		boolean hasProperty = hasProperty(propertyDTO.getKey(), entity);
-		if (!hasProperty) {
-			EmbeddedProperty property = new EmbeddedProperty(
-					propertyDTO.getKey(),
-					propertyDTO.getValue()
-			);
-			List<EmbeddedProperty> properties = getPropertiesFromEntity(entity);
-			properties.add(property);
-			save(entity);
+		EmbeddedProperty property = new EmbeddedProperty(
+				propertyDTO.getKey(),
+				propertyDTO.getValue()
+		);
+		M entity = modifyEntity(
+				Filters.and(
+						getEntityFilter(entityId),
+						Filters.ne(field + ".key", propertyDTO.getKey())
+				),
+				Updates.push(field, property),
+				propertyDTO.getVersion()
+		);
+		if (entity != null) {
 			return property;
 		} else {
+			// Check document exist for correct error
+			getEntity(entityId);
 			Error error = new Error("Can not create property");
 			throw new DataException("CanNotCreate", error);
 		}
 	}
 	
 	/**
-	 * Method for remove property from document properties list
+	 * Method for remove property from document properties list. Property
+	 * pulled from list by one atomic operation (properties from blacklist
+	 * can not be removed)
 	 * @param propertyId property id
 	 * @param entityId entity id
 	 * @return updated properties list
@@ -152,40 +165,102 @@ public class BasePropertyRepository<M extends Standalone, F extends Filter, R> {
 			ObjectId propertyId,
 			ObjectId entityId
 	) throws DataException {
-		M entity = getEntity(entityId);
-		List<EmbeddedProperty> properties = getPropertiesFromEntity(entity);
-		Iterator<EmbeddedProperty> iterator = properties.iterator();
-		String toCheck = propertyId.toString();
-		while(iterator.hasNext()) {
-			EmbeddedProperty property = iterator.next();
-			if (property.getId().equals(toCheck) &&
-					!getBlacklist().contains(property.getKey())) {
-				iterator.remove();
-			}
+		Bson condition = (getBlacklist() != null && !getBlacklist().isEmpty())
+				? Filters.and(
+						Filters.eq("id", propertyId),
+						Filters.nin("key", getBlacklist())
+				)
+				: Filters.eq("id", propertyId);
+		M entity = modifyEntity(
+				getEntityFilter(entityId),
+				Updates.pull(field, condition),
+				null
+		);
+		if (entity != null) {
+			List<EmbeddedProperty> properties = getPropertiesFromEntity(entity);
+			return (properties != null) ? properties : new ArrayList<>();
+		} else {
+			Error error = new Error("Can not find document by id");
+			throw new DataException("NotFound", error);
 		}
-		save(entity);
-		return getPropertiesFromEntity(entity);
 	}
 	
 	/**
-	 * Method for update property
+	 * Method for update property. Value of property set by one atomic
+	 * operation (by positional operator)
 	 * @param propertyId property id
 	 * @param entityId entity id
 	 * @param propertyDTO property data transfer object
 	 * @return updated property
-	 * @throws DataException
+	 * @throws DataException throw if can not find document or property
 	 */
 	public EmbeddedProperty updateProperty(
 			ObjectId propertyId,
 			ObjectId entityId,
 			PropertyDTO propertyDTO
 	) throws DataException {
-		M entity = getEntity(entityId);
-		List<EmbeddedProperty> properties = getPropertiesFromEntity(entity);
-		EmbeddedProperty property = Searcher.getPropertyByIdFromList(propertyId, properties);
-		property.setValue(propertyDTO.getValue());
-		save(entity);
-		return property;
+		M entity = modifyEntity(
+				Filters.and(
+						getEntityFilter(entityId),
+						Filters.eq(field + ".id", propertyId)
+				),
+				Updates.set(field + ".$.value", propertyDTO.getValue()),
+				propertyDTO.getVersion()
+		);
+		List<EmbeddedProperty> properties = (entity != null)
+				? getPropertiesFromEntity(entity)
+				: null;
+		EmbeddedProperty property = Searcher.getPropertyByIdFromList(
+				propertyId, 
+				properties
+		);
+		if (property != null) {
+			return property;
+		} else {
+			Error error = new Error("Can't find property");
+			throw new DataException("NotFound", error);
+		}
+	}
+	
+	/**
+	 * Method for create query filter for active document by id
+	 * @param entityId entity id
+	 * @return query filter
+	 */
+	protected Bson getEntityFilter(ObjectId entityId) {
+		return Filters.and(
+				Filters.eq(MorphiaRepository.ID_FIELD, entityId),
+				Filters.eq(MorphiaRepository.STATUS_FIELD, MorphiaRepository.ACTIVE)
+		);
+	}
+	
+	/**
+	 * Method for atomic update of document (version of document 
+	 * incremented). Returned document contains only properties field
+	 * @param filter query filter
+	 * @param update update operation
+	 * @param expected expected version of document (null - not checked)
+	 * @return updated document or null if document not found
+	 * @throws DataException throw if document has other version
+	 */
+	@SuppressWarnings("unchecked")
+	protected M modifyEntity(Bson filter, Bson update, Long expected) 
+			throws DataException {
+		MorphiaRepository<M, ?, ?> morphiaRepository = 
+				(MorphiaRepository<M, ?, ?>) repository;
+		String version = morphiaRepository.getVersionField();
+		Bson operation = (version != null)
+				? Updates.combine(update, Updates.inc(version, 1L))
+				: update;
+		M entity = morphiaRepository.modifyOne(
+				morphiaRepository.getVersionFilter(filter, expected), 
+				operation, 
+				Projections.include(field)
+		);
+		if (entity == null) {
+			morphiaRepository.checkVersionConflict(filter, expected);
+		}
+		return entity;
 	}
 	
 	/**
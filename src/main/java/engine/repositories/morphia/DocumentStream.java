@@ -0,0 +1,83 @@
+package engine.repositories.morphia;
+
+import com.mongodb.client.MongoCursor;
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Class for stream of documents backed by database cursor. Documents
+ * not stored in memory - stream can be iterated only once (for write
+ * documents to response). Stream must be closed after use
+ * @author small-entropy
+ * @param <M> model type
+ */
+public class DocumentStream<M> implements Iterable<M>, Closeable {
+
+    /** Property with documents iterator */
+    private final Iterator<M> documents;
+    /** Property with database cursor (null for documents from memory) */
+    private final MongoCursor<M> cursor;
+    /** Property with state of consumed stream */
+    private boolean consumed = false;
+
+    /**
+     * Constructor for stream by database cursor
+     * @param cursor database cursor
+     */
+    public DocumentStream(MongoCursor<M> cursor) {
+        this.documents = cursor;
+        this.cursor = cursor;
+    }
+
+    /**
+     * Constructor for stream by list of loaded documents
+     * @param documents list of documents
+     */
+    private DocumentStream(List<M> documents) {
+        this.documents = documents.iterator();
+        this.cursor = null;
+    }
+
+    /**
+     * Method for create stream by list of loaded documents (for lists which
+     * can not be streamed from database cursor)
+     * @param <M> model type
+     * @param documents list of documents
+     * @return stream of documents
+     */
+    public static <M> DocumentStream<M> of(List<M> documents) {
+        return new DocumentStream<>(documents);
+    }
+
+    /**
+     * Method for get iterator by documents. Iterator can be got only once
+     * @return documents iterator
+     */
+    @Override
+    public Iterator<M> iterator() {
+        if (consumed) {
+            throw new IllegalStateException("Document stream already consumed");
+        }
+        consumed = true;
+        return documents;
+    }
+
+    /**
+     * Method for check stream on empty (not consume documents)
+     * @return true if stream hasn't documents
+     */
+    public boolean isEmpty() {
+        return !documents.hasNext();
+    }
+
+    /**
+     * Method for close database cursor
+     */
+    @Override
+    public void close() {
+        if (cursor != null) {
+            cursor.close();
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package engine.repositories.morphia;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Field;
+import dev.morphia.annotations.Index;
+import dev.morphia.annotations.Indexes;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.utils.IndexType;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Class for compare indexes declared in models with query shapes of
+ * repositories. Query shape covered by index if index starts with all
+ * equality fields (in any order) followed by sort field, or if index is
+ * unique & contains only equality fields
+ * @author small-entropy
+ */
+public class IndexAdvisor {
+
+    /** Logger of index advisor */
+    private static final Logger LOGGER = LoggerFactory.getLogger(IndexAdvisor.class);
+    /** Name of document id field */
+    private static final String ID_FIELD = "_id";
+    /** Name of document id field in Morphia models */
+    private static final String MODEL_ID_FIELD = "id";
+
+    /** Query shapes by model class */
+    private final Map<Class<?>, List<QueryShape>> shapes = new LinkedHashMap<>();
+
+    /**
+     * Class for declared index (fields in index order & unique state)
+     */
+    private static final class DeclaredIndex {
+        private final List<String> fields;
+        private final boolean unique;
+
+        private DeclaredIndex(List<String> fields, boolean unique) {
+            this.fields = fields;
+            this.unique = unique;
+        }
+
+        @Override
+        public String toString() {
+            return fields + (unique ? " unique" : "");
+        }
+    }
+
+    /**
+     * Method for register query shapes of model collection
+     * @param model model class
+     * @param queryShapes query shapes
+     * @return index advisor
+     */
+    public IndexAdvisor expect(Class<?> model, List<QueryShape> queryShapes) {
+        shapes.computeIfAbsent(model, key -> new ArrayList<>()).addAll(queryShapes);
+        return this;
+    }
+
+    /**
+     * Method for check query shapes by declared indexes. Gaps written to
+     * log as warnings
+     * @return descriptions of query shapes not covered by indexes
+     */
+    public List<String> check() {
+        List<String> gaps = new ArrayList<>();
+        for (Map.Entry<Class<?>, List<QueryShape>> entry : shapes.entrySet()) {
+            Class<?> model = entry.getKey();
+            List<DeclaredIndex> indexes = getIndexes(model);
+            for (QueryShape shape : entry.getValue()) {
+                if (!isCovered(shape, indexes)) {
+                    String gap = getCollectionName(model) + ": " + shape
+                            + " not covered by indexes " + indexes;
+                    LOGGER.warn("Missing index for query {}", gap);
+                    gaps.add(gap);
+                }
+            }
+        }
+        if (gaps.isEmpty()) {
+            LOGGER.info("All registered query shapes covered by indexes");
+        }
+        return gaps;
+    }
+
+    /**
+     * Method for check query shape by indexes
+     * @param shape query shape
+     * @param indexes declared indexes
+     * @return result of check
+     */
+    private static boolean isCovered(QueryShape shape, List<DeclaredIndex> indexes) {
+        Set<String> fields = shape.getFields();
+        // Lookup by id always use default index
+        if (fields.contains(ID_FIELD)) {
+            return true;
+        }
+        for (DeclaredIndex index : indexes) {
+            if (index.unique && fields.containsAll(index.fields)) {
+                return true;
+            }
+            if (index.fields.size() < fields.size()) {
+                continue;
+            }
+            Set<String> prefix = new HashSet<>(index.fields.subList(0, fields.size()));
+            if (!prefix.equals(fields)) {
+                continue;
+            }
+            String sort = shape.getSort();
+            if (sort == null
+                    || (index.fields.size() > fields.size()
+                        && sort.equals(index.fields.get(fields.size())))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Method for get indexes declared in model annotations
+     * @param model model class
+     * @return declared indexes
+     */
+    private static List<DeclaredIndex> getIndexes(Class<?> model) {
+        List<DeclaredIndex> indexes = new ArrayList<>();
+        for (Class<?> type = model; type != null; type = type.getSuperclass()) {
+            Indexes annotation = type.getAnnotation(Indexes.class);
+            if (annotation == null) {
+                continue;
+            }
+            for (Index index : annotation.value()) {
+                List<String> fields = new ArrayList<>();
+                for (Field field : index.fields()) {
+                    // Text indexes can not be used for equality
+                    if (field.type() == IndexType.TEXT) {
+                        fields.clear();
+                        break;
+                    }
+                    fields.add(MODEL_ID_FIELD.equals(field.value()) ? ID_FIELD : field.value());
+                }
+                if (!fields.isEmpty()) {
+                    indexes.add(new DeclaredIndex(fields, index.options().unique()));
+                }
+            }
+        }
+        return indexes;
+    }
+
+    /**
+     * Method for get collection name of model
+     * @param model model class
+     * @return collection name
+     */
+    private static String getCollectionName(Class<?> model) {
+        Entity entity = model.getAnnotation(Entity.class);
+        return (entity != null && !entity.value().equals(Mapper.IGNORED_FIELDNAME))
+                ? entity.value()
+                : model.getSimpleName();
+    }
+}
@@ -1,15 +1,45 @@
 package engine.repositories.morphia;
 
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.CountOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.ReturnDocument;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+import core.dto.BaseDTO;
 import core.exceptions.DataException;
 import core.repositories.BaseRepository;
 import core.filters.Filter;
+import core.metrics.Histogram;
+import core.metrics.MetricFamily;
+import core.metrics.MetricsRegistry;
+import core.response.answers.BatchResult;
 import dev.morphia.Datastore;
-import dev.morphia.query.FindOptions;
+import dev.morphia.InsertManyOptions;
+import dev.morphia.mapping.codec.pojo.FieldModel;
 import core.models.morphia.standalones.Standalone;
+import org.bson.Document;
+import org.bson.conversions.Bson;
 
-import static dev.morphia.query.experimental.filters.Filters.and;
-import static dev.morphia.query.experimental.filters.Filters.eq;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.bson.types.ObjectId;
 
 /**
@@ -22,6 +52,38 @@ import org.bson.types.ObjectId;
 public class MorphiaRepository<M extends Standalone, F extends Filter, D> 
         extends BaseRepository<Datastore, M, ObjectId, F, D> {
     
+    /** Name of document id field (used as cursor key) */
+    protected static final String ID_FIELD = "_id";
+    /** Name of document status field */
+    protected static final String STATUS_FIELD = "status";
+    /** Name of document owner id field */
+    protected static final String OWNER_FIELD = "owner.id";
+    /** Status of active document */
+    protected static final String ACTIVE = "active";
+    /** Status of inactive document */
+    protected static final String INACTIVE = "inactive";
+    /** Size of cursor batch for streaming mode */
+    protected static final int STREAM_BATCH_SIZE = 256;
+    /** Histograms of repository operations durations */
+    private static final MetricFamily<Histogram> OPERATIONS_TIME = MetricsRegistry.histogram(
+            "repository_operation_seconds",
+            "Duration of repository operations by repository & operation",
+            "repository",
+            "operation"
+    );
+    /** Shapes of queries issued by repository (for index advisor) */
+    public static final List<QueryShape> QUERY_SHAPES = List.of(
+            new QueryShape("findAll", ID_FIELD, STATUS_FIELD),
+            new QueryShape("findAllByOwnerId", ID_FIELD, STATUS_FIELD, OWNER_FIELD),
+            new QueryShape("findOneByName", null, STATUS_FIELD, "name"),
+            new QueryShape("findOneById", null, STATUS_FIELD, ID_FIELD),
+            new QueryShape("findOneByOwnerAndId", null, STATUS_FIELD, ID_FIELD, OWNER_FIELD)
+    );
+    /** Name of repository (for metrics) */
+    private final String name;
+    /** Precomputed projections by exclude fields arrays (by identity) */
+    private final Map<String[], Bson> projections = new ConcurrentHashMap<>();
+    
     /**
      * Constructor for Morphia datastore source object
      * @param datastore Morphia datastore object
@@ -29,6 +91,133 @@ public class MorphiaRepository<M extends Standalone, F extends Filter, D>
      */
     public MorphiaRepository(Datastore datastore, Class<M> modelClass) {
         super(datastore, modelClass);
+        this.name = getClass().getSimpleName();
+    }
+    
+    /**
+     * Method for record duration of repository operation
+     * @param operation name of operation
+     * @param start start time of operation (System.nanoTime value)
+     */
+    protected void observe(String operation, long start) {
+        OPERATIONS_TIME.labels(name, operation).observeSince(start);
+    }
+    
+    /**
+     * Method for precompute projections by exclude fields (for example -
+     * for all access levels of service). Projection of filter with same
+     * exclude fields array used without build on each query
+     * @param excludes arrays of exclude fields
+     */
+    public void prepareProjections(String[]... excludes) {
+        for (String[] fields : excludes) {
+            if (fields != null && fields.length > 0) {
+                projections.put(fields, buildExcludes(fields));
+            }
+        }
+    }
+    
+    /**
+     * Method for build exclude projection by fields
+     * @param fields exclude fields
+     * @return projection or null if all fields must be returned
+     */
+    private static Bson buildExcludes(String[] fields) {
+        return (fields.length > 0) ? Projections.exclude(fields) : null;
+    }
+    
+    /**
+     * Method for find documents by query filter with projection by
+     * filter object
+     * @param filter filter object
+     * @param query query filter
+     * @return find iterable
+     */
+    protected FindIterable<M> find(F filter, Bson query) {
+        return getCollection()
+                .find(query)
+                .projection(getProjection(filter));
+    }
+    
+    /**
+     * Method for get list of documents by query filters with pagination
+     * from filter object. In cursor mode documents sorted by id and skip
+     * value ignored
+     * @param filter filter object
+     * @param filters query filters
+     * @return list of founded documents (always in ascending id order for
+     *         cursor mode)
+     */
+    protected List<M> findList(F filter, Bson... filters) {
+        long start = System.nanoTime();
+        List<M> documents = getListQuery(filter, filters)
+                .into(new ArrayList<>());
+        observe("findList", start);
+        if (isBackward(filter)) {
+            Collections.reverse(documents);
+        }
+        return documents;
+    }
+    
+    /**
+     * Method for get stream of documents by query filters with pagination
+     * from filter object. Documents read from database cursor by batches
+     * (backward page of cursor mode loaded to memory, because it must be
+     * reversed)
+     * @param filter filter object
+     * @param filters query filters
+     * @return stream of founded documents
+     */
+    protected DocumentStream<M> streamList(F filter, Bson... filters) {
+        if (isBackward(filter)) {
+            return DocumentStream.of(findList(filter, filters));
+        }
+        long start = System.nanoTime();
+        MongoCursor<M> cursor = getListQuery(filter, filters)
+                .batchSize(STREAM_BATCH_SIZE)
+                .iterator();
+        observe("streamList", start);
+        return new DocumentStream<>(cursor);
+    }
+    
+    /**
+     * Method for check backward page of cursor mode (page before cursor)
+     * @param filter filter object
+     * @return true if page is backward
+     */
+    private boolean isBackward(F filter) {
+        return filter.isCursorMode()
+                && filter.getBefore() != null 
+                && filter.getAfter() == null;
+    }
+    
+    /**
+     * Method for create query of list by query filters & pagination from
+     * filter (cursors conditions added to query filters)
+     * @param filter filter object
+     * @param filters query filters
+     * @return find iterable of list
+     */
+    private FindIterable<M> getListQuery(F filter, Bson... filters) {
+        List<Bson> conditions = new ArrayList<>(Arrays.asList(filters));
+        if (filter.isCursorMode()) {
+            if (filter.getAfter() != null) {
+                conditions.add(Filters.gt(ID_FIELD, filter.getAfter()));
+            }
+            if (filter.getBefore() != null) {
+                conditions.add(Filters.lt(ID_FIELD, filter.getBefore()));
+            }
+        }
+        FindIterable<M> query = find(filter, Filters.and(conditions))
+                .limit(filter.getLimit());
+        if (filter.isCursorMode()) {
+            query.sort((isBackward(filter)) 
+                    ? Sorts.descending(ID_FIELD) 
+                    : Sorts.ascending(ID_FIELD));
+        } else {
+            query.skip(filter.getSkip());
+        }
+        return query;
     }
     
     /**
@@ -37,20 +226,24 @@ public class MorphiaRepository<M extends Standalone, F extends Filter, D>
      * @return list of founded documents
      */
     public List<M> findAllByOwnerId(F filter) {
-        FindOptions findOptions = new FindOptions()
-                .projection()
-                .exclude(filter.getExcludes())
-                .skip(filter.getSkip())
-                .limit(filter.getLimit());
-        return getStore()
-                .find(getModelClass())
-                .filter(and(
-                        eq("status", filter.getStatus()),
-                        eq("owner.id", filter.getOwner())
-                ))
-                .iterator(findOptions)
-                .toList();
-                
+        return findList(
+                filter,
+                Filters.eq(STATUS_FIELD, filter.getStatus()),
+                Filters.eq(OWNER_FIELD, filter.getOwner())
+        );
+    }
+    
+    /**
+     * Method for get stream of all documents by owner id
+     * @param filter filter object
+     * @return stream of founded documents
+     */
+    public DocumentStream<M> streamAllByOwnerId(F filter) {
+        return streamList(
+                filter,
+                Filters.eq(STATUS_FIELD, filter.getStatus()),
+                Filters.eq(OWNER_FIELD, filter.getOwner())
+        );
     }
     
     /**
@@ -59,18 +252,15 @@ public class MorphiaRepository<M extends Standalone, F extends Filter, D>
      * @return fodunded document
      */
     public M findOneByOwnerAndId(F filter) {
-        FindOptions findOptions = new FindOptions()
-                .projection()
-                .exclude(filter.getExcludes());
-        return getStore()
-                .find(getModelClass())
-                .filter(and(
-                        eq("status", filter.getStatus()),
-                        eq("id", filter.getId()),
-                        eq("owner.id", filter.getOwner())
+        long start = System.nanoTime();
+        M document = find(filter, Filters.and(
+                        Filters.eq(STATUS_FIELD, filter.getStatus()),
+                        Filters.eq(ID_FIELD, filter.getId()),
+                        Filters.eq(OWNER_FIELD, filter.getOwner())
                 ))
-                .first(findOptions);
-                
+                .first();
+        observe("findOneByOwnerAndId", start);
+        return document;
     }
     
     /**
@@ -79,16 +269,14 @@ public class MorphiaRepository<M extends Standalone, F extends Filter, D>
      * @return founded document
      */
     public M findOneByName(F filter) {
-        FindOptions findOptions = new FindOptions()
-                .projection()
-                .exclude(filter.getExcludes());
-        return getStore()
-                .find(getModelClass())
-                .filter(and(
-                        eq("status", filter.getStatus()),
-                        eq("name", filter.getName())
+        long start = System.nanoTime();
+        M document = find(filter, Filters.and(
+                        Filters.eq(STATUS_FIELD, filter.getStatus()),
+                        Filters.eq("name", filter.getName())
                 ))
-                .first(findOptions);
+                .first();
+        observe("findOneByName", start);
+        return document;
     }
     
     /**
@@ -98,18 +286,16 @@ public class MorphiaRepository<M extends Standalone, F extends Filter, D>
      */
     @Override
     public List<M> findAll(F filter) {
-        // Craete find options by filter data
-        FindOptions findOptions = new FindOptions()
-                .projection()
-                .exclude(filter.getExcludes())
-                .skip(filter.getSkip())
-                .limit(filter.getLimit());
-        // Find in datastore by filter options & return list
-        return getStore()
-                .find(getModelClass())
-                .filter(eq("status", filter.getStatus()))
-                .iterator(findOptions)
-                .toList();
+        return findList(filter, Filters.eq(STATUS_FIELD, filter.getStatus()));
+    }
+    
+    /**
+     * Method for get stream of entities by filters
+     * @param filter filter object
+     * @return stream of founded entities
+     */
+    public DocumentStream<M> streamAll(F filter) {
+        return streamList(filter, Filters.eq(STATUS_FIELD, filter.getStatus()));
     }
     
     /**
@@ -118,26 +304,380 @@ public class MorphiaRepository<M extends Standalone, F extends Filter, D>
      * @return 
      */
     public M findOneById(F filter) {
-        FindOptions findOptions = new FindOptions()
-                .projection()
-                .exclude(filter.getExcludes());
-        return getStore()
-                .find(getModelClass())
-                .filter(and(
-                        eq("status", filter.getStatus()),
-                        eq("id", filter.getId())
+        long start = System.nanoTime();
+        M document = find(filter, Filters.and(
+                        Filters.eq(STATUS_FIELD, filter.getStatus()),
+                        Filters.eq(ID_FIELD, filter.getId())
                 ))
-                .first(findOptions);
+                .first();
+        observe("findOneById", start);
+        return document;
     }
     
     /**
-     * Template for method create entity in collection
+     * Template for method build document (without saving) by data
+     * transfer object
+     * @param dto entity data transfer object
+     * @return document object or null if document can not be built
+     */
+    protected M build(D dto) {
+        return null;
+    }
+    
+    /**
+     * Method create entity in collection
      * @param dto entity data transfer object
      * @return created document
      */
     @Override
     public M create(D dto) {
-        return null;
+        M document = build(dto);
+        if (document != null) {
+            save(document);
+        }
+        return document;
+    }
+    
+    /**
+     * Template for method get changed fields by data transfer object
+     * (field name - new field value)
+     * @param dto data transfer object
+     * @return changed fields
+     */
+    protected Map<String, Object> getUpdates(D dto) {
+        return Collections.emptyMap();
+    }
+    
+    /**
+     * Method for get collection of documents
+     * @return collection of documents
+     */
+    protected MongoCollection<M> getCollection() {
+        return getStore().getMapper().getCollection(getModelClass());
+    }
+    
+    /**
+     * Method for get mapped name of version field
+     * @return name of version field or null if model not versioned
+     */
+    protected String getVersionField() {
+        FieldModel field = getStore()
+                .getMapper()
+                .getEntityModel(getModelClass())
+                .getVersionField();
+        return (field != null) ? field.getMappedName() : null;
+    }
+    
+    /**
+     * Method for create update operation by changed fields. Version of
+     * document incremented (if model versioned)
+     * @param updates changed fields
+     * @return update operation
+     */
+    protected Bson getUpdate(Map<String, Object> updates) {
+        List<Bson> operations = new ArrayList<>(updates.size() + 1);
+        updates.forEach((field, value) -> operations.add(Updates.set(field, value)));
+        String version = getVersionField();
+        if (version != null) {
+            operations.add(Updates.inc(version, 1L));
+        }
+        return Updates.combine(operations);
+    }
+    
+    /**
+     * Method for get expected version of document from data transfer
+     * object (optimistic locking)
+     * @param dto data transfer object
+     * @return expected version or null if version not sent
+     */
+    protected static Long getExpectedVersion(Object dto) {
+        return (dto instanceof BaseDTO) ? ((BaseDTO) dto).getVersion() : null;
+    }
+    
+    /**
+     * Method for add expected version of document to query filter (for
+     * optimistic locking)
+     * @param filter query filter
+     * @param expected expected version (null - version not checked)
+     * @return query filter
+     */
+    protected Bson getVersionFilter(Bson filter, Long expected) {
+        String version = getVersionField();
+        return (expected != null && version != null)
+                ? Filters.and(filter, Filters.eq(version, expected))
+                : filter;
+    }
+    
+    /**
+     * Method for check conflict of versions after not applied update. If
+     * document found by filter without version - document changed by
+     * another request after client read it
+     * @param filter query filter (without version)
+     * @param expected expected version (null - version not checked)
+     * @throws DataException throw if document has other version
+     */
+    protected void checkVersionConflict(Bson filter, Long expected) 
+            throws DataException 
+    {
+        if (expected != null 
+                && getVersionField() != null
+                && getCollection().countDocuments(
+                        filter, 
+                        new CountOptions().limit(1)
+                ) > 0) {
+            Error error = new Error("Document changed by another request");
+            throw new DataException("VersionConflict", error);
+        }
+    }
+    
+    /**
+     * Method for get versions of exist active owner documents by ids
+     * @param ownerId owner id
+     * @param ids documents ids
+     * @return versions by ids of exist documents (version can be null)
+     */
+    protected Map<ObjectId, Long> findExistVersions(
+            ObjectId ownerId, 
+            List<ObjectId> ids
+    ) {
+        Set<ObjectId> unique = new LinkedHashSet<>(ids);
+        unique.remove(null);
+        Map<ObjectId, Long> exist = new HashMap<>();
+        String version = getVersionField();
+        if (!unique.isEmpty()) {
+            Bson projection = (version != null)
+                    ? Projections.include(ID_FIELD, version)
+                    : Projections.include(ID_FIELD);
+            getCollection()
+                    .withDocumentClass(Document.class)
+                    .find(Filters.and(
+                            Filters.in(ID_FIELD, unique),
+                            Filters.eq(OWNER_FIELD, ownerId),
+                            Filters.eq(STATUS_FIELD, ACTIVE)
+                    ))
+                    .projection(projection)
+                    .forEach(document -> {
+                        Object value = (version != null) 
+                                ? document.get(version) 
+                                : null;
+                        exist.put(
+                                document.getObjectId(ID_FIELD),
+                                (value instanceof Number) 
+                                        ? ((Number) value).longValue() 
+                                        : null
+                        );
+                    });
+        }
+        return exist;
+    }
+    
+    /**
+     * Method for create filter for active owner document by id
+     * @param id document id
+     * @param ownerId owner id
+     * @return filter
+     */
+    protected Bson getOwnerFilter(ObjectId id, ObjectId ownerId) {
+        return Filters.and(
+                Filters.eq(ID_FIELD, id),
+                Filters.eq(OWNER_FIELD, ownerId),
+                Filters.eq(STATUS_FIELD, ACTIVE)
+        );
+    }
+    
+    /**
+     * Method for find ids of exist active owner documents by list of ids
+     * @param ownerId owner id
+     * @param ids list of documents ids
+     * @return set of exist ids
+     */
+    protected Set<ObjectId> findExistIds(ObjectId ownerId, List<ObjectId> ids) {
+        Set<ObjectId> unique = new LinkedHashSet<>(ids);
+        unique.remove(null);
+        Set<ObjectId> exist = new HashSet<>();
+        if (!unique.isEmpty()) {
+            getCollection()
+                    .withDocumentClass(Document.class)
+                    .find(Filters.and(
+                            Filters.in(ID_FIELD, unique),
+                            Filters.eq(OWNER_FIELD, ownerId),
+                            Filters.eq(STATUS_FIELD, ACTIVE)
+                    ))
+                    .projection(Projections.include(ID_FIELD))
+                    .forEach(document -> exist.add(document.getObjectId(ID_FIELD)));
+        }
+        return exist;
+    }
+    
+    /**
+     * Method for get write errors messages by index of write operation
+     * @param exception bulk write exception
+     * @return errors messages by index
+     */
+    private static Map<Integer, String> getWriteErrors(
+            MongoBulkWriteException exception
+    ) {
+        Map<Integer, String> errors = new HashMap<>();
+        for (BulkWriteError error : exception.getWriteErrors()) {
+            errors.put(error.getIndex(), error.getMessage());
+        }
+        return errors;
+    }
+    
+    /**
+     * Method for create results of batch by write operations indexes
+     * @param results array of results
+     * @param indexes indexes of items in batch by write operation index
+     * @param ids documents ids by write operation index
+     * @param errors write errors by write operation index
+     */
+    private static void fillResults(
+            BatchResult[] results,
+            List<Integer> indexes,
+            List<ObjectId> ids,
+            Map<Integer, String> errors
+    ) {
+        for (int i = 0; i < indexes.size(); i++) {
+            int index = indexes.get(i);
+            results[index] = (errors.containsKey(i))
+                    ? BatchResult.failed(index, ids.get(i), errors.get(i))
+                    : BatchResult.success(index, ids.get(i));
+        }
+    }
+    
+    /**
+     * Method for create documents by list of data transfer objects. All
+     * built documents inserted by one not ordered bulk write. References
+     * of data transfer objects (owner, catalog, etc.) must be checked by
+     * service before create, empty batch items failed
+     * @param dtos list of data transfer objects
+     * @return results of create by items
+     */
+    public List<BatchResult> createMany(List<D> dtos) {
+        BatchResult[] results = new BatchResult[dtos.size()];
+        List<M> documents = new ArrayList<>(dtos.size());
+        List<Integer> indexes = new ArrayList<>(dtos.size());
+        List<ObjectId> ids = new ArrayList<>(dtos.size());
+        for (int i = 0; i < dtos.size(); i++) {
+            D dto = dtos.get(i);
+            M document = (dto != null) ? build(dto) : null;
+            if (document != null) {
+                if (document.getId() == null) {
+                    document.setId(new ObjectId());
+                }
+                documents.add(document);
+                indexes.add(i);
+                ids.add(document.getId());
+            } else {
+                results[i] = BatchResult.failed(i, null, "Not correct document data");
+            }
+        }
+        Map<Integer, String> errors = Collections.emptyMap();
+        long start = System.nanoTime();
+        if (!documents.isEmpty()) {
+            try {
+                getStore().insert(documents, new InsertManyOptions().ordered(false));
+            } catch (MongoBulkWriteException exception) {
+                errors = getWriteErrors(exception);
+            }
+        }
+        observe("createMany", start);
+        fillResults(results, indexes, ids, errors);
+        return Arrays.asList(results);
+    }
+    
+    /**
+     * Method for update owner documents by list of data transfer objects.
+     * Exist documents checked by one query, changes written by one not
+     * ordered bulk write (without load & rewrite full documents)
+     * @param ownerId owner id
+     * @param ids documents ids (by data transfer objects indexes)
+     * @param dtos list of data transfer objects
+     * @return results of update by items
+     */
+    public List<BatchResult> updateMany(
+            ObjectId ownerId, 
+            List<ObjectId> ids, 
+            List<D> dtos
+    ) {
+        BatchResult[] results = new BatchResult[dtos.size()];
+        long start = System.nanoTime();
+        Map<ObjectId, Long> exist = findExistVersions(ownerId, ids);
+        List<WriteModel<M>> writes = new ArrayList<>(dtos.size());
+        List<Integer> indexes = new ArrayList<>(dtos.size());
+        List<ObjectId> updated = new ArrayList<>(dtos.size());
+        for (int i = 0; i < dtos.size(); i++) {
+            ObjectId id = ids.get(i);
+            Long expected = getExpectedVersion(dtos.get(i));
+            if (id == null) {
+                results[i] = BatchResult.failed(i, null, "Document id is required");
+            } else if (!exist.containsKey(id)) {
+                results[i] = BatchResult.failed(i, id, "Can not find document");
+            } else if (expected != null 
+                    && getVersionField() != null
+                    && !expected.equals(exist.get(id))) {
+                results[i] = BatchResult.failed(i, id, "Document changed by another request");
+            } else {
+                Map<String, Object> updates = getUpdates(dtos.get(i));
+                if (updates.isEmpty()) {
+                    results[i] = BatchResult.failed(i, id, "Nothing to update");
+                } else {
+                    writes.add(new UpdateOneModel<>(
+                            getVersionFilter(getOwnerFilter(id, ownerId), expected),
+                            getUpdate(updates)
+                    ));
+                    indexes.add(i);
+                    updated.add(id);
+                }
+            }
+        }
+        Map<Integer, String> errors = Collections.emptyMap();
+        if (!writes.isEmpty()) {
+            try {
+                getCollection().bulkWrite(
+                        writes, 
+                        new BulkWriteOptions().ordered(false)
+                );
+            } catch (MongoBulkWriteException exception) {
+                errors = getWriteErrors(exception);
+            }
+        }
+        observe("updateMany", start);
+        fillResults(results, indexes, updated, errors);
+        return Arrays.asList(results);
+    }
+    
+    /**
+     * Method for deactivate owner documents by list of ids. Exist 
+     * documents checked by one query & deactivated by one update
+     * @param ownerId owner id
+     * @param ids list of documents ids
+     * @return results of deactivate by items
+     */
+    public List<BatchResult> deactivateMany(ObjectId ownerId, List<ObjectId> ids) {
+        BatchResult[] results = new BatchResult[ids.size()];
+        long start = System.nanoTime();
+        Set<ObjectId> exist = findExistIds(ownerId, ids);
+        if (!exist.isEmpty()) {
+            Map<String, Object> updates = new HashMap<>();
+            updates.put(STATUS_FIELD, INACTIVE);
+            getCollection().updateMany(
+                    Filters.and(
+                            Filters.in(ID_FIELD, exist),
+                            Filters.eq(OWNER_FIELD, ownerId),
+                            Filters.eq(STATUS_FIELD, ACTIVE)
+                    ),
+                    getUpdate(updates)
+            );
+        }
+        observe("deactivateMany", start);
+        for (int i = 0; i < ids.size(); i++) {
+            ObjectId id = ids.get(i);
+            results[i] = (id != null && exist.contains(id))
+                    ? BatchResult.success(i, id)
+                    : BatchResult.failed(i, id, "Can not find document");
+        }
+        return Arrays.asList(results);
     }
     
     /**
@@ -146,44 +686,93 @@ public class MorphiaRepository<M extends Standalone, F extends Filter, D>
      */
     @Override
     public void save(M data) {
+        long start = System.nanoTime();
         getStore().save(data);
+        observe("save", start);
     }
     
     /**
-     * Update handler method, call before save document
-     * @param dto data transfer object
-     * @param document document object
-     * @return result of update
+     * Method for create projection by filter (include fields if filter
+     * has include fields, else - exclude fields). Precomputed projection
+     * used for prepared exclude fields
+     * @param filter filter object
+     * @return projection or null if all fields must be returned
      */
-    protected boolean updateHandler(D dto, M document) {
-        return false;
+    protected Bson getProjection(F filter) {
+        if (filter.hasIncludes()) {
+            return Projections.include(filter.getIncludes());
+        }
+        String[] excludes = filter.getExcludes();
+        if (excludes == null) {
+            return null;
+        }
+        Bson projection = projections.get(excludes);
+        return (projection != null) ? projection : buildExcludes(excludes);
     }
     
     /**
-     * Method for update document
+     * Method for atomic update first document by filter. Update applied on
+     * database side (without load & rewrite full document)
+     * @param filter query filter
+     * @param update update operation
+     * @param projection projection of returned document (can be null)
+     * @return document after update or null if document not found
+     */
+    protected M modifyOne(Bson filter, Bson update, Bson projection) {
+        FindOneAndUpdateOptions options = new FindOneAndUpdateOptions()
+                .returnDocument(ReturnDocument.AFTER)
+                .projection(projection);
+        long start = System.nanoTime();
+        M document = getCollection().findOneAndUpdate(filter, update, options);
+        observe("modifyOne", start);
+        return document;
+    }
+    
+    /**
+     * Method for update document. Changed fields set by one atomic
+     * operation, version of document incremented. If data transfer object
+     * has version - document updated only with same version
      * @param dto data transfer obejct
      * @param filter filter object
-     * @return saved document
-     * @throws DataException throw if can not find document or can not update
-     *                       document
+     * @return updated document
+     * @throws DataException throw if can not find document, can not update
+     *                       document or document has other version
      */
     public final M update(D dto, F filter) throws DataException {
-        M document = findOneByOwnerAndId(filter);
+        Map<String, Object> updates = getUpdates(dto);
+        if (updates.isEmpty()) {
+            Error error = new Error("Nothing to update");
+            throw new DataException("CanNotUpdate", error);
+        }
+        Long expected = getExpectedVersion(dto);
+        M document = modifyOne(
+                getVersionFilter(getFilter(filter), expected), 
+                getUpdate(updates), 
+                getProjection(filter)
+        );
         if (document != null) {
-            boolean changed = updateHandler(dto, document);
-            if (changed) {
-                save(document);
-                return document;
-            } else {
-                Error error = new Error("Nothing to update");
-                throw new DataException("CanNotUpdate", error);
-            }
+            return document;
         } else {
+            checkVersionConflict(getFilter(filter), expected);
             Error error = new Error("Can not find document");
             throw new DataException("NotFound", error);
         }
     }
     
+    /**
+     * Method for create query filter for document by id, owner id & status
+     * from filter object
+     * @param filter filter object
+     * @return query filter
+     */
+    private Bson getFilter(F filter) {
+        return Filters.and(
+                Filters.eq(ID_FIELD, filter.getId()),
+                Filters.eq(OWNER_FIELD, filter.getOwner()),
+                Filters.eq(STATUS_FIELD, filter.getStatus())
+        );
+    }
+    
     /**
      * Private method for change status field
      * @param filter filter object
@@ -194,20 +783,24 @@ public class MorphiaRepository<M extends Standalone, F extends Filter, D>
     private M changeActivate(F filter, String action) 
             throws DataException 
     {
-        M document = findOneByOwnerAndId(filter);
+        Map<String, Object> updates = new HashMap<>();
+        switch (action) {
+            case "activate":
+                updates.put(STATUS_FIELD, ACTIVE);
+                break;
+            case "deactivate":
+                updates.put(STATUS_FIELD, INACTIVE);
+                break;
+            default:
+                Error error = new Error("Not correct action");
+                throw new DataException("ServerError", error);
+        }
+        M document = modifyOne(
+                getFilter(filter), 
+                getUpdate(updates), 
+                getProjection(filter)
+        );
         if (document != null) {
-            switch (action) {
-                case "activate":
-                    document.activate();
-                    break;
-                case "deactivate":
-                    document.deactivate();
-                    break;
-                default:
-                    Error error = new Error("Not correct action");
-                    throw new DataException("ServerError", error);
-            }
-            save(document);
             return document;
         } else {
             Error error = new Error("Can not find document");
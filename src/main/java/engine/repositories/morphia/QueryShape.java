@@ -0,0 +1,52 @@
+package engine.repositories.morphia;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Class for shape of repository query (fields compared by equality &
+ * sort field). Used by index advisor for check declared indexes
+ * @author small-entropy
+ */
+public final class QueryShape {
+
+    /** Name of repository operation */
+    private final String operation;
+    /** Fields compared by equality */
+    private final Set<String> fields;
+    /** Sort field (null - query without sort) */
+    private final String sort;
+
+    /**
+     * Constructor for query shape
+     * @param operation name of repository operation
+     * @param sort sort field (null - query without sort)
+     * @param fields fields compared by equality
+     */
+    public QueryShape(String operation, String sort, String... fields) {
+        this.operation = operation;
+        this.sort = sort;
+        this.fields = Collections.unmodifiableSet(
+                new LinkedHashSet<>(Arrays.asList(fields))
+        );
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public Set<String> getFields() {
+        return fields;
+    }
+
+    public String getSort() {
+        return sort;
+    }
+
+    @Override
+    public String toString() {
+        return operation + " " + fields + ((sort != null) ? " sort " + sort : "");
+    }
+}
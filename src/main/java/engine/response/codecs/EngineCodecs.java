@@ -0,0 +1,56 @@
+package engine.response.codecs;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonWriter;
+import core.response.answers.BaseAnswer;
+import core.response.answers.Meta;
+import core.response.codecs.CodecFactory;
+import core.response.codecs.ModelCodec;
+import engine.response.answer.Answer;
+import engine.response.answer.Failed;
+import engine.response.answer.Success;
+import java.io.IOException;
+
+/**
+ * Class with codecs for response answers
+ * @author small-entropy
+ */
+public class EngineCodecs {
+
+    /**
+     * Codec for response answers. Data of answer written by runtime type
+     * @param <A> type of answer
+     */
+    public static class AnswerCodec<A extends BaseAnswer> extends ModelCodec<A> {
+
+        /** Property with adapter for meta object */
+        private TypeAdapter<Meta> metaAdapter;
+
+        @Override
+        protected void initAdapters(Gson gson) {
+            metaAdapter = gson.getAdapter(Meta.class);
+        }
+
+        @Override
+        protected void writeFields(JsonWriter out, A value) throws IOException {
+            if (value instanceof Answer) {
+                writeValue(out, "data", ((Answer<?>) value).getData());
+            }
+            out.name("status").value(value.getStatus());
+            out.name("message").value(value.getMessage());
+            writeObject(out, "meta", value.getMeta(), metaAdapter);
+        }
+    }
+
+    /**
+     * Method for register answers codecs
+     * @param factory codecs factory
+     */
+    @SuppressWarnings("rawtypes")
+    public static void register(CodecFactory factory) {
+        factory.register(Success.class, AnswerCodec<Success>::new);
+        factory.register(Answer.class, AnswerCodec<Answer>::new);
+        factory.register(Failed.class, AnswerCodec<Failed>::new);
+    }
+}
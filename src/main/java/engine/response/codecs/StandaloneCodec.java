@@ -0,0 +1,80 @@
+package engine.response.codecs;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonWriter;
+import core.models.morphia.embeddeds.EmbeddedOwner;
+import core.models.morphia.embeddeds.EmbeddedProperty;
+import core.models.morphia.standalones.Standalone;
+import core.response.codecs.ModelCodec;
+import engine.models.morphia.simple.Document;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Abstract class for codecs of standalone documents. Contains methods for
+ * write fields of base document classes
+ * @author small-entropy
+ * @param <T> type of document
+ */
+public abstract class StandaloneCodec<T extends Standalone> extends ModelCodec<T> {
+
+    /** Property with adapter for owner embedded document */
+    private TypeAdapter<EmbeddedOwner> ownerAdapter;
+    /** Property with adapter for property embedded document */
+    private TypeAdapter<EmbeddedProperty> propertyAdapter;
+
+    @Override
+    protected void initAdapters(Gson gson) {
+        ownerAdapter = gson.getAdapter(EmbeddedOwner.class);
+        propertyAdapter = gson.getAdapter(EmbeddedProperty.class);
+    }
+
+    /**
+     * Method for write fields of extended document (profile & properties)
+     * @param out JSON writer
+     * @param profile document profile
+     * @param properties document properties
+     * @throws IOException throw if can not write
+     */
+    protected void writeExtended(
+            JsonWriter out,
+            List<EmbeddedProperty> profile,
+            List<EmbeddedProperty> properties
+    ) throws IOException {
+        writeList(out, "profile", profile, propertyAdapter);
+        writeList(out, "properties", properties, propertyAdapter);
+    }
+
+    /**
+     * Method for write fields of document (name, title, description, owner,
+     * id & status)
+     * @param out JSON writer
+     * @param value document
+     * @throws IOException throw if can not write
+     */
+    protected void writeDocument(JsonWriter out, Document value) 
+            throws IOException {
+        out.name("name").value(value.getName());
+        out.name("title").value(value.getTitle());
+        out.name("description").value(value.getDescription());
+        writeObject(out, "owner", value.getOwner(), ownerAdapter);
+        writeStandalone(out, value);
+    }
+
+    /**
+     * Getter for property embedded document adapter
+     * @return adapter for property embedded document
+     */
+    protected TypeAdapter<EmbeddedProperty> getPropertyAdapter() {
+        return propertyAdapter;
+    }
+
+    /**
+     * Getter for owner embedded document adapter
+     * @return adapter for owner embedded document
+     */
+    protected TypeAdapter<EmbeddedOwner> getOwnerAdapter() {
+        return ownerAdapter;
+    }
+}
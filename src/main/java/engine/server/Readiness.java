@@ -0,0 +1,103 @@
+package engine.server;
+
+import core.constants.HttpErrors;
+import core.constants.ReadinessStates;
+import core.response.transformers.JsonTransformer;
+import engine.response.answer.Failed;
+import engine.response.answer.Success;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static spark.Spark.get;
+
+/**
+ * Class for application readiness. Application ready when web server
+ * started & all background tasks (like index build) finished
+ * @author small-entropy
+ */
+public class Readiness {
+
+    /** Logger of readiness */
+    private static final Logger LOGGER = LoggerFactory.getLogger(Readiness.class);
+    /** Count of not finished background tasks */
+    private static final AtomicInteger PENDING = new AtomicInteger();
+    /** State of web server start */
+    private static volatile boolean started = false;
+    /** Description of failed task (null - no failed tasks) */
+    private static volatile String failure = null;
+
+    /**
+     * Method for run task in background thread. Application not ready
+     * until task finished
+     * @param name name of task
+     * @param task task
+     */
+    public static void runInBackground(String name, Runnable task) {
+        PENDING.incrementAndGet();
+        Thread thread = new Thread(() -> {
+            long start = System.nanoTime();
+            try {
+                task.run();
+                LOGGER.info(
+                        "Background task {} finished in {} ms",
+                        name,
+                        (System.nanoTime() - start) / 1_000_000
+                );
+            } catch (RuntimeException error) {
+                failure = name + ": " + error.getMessage();
+                LOGGER.error("Background task {} failed", name, error);
+            } finally {
+                PENDING.decrementAndGet();
+            }
+        }, "background-" + name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Method for mark web server as started
+     */
+    public static void markStarted() {
+        started = true;
+    }
+
+    /**
+     * Getter for readiness state
+     * @return readiness state
+     */
+    public static ReadinessStates getState() {
+        if (failure != null) {
+            return ReadinessStates.FAILED;
+        }
+        return (started && PENDING.get() == 0)
+                ? ReadinessStates.READY
+                : ReadinessStates.STARTING;
+    }
+
+    /**
+     * Method for register route with readiness state. Route respond with
+     * 503 status code until application ready
+     * @param path path of readiness route
+     */
+    public static void registerEndpoint(String path) {
+        JsonTransformer transformer = new JsonTransformer();
+        get(path, (request, response) -> {
+            response.type("application/json");
+            ReadinessStates state = getState();
+            if (state == ReadinessStates.READY) {
+                return new Success<>(
+                        "Application ready",
+                        Map.of("state", state.getName())
+                );
+            }
+            response.status(HttpErrors.SERVICE_UNAVAILABLE.getCode());
+            String message = (state == ReadinessStates.FAILED)
+                    ? "Application not ready: " + failure
+                    : "Application not ready: " + PENDING.get() + " background tasks pending";
+            return new Failed(message);
+        }, transformer);
+    }
+}
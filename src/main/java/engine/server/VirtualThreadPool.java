@@ -0,0 +1,83 @@
+package engine.server;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.jetty.util.component.AbstractLifeCycle;
+import org.eclipse.jetty.util.thread.ThreadPool;
+
+/**
+ * Class for Jetty thread pool which executes each task in new virtual
+ * thread. Blocking calls (like synchronous database queries) park virtual
+ * thread without hold platform thread. Virtual threads executor got by
+ * reflection, so class can be compiled on JDK without virtual threads
+ * @author small-entropy
+ */
+public class VirtualThreadPool extends AbstractLifeCycle implements ThreadPool {
+
+    /** Property with virtual thread per task executor */
+    private final ExecutorService executor;
+    /** Property with count of running tasks */
+    private final AtomicInteger running = new AtomicInteger();
+
+    /**
+     * Constructor for virtual thread pool
+     * @param executor virtual thread per task executor
+     */
+    private VirtualThreadPool(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Method for create virtual thread pool
+     * @return virtual thread pool or null if JDK not support virtual threads
+     */
+    public static VirtualThreadPool create() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return new VirtualThreadPool((ExecutorService) factory.invoke(null));
+        } catch (ReflectiveOperationException exception) {
+            return null;
+        }
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        executor.execute(() -> {
+            running.incrementAndGet();
+            try {
+                task.run();
+            } finally {
+                running.decrementAndGet();
+            }
+        });
+    }
+
+    @Override
+    public void join() throws InterruptedException {
+        executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public int getThreads() {
+        return running.get();
+    }
+
+    @Override
+    public int getIdleThreads() {
+        return 0;
+    }
+
+    @Override
+    public boolean isLowOnThreads() {
+        return false;
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        executor.shutdown();
+        super.doStop();
+    }
+}
@@ -2,13 +2,24 @@ package synthwave.applications;
 
 import dev.morphia.Datastore;
 import dev.morphia.Morphia;
+import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.MapperOptions;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
 
 import engine.applicatoins.RestApplication;
 import core.response.transformers.JsonTransformer;
+import core.dto.PropertyDTO;
+import core.utils.GsonManager;
+import core.utils.JsonWebToken;
+import core.metrics.CacheMetrics;
 
 import engine.controllers.ErrorsController;
+import engine.metrics.MongoCommandListener;
+import engine.repositories.morphia.IndexAdvisor;
+import engine.repositories.morphia.MorphiaRepository;
+import engine.server.Readiness;
 import synthwave.controllers.v1.companies.CompaniesController;
 import synthwave.controllers.v1.companies.CompanyProfileController;
 import synthwave.controllers.v1.companies.CompanyPropertiesController;
@@ -25,6 +36,30 @@ import synthwave.controllers.v1.tags.TagsController;
 import synthwave.controllers.v1.catalogs.CatalogProfileController;
 import synthwave.controllers.v1.catalogs.CatalogPropertiesController;
 import synthwave.controllers.v1.catalogs.CatalogsController;
+import synthwave.codecs.EmbeddedsCodecs;
+import synthwave.codecs.ModelsCodecs;
+import synthwave.dto.CatalogDTO;
+import synthwave.dto.CategoryDTO;
+import synthwave.dto.CompanyDTO;
+import synthwave.dto.ProductDTO;
+import synthwave.dto.TagDTO;
+import synthwave.dto.UserDTO;
+import synthwave.dto.UserOrderDTO;
+import synthwave.dto.UserRightDTO;
+import synthwave.models.morphia.extend.Catalog;
+import synthwave.models.morphia.extend.Category;
+import synthwave.models.morphia.extend.Company;
+import synthwave.models.morphia.extend.Product;
+import synthwave.models.morphia.extend.User;
+import synthwave.models.morphia.simple.Tag;
+import synthwave.repositories.morphia.CategoriesRepository;
+import synthwave.repositories.morphia.ProductsRepository;
+import synthwave.repositories.morphia.UsersRepository;
+import synthwave.utils.access.RightManager;
+import synthwave.utils.access.UserRightsCache;
+import synthwave.utils.catalogs.CategoryTreeCache;
+
+import java.util.List;
 
 import static spark.Spark.*;
 
@@ -34,14 +69,22 @@ import static spark.Spark.*;
  */
 public class RESTSynthwave extends RestApplication<Datastore, JsonTransformer> {
     
-    /** Path to Morphia models */
-    private final String modelsPath;
+    /** Models of application (mapped on start) */
+    private static final List<Class<?>> MODELS = List.of(
+            User.class,
+            Catalog.class,
+            Category.class,
+            Company.class,
+            Tag.class,
+            Product.class
+    );
+    /** State of migrate products prices to minor units on start */
+    private boolean migratePrices = false;
 
     /**
      * Default constructor for Synthwave REST API application
      * @param storeNulls state store null fields for Morphia models
      * @param storeEmpties state store rmpties fields for Morphia models
-     * @param modelsPath path to morphia models
      * @param dbName database name
      * @param origins allowed origins
      * @param headers allowed headers
@@ -51,16 +94,49 @@ public class RESTSynthwave extends RestApplication<Datastore, JsonTransformer> {
     public RESTSynthwave(
         boolean storeNulls,
         boolean storeEmpties,
-        String modelsPath,
         String dbName,
         String origins,
         String headers,
         String methods,
         int port
+    ) {
+        this(
+            storeNulls,
+            storeEmpties,
+            dbName,
+            origins,
+            headers,
+            methods,
+            port,
+            MongoCommandListener.DEFAULT_THRESHOLD
+        );
+    }
+
+    /**
+     * Constructor for Synthwave REST API application with threshold of
+     * slow database commands
+     * @param storeNulls state store null fields for Morphia models
+     * @param storeEmpties state store rmpties fields for Morphia models
+     * @param dbName database name
+     * @param origins allowed origins
+     * @param headers allowed headers
+     * @param methods allowed methods
+     * @param port port of web server
+     * @param slowQueryThreshold threshold of slow database command (in milliseconds)
+     */
+    public RESTSynthwave(
+        boolean storeNulls,
+        boolean storeEmpties,
+        String dbName,
+        String origins,
+        String headers,
+        String methods,
+        int port,
+        long slowQueryThreshold
     ) {
         super(
             Morphia.createDatastore(
-                MongoClients.create(),
+                createClient(slowQueryThreshold),
                 dbName,
                 MapperOptions
                     .builder()
@@ -73,8 +149,30 @@ public class RESTSynthwave extends RestApplication<Datastore, JsonTransformer> {
             headers,
             methods,
             port
-        ); 
-        this.modelsPath = modelsPath;
+        );
+    }
+
+    /**
+     * Method for create MongoDB client with listener of commands
+     * @param slowQueryThreshold threshold of slow database command (in milliseconds)
+     * @return MongoDB client
+     */
+    private static MongoClient createClient(long slowQueryThreshold) {
+        return MongoClients.create(
+            MongoClientSettings
+                .builder()
+                .addCommandListener(new MongoCommandListener(slowQueryThreshold))
+                .build()
+        );
+    }
+
+    /**
+     * Setter for state of migrate products prices to minor units on start.
+     * Enable only after all instances can read both prices formats
+     * @param migratePrices state of migrate prices
+     */
+    public void setMigratePrices(boolean migratePrices) {
+        this.migratePrices = migratePrices;
     }
 
     @Override
@@ -132,12 +230,88 @@ public class RESTSynthwave extends RestApplication<Datastore, JsonTransformer> {
         // END: REGISTER ROUTES FOR API VERSION 1
     }
 
+    @Override
+    protected void authContextInit() {
+        UsersRepository usersRepository = new UsersRepository(getDatastore());
+        // Resolve token, user id & user rights once per request
+        before((request, response) -> {
+            RightManager.resolveAuthContext(request, usersRepository);
+        });
+    }
+
+    @Override
+    protected void metricsInit() {
+        super.metricsInit();
+        CacheMetrics.register("user_rights", UserRightsCache.getCache());
+        CacheMetrics.register("tokens", JsonWebToken.getCache());
+        CacheMetrics.register("category_trees", CategoryTreeCache.getCache());
+    }
+
+    @Override
+    protected void serializationInit() {
+        // Register reflection-free codecs for models
+        EmbeddedsCodecs.register(GsonManager.getCodecFactory());
+        ModelsCodecs.register(GsonManager.getCodecFactory());
+        // Precompute type adapters for models & data transfer objects
+        GsonManager.warmUp(
+                User.class,
+                Category.class,
+                Catalog.class,
+                Company.class,
+                Tag.class,
+                Product.class,
+                PropertyDTO.class,
+                CatalogDTO.class,
+                CategoryDTO.class,
+                CompanyDTO.class,
+                ProductDTO.class,
+                TagDTO.class,
+                UserDTO.class,
+                UserOrderDTO.class,
+                UserRightDTO.class
+        );
+    }
+
     @Override
     protected void datastorePrepare() {
-        // Map all models from package
-        getDatastore().getMapper().mapPackage(modelsPath);
-        // Ensure database indexes by models
-        getDatastore().ensureIndexes();
+        Mapper mapper = getDatastore().getMapper();
+        // Map models explicitly (without classpath scan) & warm up codecs
+        mapper.map(MODELS.toArray(new Class<?>[0]));
+        for (Class<?> model : MODELS) {
+            mapper.getCodecRegistry().get(model);
+        }
+        // Report query shapes not covered by declared indexes
+        new IndexAdvisor()
+                .expect(Catalog.class, MorphiaRepository.QUERY_SHAPES)
+                .expect(Category.class, MorphiaRepository.QUERY_SHAPES)
+                .expect(Category.class, CategoriesRepository.CATEGORY_QUERY_SHAPES)
+                .expect(Company.class, MorphiaRepository.QUERY_SHAPES)
+                .expect(Product.class, MorphiaRepository.QUERY_SHAPES)
+                .expect(Product.class, ProductsRepository.PRODUCT_QUERY_SHAPES)
+                .expect(Tag.class, MorphiaRepository.QUERY_SHAPES)
+                .expect(User.class, UsersRepository.USER_QUERY_SHAPES)
+                .check();
+        // Ensure database indexes by models in background (routes served
+        // while indexes built, readiness route report build state)
+        Readiness.runInBackground("ensureIndexes", () -> {
+            for (Class<?> model : MODELS) {
+                getDatastore().ensureIndexes(model);
+            }
+            new ProductsRepository(getDatastore()).ensurePriceIndexes();
+        });
+        // Migrate products prices stored as strings to minor units (not
+        // migrated prices converted on load)
+        if (migratePrices) {
+            Readiness.runInBackground("migratePrices", () -> {
+                new ProductsRepository(getDatastore()).migratePrices();
+            });
+        }
+        // Fill materialized paths of categories created before ancestors
+        Readiness.runInBackground("repairCategoriesTree", () -> {
+            if (new CategoriesRepository(getDatastore()).repairTree() > 0) {
+                CategoryTreeCache.invalidateAll();
+            }
+        });
     }
 
     @Override
@@ -0,0 +1,131 @@
+package synthwave.codecs;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonWriter;
+import core.models.morphia.embeddeds.EmbeddedOwner;
+import core.response.codecs.CodecFactory;
+import core.response.codecs.ModelCodec;
+import synthwave.models.morphia.embeddeds.EmbeddedBreadcrumb;
+import synthwave.models.morphia.embeddeds.EmbeddedCatalog;
+import synthwave.models.morphia.embeddeds.EmbeddedCategory;
+import synthwave.models.morphia.embeddeds.EmbeddedCompany;
+import synthwave.models.morphia.embeddeds.EmbeddedPrice;
+import synthwave.models.morphia.embeddeds.EmbeddedTag;
+import java.io.IOException;
+
+/**
+ * Class with codecs for embedded documents
+ * @author small-entropy
+ */
+public class EmbeddedsCodecs {
+
+    /**
+     * Codec for breadcrumb embedded document
+     */
+    public static class EmbeddedBreadcrumbCodec extends ModelCodec<EmbeddedBreadcrumb> {
+        @Override
+        protected void writeFields(JsonWriter out, EmbeddedBreadcrumb value) 
+                throws IOException {
+            writeId(out, "id", value.getId());
+            out.name("title").value(value.getTitle());
+        }
+    }
+
+    /**
+     * Codec for catalog embedded document
+     */
+    public static class EmbeddedCatalogCodec extends ModelCodec<EmbeddedCatalog> {
+
+        private TypeAdapter<EmbeddedOwner> ownerAdapter;
+
+        @Override
+        protected void initAdapters(Gson gson) {
+            ownerAdapter = gson.getAdapter(EmbeddedOwner.class);
+        }
+
+        @Override
+        protected void writeFields(JsonWriter out, EmbeddedCatalog value) 
+                throws IOException {
+            writeId(out, "id", value.getId());
+            out.name("title").value(value.getTitle());
+            writeObject(out, "owner", value.getOwner(), ownerAdapter);
+        }
+    }
+
+    /**
+     * Codec for category embedded document
+     */
+    public static class EmbeddedCategoryCodec extends ModelCodec<EmbeddedCategory> {
+        @Override
+        protected void writeFields(JsonWriter out, EmbeddedCategory value) 
+                throws IOException {
+            writeId(out, "id", value.getId());
+            out.name("title").value(value.getTitle());
+            out.name("owner").value(value.getOwner());
+        }
+    }
+
+    /**
+     * Codec for price embedded document
+     */
+    public static class EmbeddedPriceCodec extends ModelCodec<EmbeddedPrice> {
+        @Override
+        protected void writeFields(JsonWriter out, EmbeddedPrice value) 
+                throws IOException {
+            writeId(out, "id", value.getId());
+            out.name("name").value(value.getName());
+            out.name("value").value(value.getValue());
+            out.name("currency").value(value.getCurrency());
+            out.name("description").value(value.getDescription());
+        }
+    }
+
+    /**
+     * Codec for tag embedded document
+     */
+    public static class EmbeddedTagCodec extends ModelCodec<EmbeddedTag> {
+        @Override
+        protected void writeFields(JsonWriter out, EmbeddedTag value) 
+                throws IOException {
+            writeId(out, "id", value.getId());
+            out.name("name").value(value.getName());
+            out.name("value").value(value.getValue());
+        }
+    }
+
+    /**
+     * Codec for company embedded document
+     */
+    public static class EmbeddedCompanyCodec extends ModelCodec<EmbeddedCompany> {
+
+        private TypeAdapter<EmbeddedOwner> ownerAdapter;
+
+        @Override
+        protected void initAdapters(Gson gson) {
+            ownerAdapter = gson.getAdapter(EmbeddedOwner.class);
+        }
+
+        @Override
+        protected void writeFields(JsonWriter out, EmbeddedCompany value) 
+                throws IOException {
+            writeId(out, "id", value.getId());
+            out.name("title").value(value.getTitle());
+            out.name("description").value(value.getDescription());
+            writeObject(out, "owner", value.getOwner(), ownerAdapter);
+        }
+    }
+
+    /**
+     * Method for register embedded documents codecs
+     * @param factory codecs factory
+     */
+    public static void register(CodecFactory factory) {
+        factory.register(EmbeddedBreadcrumb.class, EmbeddedBreadcrumbCodec::new);
+        factory.register(EmbeddedCatalog.class, EmbeddedCatalogCodec::new);
+        factory.register(EmbeddedCategory.class, EmbeddedCategoryCodec::new);
+        factory.register(EmbeddedPrice.class, EmbeddedPriceCodec::new);
+        factory.register(EmbeddedTag.class, EmbeddedTagCodec::new);
+        factory.register(EmbeddedCompany.class, EmbeddedCompanyCodec::new);
+    }
+}
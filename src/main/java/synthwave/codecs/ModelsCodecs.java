@@ -0,0 +1,174 @@
+package synthwave.codecs;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonWriter;
+import core.models.morphia.embeddeds.EmbeddedRight;
+import core.response.codecs.CodecFactory;
+import engine.response.codecs.StandaloneCodec;
+import synthwave.models.morphia.embeddeds.EmbeddedBreadcrumb;
+import synthwave.models.morphia.embeddeds.EmbeddedCatalog;
+import synthwave.models.morphia.embeddeds.EmbeddedCategory;
+import synthwave.models.morphia.embeddeds.EmbeddedCompany;
+import synthwave.models.morphia.embeddeds.EmbeddedPrice;
+import synthwave.models.morphia.embeddeds.EmbeddedTag;
+import synthwave.models.morphia.extend.Catalog;
+import synthwave.models.morphia.extend.Category;
+import synthwave.models.morphia.extend.Company;
+import synthwave.models.morphia.extend.Product;
+import synthwave.models.morphia.extend.User;
+import synthwave.models.morphia.simple.Tag;
+import java.io.IOException;
+
+/**
+ * Class with codecs for standalone documents
+ * @author small-entropy
+ */
+public class ModelsCodecs {
+
+    /**
+     * Codec for user document
+     */
+    public static class UserCodec extends StandaloneCodec<User> {
+
+        private TypeAdapter<EmbeddedRight> rightAdapter;
+
+        @Override
+        protected void initAdapters(Gson gson) {
+            super.initAdapters(gson);
+            rightAdapter = gson.getAdapter(EmbeddedRight.class);
+        }
+
+        @Override
+        protected void writeFields(JsonWriter out, User value) 
+                throws IOException {
+            out.name("username").value(value.getUsername());
+            out.name("password").value(value.getPassword());
+            writeStrings(out, "issuedToken", value.getIssuedTokens());
+            writeList(out, "rights", value.getRights(), rightAdapter);
+            out.name("version").value(value.getVersion());
+            writeExtended(out, value.getProfile(), value.getProperties());
+            writeStandalone(out, value);
+        }
+    }
+
+    /**
+     * Codec for category document
+     */
+    public static class CategoryCodec extends StandaloneCodec<Category> {
+
+        private TypeAdapter<EmbeddedCatalog> catalogAdapter;
+        private TypeAdapter<EmbeddedBreadcrumb> breadcrumbAdapter;
+
+        @Override
+        protected void initAdapters(Gson gson) {
+            super.initAdapters(gson);
+            catalogAdapter = gson.getAdapter(EmbeddedCatalog.class);
+            breadcrumbAdapter = gson.getAdapter(EmbeddedBreadcrumb.class);
+        }
+
+        @Override
+        protected void writeFields(JsonWriter out, Category value) 
+                throws IOException {
+            writeObject(out, "catalog", value.getCatalog(), catalogAdapter);
+            writeList(out, "breadcrumbs", value.getBreadcrumbs(), breadcrumbAdapter);
+            writeList(out, "childs", value.getChilds(), breadcrumbAdapter);
+            writeId(out, "parent", value.getParent());
+            writeIds(out, "ancestors", value.getAncestors());
+            out.name("depth").value(value.getDepth());
+            out.name("version").value(value.getVersion());
+            writeExtended(out, value.getProfile(), value.getProperties());
+            writeDocument(out, value);
+        }
+    }
+
+    /**
+     * Codec for catalog document
+     */
+    public static class CatalogCodec extends StandaloneCodec<Catalog> {
+        @Override
+        protected void writeFields(JsonWriter out, Catalog value) 
+                throws IOException {
+            out.name("version").value(value.getVersion());
+            writeExtended(out, value.getProfile(), value.getProperties());
+            writeDocument(out, value);
+        }
+    }
+
+    /**
+     * Codec for company document
+     */
+    public static class CompanyCodec extends StandaloneCodec<Company> {
+        @Override
+        protected void writeFields(JsonWriter out, Company value) 
+                throws IOException {
+            out.name("version").value(value.getVersion());
+            writeExtended(out, value.getProfile(), value.getProperties());
+            writeDocument(out, value);
+        }
+    }
+
+    /**
+     * Codec for tag document
+     */
+    public static class TagCodec extends StandaloneCodec<Tag> {
+        @Override
+        protected void writeFields(JsonWriter out, Tag value) 
+                throws IOException {
+            out.name("version").value(value.getVersion());
+            writeDocument(out, value);
+        }
+    }
+
+    /**
+     * Codec for product document
+     */
+    public static class ProductCodec extends StandaloneCodec<Product> {
+
+        private TypeAdapter<EmbeddedCatalog> catalogAdapter;
+        private TypeAdapter<EmbeddedPrice> priceAdapter;
+        private TypeAdapter<EmbeddedCategory> categoryAdapter;
+        private TypeAdapter<EmbeddedTag> tagAdapter;
+        private TypeAdapter<EmbeddedCompany> companyAdapter;
+
+        @Override
+        protected void initAdapters(Gson gson) {
+            super.initAdapters(gson);
+            catalogAdapter = gson.getAdapter(EmbeddedCatalog.class);
+            priceAdapter = gson.getAdapter(EmbeddedPrice.class);
+            categoryAdapter = gson.getAdapter(EmbeddedCategory.class);
+            tagAdapter = gson.getAdapter(EmbeddedTag.class);
+            companyAdapter = gson.getAdapter(EmbeddedCompany.class);
+        }
+
+        @Override
+        protected void writeFields(JsonWriter out, Product value) 
+                throws IOException {
+            out.name("brief").value(value.getBrief());
+            writeObject(out, "catalog", value.getCatalog(), catalogAdapter);
+            writeList(out, "prices", value.getPrices(), priceAdapter);
+            writeNumbers(out, "price", value.getPrice());
+            writeList(out, "categories", value.getCategories(), categoryAdapter);
+            writeList(out, "scores", value.getScores(), getPropertyAdapter());
+            writeList(out, "tags", value.getTags(), tagAdapter);
+            writeObject(out, "seller", value.getSeller(), companyAdapter);
+            writeObject(out, "manufacturer", value.getManufacturer(), companyAdapter);
+            out.name("version").value(value.getVersion());
+            writeExtended(out, value.getProfile(), value.getProperties());
+            writeDocument(out, value);
+        }
+    }
+
+    /**
+     * Method for register standalone documents codecs
+     * @param factory codecs factory
+     */
+    public static void register(CodecFactory factory) {
+        factory.register(User.class, UserCodec::new);
+        factory.register(Category.class, CategoryCodec::new);
+        factory.register(Catalog.class, CatalogCodec::new);
+        factory.register(Company.class, CompanyCodec::new);
+        factory.register(Tag.class, TagCodec::new);
+        factory.register(Product.class, ProductCodec::new);
+    }
+}
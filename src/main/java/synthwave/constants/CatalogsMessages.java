@@ -5,7 +5,8 @@ public enum CatalogsMessages {
     ENTITY("Successfully get catalog"),
     CREATED("Successfully created catalog"),
     UPDATED("Successfully catapog updated"),
-    DELETED("Successfully deleted catalog");
+    DELETED("Successfully deleted catalog"),
+    TREE("Successfully get categories tree of catalog");
 	
     private String message;
 
@@ -9,7 +9,9 @@ public enum CategoriesMessages {
     ENTITY("Successfully get category"),
     CREATED("Successfully created category"),
     UPDATED("Successfully updated category"),
-    DELETED("Successfulle deleted category");
+    DELETED("Successfulle deleted category"),
+    TREE("Successfully get categories tree"),
+    MOVED("Successfully moved category");
 	/** Property with value of message */
 	private String message;
 	
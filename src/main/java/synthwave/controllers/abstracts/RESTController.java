@@ -1,12 +1,25 @@
 package synthwave.controllers.abstracts;
 
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import engine.controllers.BaseController;
+import engine.repositories.morphia.DocumentStream;
 import core.exceptions.AccessException;
 import core.exceptions.DataException;
 import core.exceptions.TokenException;
 import core.models.morphia.standalones.Standalone;
+import core.constants.QueryParams;
+import core.response.answers.BatchResult;
+import core.response.answers.Meta;
+import core.utils.CursorManager;
+import core.utils.QueryManager;
 import engine.response.answer.Success;
 import core.response.transformers.JsonTransformer;
 import spark.Response;
@@ -213,13 +226,153 @@ public abstract class RESTController<
     @Override
     protected void getListRoute() {
         get(listPath, (request, response) -> {
+            if (QueryManager.isStreamMode(request)) {
+                DocumentStream<M> entities = (needAccessCheckList)
+                    ? getService().streamEntitiesList(request, getRight(), getReadActionName())
+                    : getService().streamEntitiesList(request);
+                return getStreamAnswer(request, response, entities);
+            }
             List<M> entities = (needAccessCheckList)
                 ? getService().getEntitiesList(request, getRight(), getReadActionName())
                 : getService().getEntitiesList(request);
-            return new Success<>(msgList, entities);
+            return getListAnswer(request, response, entities);
         }, getTransformer());
     }
 
+    /**
+     * Method for create meta object for entities list. Meta created only
+     * for cursor pagination mode and contains cursors for next & previous
+     * pages
+     * @param request Spark request object
+     * @param entities list of entities
+     * @return meta object or null if cursor mode not used
+     */
+    protected Meta getListMeta(Request request, List<M> entities) {
+        return (entities.isEmpty())
+                ? getListMeta(request, 0, null, null)
+                : getListMeta(
+                        request, 
+                        entities.size(), 
+                        entities.get(0), 
+                        entities.get(entities.size() - 1)
+                );
+    }
+
+    /**
+     * Method for create meta object for entities list by count of entities
+     * and first & last entities
+     * @param request Spark request object
+     * @param count count of entities
+     * @param first first entity in list
+     * @param last last entity in list
+     * @return meta object or null if cursor mode not used
+     */
+    private Meta getListMeta(Request request, int count, M first, M last) {
+        if (!QueryManager.isCursorMode(request)) {
+            return null;
+        }
+        Meta meta = new Meta();
+        meta.setCount(count);
+        if (count > 0) {
+            boolean isFull = count >= QueryManager.getLimit(request);
+            boolean hasAfter = request.queryParams(QueryParams.AFTER.getKey()) != null;
+            boolean hasBefore = request.queryParams(QueryParams.BEFORE.getKey()) != null;
+            if (isFull || hasBefore) {
+                meta.setNext(CursorManager.encode(last.getId()));
+            }
+            if (hasAfter || (hasBefore && isFull)) {
+                meta.setPrev(CursorManager.encode(first.getId()));
+            }
+        }
+        return meta;
+    }
+
+    /**
+     * Method for create answer for entities list. In streaming mode list
+     * written to response output stream (same answer format as for
+     * entities streamed from database cursor)
+     * @param request Spark request object
+     * @param response Spark response object
+     * @param entities list of entities
+     * @return answer object or empty string if answer already streamed
+     * @throws IOException throw if can not write to response
+     */
+    protected Object getListAnswer(
+            Request request, 
+            Response response, 
+            List<M> entities
+    ) throws IOException {
+        if (QueryManager.isStreamMode(request)) {
+            return getStreamAnswer(request, response, DocumentStream.of(entities));
+        }
+        return new Success<>(msgList, entities, getListMeta(request, entities));
+    }
+
+    /**
+     * Method for write entities stream to response output stream (without
+     * build full answer in memory). Stream closed after write
+     * @param request Spark request object
+     * @param response Spark response object
+     * @param entities stream of entities
+     * @return empty string (answer already streamed)
+     * @throws IOException throw if can not write to response
+     */
+    protected Object getStreamAnswer(
+            Request request, 
+            Response response, 
+            DocumentStream<M> entities
+    ) throws IOException {
+        try (entities) {
+            streamList(request, response, entities);
+        }
+        return "";
+    }
+
+    /**
+     * Method for write entities list from database cursor to response 
+     * output stream
+     * @param request Spark request object
+     * @param response Spark response object
+     * @param entities stream of entities
+     * @throws IOException throw if can not write to response
+     */
+    private void streamList(
+            Request request, 
+            Response response, 
+            DocumentStream<M> entities
+    ) throws IOException {
+        Gson gson = getTransformer().getGson();
+        response.type("application/json");
+        Writer output = new BufferedWriter(new OutputStreamWriter(
+                response.raw().getOutputStream(),
+                StandardCharsets.UTF_8
+        ));
+        JsonWriter writer = new JsonWriter(output);
+        int count = 0;
+        M first = null;
+        M last = null;
+        writer.beginObject();
+        writer.name("status").value("success");
+        writer.name("message").value(msgList);
+        writer.name("data").beginArray();
+        for (M entity : entities) {
+            gson.toJson(entity, entity.getClass(), writer);
+            if (first == null) {
+                first = entity;
+            }
+            last = entity;
+            count++;
+        }
+        writer.endArray();
+        Meta meta = getListMeta(request, count, first, last);
+        if (meta != null) {
+            writer.name("meta");
+            gson.toJson(meta, Meta.class, writer);
+        }
+        writer.endObject();
+        writer.flush();
+    }
+
     protected void beforeGetList(Request request, Response response) 
         throws TokenException, AccessException, DataException {}
 
@@ -228,10 +381,16 @@ public abstract class RESTController<
      */
     protected void getListByOwnerRoute() {
         get(listByPathByOwner, (request, response) -> {
+            if (QueryManager.isStreamMode(request)) {
+                DocumentStream<M> entities = (needAccessCheckList)
+                    ? getService().streamEntitiesListByOwner(request, getRight(), getReadActionName())
+                    : getService().streamEntitiesListByOwner(request);
+                return getStreamAnswer(request, response, entities);
+            }
             List<M> entities = (needAccessCheckList)
                 ? getService().getEntitiesListByOwner(request, getRight(), getReadActionName())
                 : getService().getEntitiesListByOwner(request);
-            return new Success<>(msgList, entities);
+            return getListAnswer(request, response, entities);
         }, getTransformer());
     }
 
@@ -272,6 +431,70 @@ public abstract class RESTController<
     }
     // END: BLOCK GET ENTITIES LIST ROUTE
 
+    // BEGIN: BLOCK BATCH ROUTES
+    /**
+     * Getter for path of batch routes (create, update & delete entities
+     * by one request). Batch routes registered only if path not null
+     * @return path of batch routes
+     */
+    protected String getBatchPath() {
+        return null;
+    }
+
+    /**
+     * Method for register middleware before batch routes. Access checked
+     * once for all batch (by hooks of single entity routes)
+     */
+    protected void registerBeforeBatchPath() {
+        before(getBatchPath(), (request, response) -> {
+            switch (request.requestMethod()) {
+                case "POST":
+                    beforeCreateEntityRoute(request, response);
+                    break;
+                case "PUT":
+                    beforeUpdateRoute(request, response);
+                    break;
+                case "DELETE":
+                    beforeDeleteRoute(request, response);
+                    break;
+                default:
+                    break;
+            }
+        });
+    }
+
+    /**
+     * Method for register batch routes
+     */
+    protected void batchRoutes() {
+        String path = getBatchPath();
+        post(path, (request, response) -> {
+            List<BatchResult> results = getService().createEntities(
+                    request, 
+                    getRight(), 
+                    getCreateActionName()
+            );
+            return new Success<>(msgCreate, results);
+        }, getTransformer());
+        put(path, (request, response) -> {
+            List<BatchResult> results = getService().updateEntities(
+                    request, 
+                    getRight(), 
+                    getUpdateActionName()
+            );
+            return new Success<>(msgUpdate, results);
+        }, getTransformer());
+        delete(path, (request, response) -> {
+            List<BatchResult> results = getService().deleteEntities(
+                    request, 
+                    getRight(), 
+                    getDeleteActionName()
+            );
+            return new Success<>(msgDelete, results);
+        }, getTransformer());
+    }
+    // END: BLOCK BATCH ROUTES
+
     protected void customRoutes() {}
 
     protected void afterDelete() {}
@@ -370,6 +593,10 @@ public abstract class RESTController<
             updateByOwnerRoute();
             deleteByOwnerRoute();
         }
+        if (getBatchPath() != null) {
+            registerBeforeBatchPath();
+            batchRoutes();
+        }
         customRoutes();
         registerAfter();
     }
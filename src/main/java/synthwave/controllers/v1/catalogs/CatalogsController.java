@@ -7,7 +7,9 @@ import dev.morphia.Datastore;
 import core.constants.DefaultRights;
 import engine.dto.RuleDTO;
 import core.exceptions.AccessException;
+import core.response.answers.TreeNode;
 import core.response.transformers.JsonTransformer;
+import engine.response.answer.Success;
 
 import synthwave.controllers.abstracts.RESTController;
 import synthwave.constants.CatalogsMessages;
@@ -16,6 +18,8 @@ import synthwave.repositories.morphia.CatalogsRepository;
 import synthwave.services.v1.catalogs.CatalogService;
 import synthwave.utils.access.RightManager;
 import core.utils.Comparator;
+import java.util.List;
+import static spark.Spark.get;
 
 /**
  * Class controller for work with catalogs routes
@@ -25,6 +29,11 @@ import core.utils.Comparator;
 public class CatalogsController 
 	extends RESTController<Catalog, CatalogsRepository, CatalogService> {
 
+	@Override
+	protected String getBatchPath() {
+		return "/owner/:user_id/batch";
+	}
+
 	@Override
 	protected void beforeCreateEntityRoute(Request request, Response response) 
 		throws AccessException {
@@ -105,4 +114,17 @@ public class CatalogsController
 				CatalogsMessages.DELETED.getMessage()
 		);
 	}
+	
+	@Override
+	protected void customRoutes() {
+		// Method for get categories tree of catalog (served from memory)
+		get("/:catalog_id/tree", (request, response) -> {
+			List<TreeNode> tree = getService().getCatalogTree(
+				request,
+				getRight(),
+				getReadActionName()
+			);
+			return new Success<>(CatalogsMessages.TREE.getMessage(), tree);
+		}, getTransformer());
+	}
 }
@@ -8,8 +8,9 @@ import synthwave.services.v1.categories.CategoryService;
 import core.utils.Comparator;
 import core.constants.DefaultRights;
 import engine.dto.RuleDTO;
-import core.exceptions.AccessException;
 import engine.response.answer.Success;
+import core.exceptions.AccessException;
+import core.response.answers.TreeNode;
 import core.response.transformers.JsonTransformer;
 import spark.Request;
 import spark.Response;
@@ -25,6 +26,11 @@ import static spark.Spark.*;
 public class CategoriesController 
 	extends RESTController<Category, CategoriesRepository, CategoryService> {
 
+	@Override
+	protected String getBatchPath() {
+		return "/owner/:user_id/batch";
+	}
+
 	@Override
 	protected void beforeCreateEntityRoute(Request request, Response response)
 		throws AccessException {
@@ -110,10 +116,39 @@ public class CategoriesController
                     getRight(),
                     getReadActionName()
             );
-            return new Success<>(
-            		CategoriesMessages.LIST.getMessage(), 
-            		categories
-           );
+            return getListAnswer(request, response, categories);
         }, getTransformer());
+		// Method for get categories tree of catalog
+		get("/catalog/:catalog_id/tree", (request, response) -> {
+			List<TreeNode> tree = getService().getCatalogTree(
+				request,
+				getRight(),
+				getReadActionName()
+			);
+			return new Success<>(CategoriesMessages.TREE.getMessage(), tree);
+		}, getTransformer());
+		// Method for get subtree of category
+		get("/:category_id/subtree", (request, response) -> {
+			TreeNode subtree = getService().getCategorySubtree(
+				request,
+				getRight(),
+				getReadActionName()
+			);
+			return new Success<>(CategoriesMessages.TREE.getMessage(), subtree);
+		}, getTransformer());
+		// Method for move category to new parent category
+		before("/owner/:user_id/category/:category_id/parent", (request, response) -> {
+			if (request.requestMethod().equals("PUT")) {
+				beforeUpdateRoute(request, response);
+			}
+		});
+		put("/owner/:user_id/category/:category_id/parent", (request, response) -> {
+			Category category = getService().moveEntity(
+				request,
+				getRight(),
+				getUpdateActionName()
+			);
+			return new Success<>(CategoriesMessages.MOVED.getMessage(), category);
+		}, getTransformer());
 	}
 }
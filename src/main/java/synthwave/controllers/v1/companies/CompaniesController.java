@@ -20,6 +20,11 @@ import dev.morphia.Datastore;
  */
 public class CompaniesController 
 	extends RESTController<Company, CompaniesRepository, CompanyService> {
+
+	@Override
+	protected String getBatchPath() {
+		return "/owner/:user_id/batch";
+	}
 	
 	@Override
 	protected void beforeCreateEntityRoute(Request request, Response response) 
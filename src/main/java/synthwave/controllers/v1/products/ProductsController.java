@@ -1,9 +1,21 @@
 package synthwave.controllers.v1.products;
 
+import synthwave.controllers.abstracts.RESTController;
+import synthwave.constants.ProductsMessages;
+import synthwave.models.morphia.extend.Product;
+import synthwave.repositories.morphia.ProductsRepository;
+import synthwave.services.v1.products.ProductService;
+import core.utils.Comparator;
 import core.constants.DefaultRights;
-import engine.controllers.BaseController;
+import engine.dto.RuleDTO;
+import engine.response.answer.Success;
+import core.exceptions.AccessException;
+import core.response.answers.FacetedList;
 import core.response.transformers.JsonTransformer;
+import spark.Request;
+import spark.Response;
 import dev.morphia.Datastore;
+import java.util.List;
 import static spark.Spark.*;
 
 /**
@@ -12,117 +24,164 @@ import static spark.Spark.*;
  * @version 1
  */
 public class ProductsController 
-	extends BaseController<Object, JsonTransformer> {
-	
+	extends RESTController<Product, ProductsRepository, ProductService> {
+
+	@Override
+	protected String getBatchPath() {
+		return "/owner/:user_id/batch";
+	}
+
+	@Override
+	protected void beforeCreateEntityRoute(Request request, Response response)
+		throws AccessException {
+		RuleDTO rule = getService().getRule(
+			request, 
+			getRight(), 
+			getCreateActionName()
+		);
+		boolean isTrusted = Comparator.id_fromParam_fromToken(request);
+		boolean hasAccess;
+		if (rule == null) {
+			hasAccess = false;
+		} else {
+			hasAccess = (isTrusted) ? rule.isMyGlobal() : rule.isOtherGlobal();
+		}
+		nextIfHasAccess(hasAccess, "CanNotCreate", "Has no access to create product");
+	}
+
+	@Override
+	protected void beforeUpdateRoute(Request request, Response response) 
+		throws AccessException {
+		RuleDTO rule = getService().getRule(
+			request, 
+			getRight(), 
+			getUpdateActionName()
+		);
+		boolean isTrusted = Comparator.id_fromParam_fromToken(request);
+		boolean hasAccess = getService().checkHasAccess(rule, isTrusted);
+		nextIfHasAccess(
+			hasAccess, 
+			"CanNotUpdate", 
+			"Has no access to update product document"
+		);
+	}
+
+	@Override
+	protected void beforeDeleteRoute(Request request, Response response) 
+		throws AccessException {
+		boolean hasAccess = getService().checkHasGlobalAccess(
+			request, 
+			getRight(), 
+			getDeleteActionName()
+		);
+		nextIfHasAccess(hasAccess, "CanNotDelete", "Has no access to delete product");
+	}
+
 	/**
 	 * Default constructor for product controller. Create
 	 * controller instance by datastore & transformer
-	 * @param datatore Morphia datastore object
+	 * @param datastore Morphia datastore object
 	 * @param transformer response transformer
 	 */
-	public ProductsController (
-			Datastore datatore,
+	public ProductsController(
+			Datastore datastore,
 			JsonTransformer transformer
 	) {
 		super(
-				null,
-				transformer,
-				DefaultRights.PRODUCTS.getName()
+			new ProductService(datastore),
+			transformer,
+			DefaultRights.PRODUCTS.getName(),
+			null,
+			"",
+			"/owner/:user_id/product/:product_id",
+			"/owner/:user_id",
+			true,
+			true,
+			true,
+			true,
+			true,
+			ProductsMessages.CREATED.getMessage(),
+			ProductsMessages.LIST.getMessage(),
+			ProductsMessages.ENTITY.getMessage(),
+			ProductsMessages.UPDATED.getMessage(),
+			ProductsMessages.DELETED.getMessage()
 		);
 	}
- 
-	/**
-	 * Method for get list of products
-	 */
-	protected void getProductsListRoute() {
-		get("", (req, res) -> "Get products list");
-	}
-	
-	/**
-	 * Method for get product entity by id
-	 */
-	protected void getProductByIdRoute() {
-		get("/:product_id", (req, res) -> "Get product document");
-	}
-	
-	/**
-	 * Method for get products list by catalog id
-	 */
-	protected void getProductsLitByCatalogIdRoute() {
-		get("/catalog/:catalog_id", (req, res) -> "Get catelog products");
-	}
-	
-	/**
-	 * Method for get products list by category id
-	 */
-	protected void getProductListByCategoryIdRoute() {
-		get("/owner/:user_id/categories/:category_id", (req, res) -> "");		
-	}
-	
-	/**
-	 * Method for get products list by owner id & category id
-	 */
-	protected void getProductsListByOwnerIdAndCategoryIdRoute() {
-		get("/categories/:category_id", (req, res) -> "Get product for category");
-	}
-	
-	/**
-	 * Method for get products list by owner id
-	 */
-	protected void getProductListByOwnerIdRoute() {
-		get("/owner/:user_id", (req, res) -> "Get user products");
-	}
-	
-	/**
-	 * Method for get product entity by owner id & product id
-	 */
-	protected void getProductByOwnerIdAndIdRoute() {
-		get("/owner/:user_id/product/:product_id", (req, res) -> "Get product document");
-	}
-	
-	/**
-	 * Method for update product entity
-	 */
-	protected void updateProductRoute() {
-		put("/owner/:user_id/product/:product_id", (req, res) -> "Update product document");
-	}
-	
-	/**
-	 * Method for deactivate product entity
-	 */
-	protected void deleteProductRoute() {
-		delete("/owner/:user_id/product/:product_id", (req, res) -> "Delete product document");
-	}
-	
-	/*
-	 * Method for get products list by owner id & catalog id
-	 */
-	protected void getProductsListByOwnerIdAndCatalogIdRoute() {
-		get("/owner/:user_id/catalog/:catalog_id", (req, res) -> "Get user products for catelog");
-	}
-	
-	/**
-	 * Method for create product entity
-	 */
-	protected void createProductRoute() {
-		post("/owner/:user_id/catalog/:catalog_id", (req, res) -> "Create product for catalog");
-	}
-	
-	/**
-	 * Method for register routes for products data
-	 */
+
 	@Override
-    public void register() {
-		createProductRoute();
-		getProductsListRoute();
-		getProductByIdRoute();
-		getProductsLitByCatalogIdRoute();
-		getProductListByCategoryIdRoute();
-		getProductsListByOwnerIdAndCatalogIdRoute();
-		getProductsListByOwnerIdAndCategoryIdRoute();
-		getProductListByOwnerIdRoute();
-		getProductByOwnerIdAndIdRoute();
-		updateProductRoute();
-		deleteProductRoute();
-    }
+	protected void customRoutes() {
+		// Method for faceted search of products (registered before get
+		// product by id route)
+		get("/search", (request, response) -> {
+			FacetedList<Product> result = getService().searchProducts(
+				request,
+				getRight(),
+				getReadActionName()
+			);
+			return new Success<>(getMsgList(), result);
+		}, getTransformer());
+		// Method for faceted search of products in catalog
+		get("/catalog/:catalog_id/search", (request, response) -> {
+			FacetedList<Product> result = getService().searchProducts(
+				request,
+				getRight(),
+				getReadActionName()
+			);
+			return new Success<>(getMsgList(), result);
+		}, getTransformer());
+		// Method for get product by id
+		get("/:product_id", (request, response) -> {
+			Product product = getService().getProduct(
+				request,
+				getRight(),
+				getReadActionName()
+			);
+			return new Success<>(getMsgEntity(), product);
+		}, getTransformer());
+		// Method for get products list by catalog
+		get("/catalog/:catalog_id", (request, response) -> {
+			List<Product> products = getService().getCatalogProducts(
+				request,
+				getRight(),
+				getReadActionName()
+			);
+			return getListAnswer(request, response, products);
+		}, getTransformer());
+		// Method for get products list by category
+		get("/category/:category_id", (request, response) -> {
+			List<Product> products = getService().getCategoryProducts(
+				request,
+				getRight(),
+				getReadActionName()
+			);
+			return getListAnswer(request, response, products);
+		}, getTransformer());
+		// Method for get products list by tag
+		get("/tag/:tag_id", (request, response) -> {
+			List<Product> products = getService().getTagProducts(
+				request,
+				getRight(),
+				getReadActionName()
+			);
+			return getListAnswer(request, response, products);
+		}, getTransformer());
+		// Method for get products list sorted by price in currency
+		get("/price/:currency", (request, response) -> {
+			List<Product> products = getService().getPriceProducts(
+				request,
+				getRight(),
+				getReadActionName()
+			);
+			return getListAnswer(request, response, products);
+		}, getTransformer());
+		// Method for get products list of owner by catalog
+		get("/owner/:user_id/catalog/:catalog_id", (request, response) -> {
+			List<Product> products = getService().getOwnerCatalogProducts(
+				request,
+				getRight(),
+				getReadActionName()
+			);
+			return getListAnswer(request, response, products);
+		}, getTransformer());
+	}
 }
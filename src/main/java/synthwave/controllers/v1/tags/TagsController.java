@@ -20,6 +20,11 @@ import dev.morphia.Datastore;
 public class TagsController
 	extends RESTController<Tag, TagsRepository, TagService> {
 
+	@Override
+	protected String getBatchPath() {
+		return "/owner/:user_id/batch";
+	}
+
 	@Override
 	protected void beforeUpdateRoute(Request request, Response response) 
 		throws AccessException {
@@ -6,6 +6,7 @@
 package synthwave.dto;
 
 import core.dto.BaseDTO;
+import org.bson.types.ObjectId;
 import synthwave.models.morphia.extend.User;
 
 /**
@@ -13,6 +14,7 @@ import synthwave.models.morphia.extend.User;
  * @author small-entropy
  */
 public class CatalogDTO extends BaseDTO {
+    private ObjectId id;
     private String name;
     private String title;
     private String description;
@@ -23,6 +25,22 @@ public class CatalogDTO extends BaseDTO {
      */
     public CatalogDTO() {}
 
+    /**
+     * Getter for id property
+     * @return value of id property
+     */
+    public ObjectId getId() {
+        return id;
+    }
+
+    /**
+     * Setter for id property
+     * @param id new value for id property
+     */
+    public void setId(ObjectId id) {
+        this.id = id;
+    }
+
     /**
      * Getter for name property
      * @return value of name property
@@ -4,12 +4,14 @@ import core.dto.BaseDTO;
 import core.models.morphia.embeddeds.EmbeddedProperty;
 import synthwave.models.morphia.extend.User;
 import java.util.List;
+import org.bson.types.ObjectId;
 
 /**
  * Class data transfer object for company model
  * @author small-entropy
  */
 public class CompanyDTO extends BaseDTO {
+    private ObjectId id;
     private String name;
     private String title;
     private String description;
@@ -19,6 +21,14 @@ public class CompanyDTO extends BaseDTO {
 
     public CompanyDTO() {}
 
+    public ObjectId getId() {
+        return id;
+    }
+
+    public void setId(ObjectId id) {
+        this.id = id;
+    }
+
     public CompanyDTO(
             String name, 
             String title, 
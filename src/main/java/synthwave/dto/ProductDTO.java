@@ -0,0 +1,138 @@
+package synthwave.dto;
+
+import core.dto.BaseDTO;
+import core.models.morphia.embeddeds.EmbeddedProperty;
+import synthwave.models.morphia.embeddeds.EmbeddedPrice;
+import synthwave.models.morphia.extend.Catalog;
+import synthwave.models.morphia.extend.Category;
+import synthwave.models.morphia.extend.Company;
+import synthwave.models.morphia.extend.User;
+import synthwave.models.morphia.simple.Tag;
+import java.util.List;
+import org.bson.types.ObjectId;
+
+/**
+ * Class data transfer object for product model data
+ * @author small-entropy
+ */
+public class ProductDTO extends BaseDTO {
+    private ObjectId id;
+    private String name;
+    private String title;
+    private String brief;
+    private String description;
+    private Catalog catalog;
+    private List<Category> categories;
+    private List<Tag> tags;
+    private List<EmbeddedPrice> prices;
+    private List<EmbeddedProperty> scores;
+    private Company seller;
+    private Company manufacturer;
+    private User owner;
+
+    public ProductDTO() {}
+
+    public ObjectId getId() {
+        return id;
+    }
+
+    public void setId(ObjectId id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getBrief() {
+        return brief;
+    }
+
+    public void setBrief(String brief) {
+        this.brief = brief;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public Catalog getCatalog() {
+        return catalog;
+    }
+
+    public void setCatalog(Catalog catalog) {
+        this.catalog = catalog;
+    }
+
+    public List<Category> getCategories() {
+        return categories;
+    }
+
+    public void setCategories(List<Category> categories) {
+        this.categories = categories;
+    }
+
+    public List<Tag> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<Tag> tags) {
+        this.tags = tags;
+    }
+
+    public List<EmbeddedPrice> getPrices() {
+        return prices;
+    }
+
+    public void setPrices(List<EmbeddedPrice> prices) {
+        this.prices = prices;
+    }
+
+    public List<EmbeddedProperty> getScores() {
+        return scores;
+    }
+
+    public void setScores(List<EmbeddedProperty> scores) {
+        this.scores = scores;
+    }
+
+    public Company getSeller() {
+        return seller;
+    }
+
+    public void setSeller(Company seller) {
+        this.seller = seller;
+    }
+
+    public Company getManufacturer() {
+        return manufacturer;
+    }
+
+    public void setManufacturer(Company manufacturer) {
+        this.manufacturer = manufacturer;
+    }
+
+    public User getOwner() {
+        return owner;
+    }
+
+    public void setOwner(User owner) {
+        this.owner = owner;
+    }
+}
@@ -1,6 +1,7 @@
 package synthwave.dto;
 
 import core.dto.BaseDTO;
+import org.bson.types.ObjectId;
 import synthwave.models.morphia.extend.User;
 
 /**
@@ -8,6 +9,7 @@ import synthwave.models.morphia.extend.User;
  * @author small-entropy
  */
 public class TagDTO extends BaseDTO {
+    private ObjectId id;
     private String name;
     private String title;
     private String description;
@@ -15,6 +17,14 @@ public class TagDTO extends BaseDTO {
 
     public TagDTO() {}
 
+    public ObjectId getId() {
+        return id;
+    }
+
+    public void setId(ObjectId id) {
+        this.id = id;
+    }
+
     public String getDescription() {
         return description;
     }
@@ -9,6 +9,10 @@ import org.bson.types.ObjectId;
  */
 public class CategoriesFilter extends Filter {
     private ObjectId catalog;
+    /** Property for id of subtree root category */
+    private ObjectId parent;
+    /** Property for maximal depth of categories in tree */
+    private Integer maxDepth;
     
     public CategoriesFilter() {
         super();
@@ -33,4 +37,20 @@ public class CategoriesFilter extends Filter {
     public void setCatalog(ObjectId catalog) {
         this.catalog = catalog;
     }
+
+    public ObjectId getParent() {
+        return parent;
+    }
+
+    public void setParent(ObjectId parent) {
+        this.parent = parent;
+    }
+
+    public Integer getMaxDepth() {
+        return maxDepth;
+    }
+
+    public void setMaxDepth(Integer maxDepth) {
+        this.maxDepth = maxDepth;
+    }
 }
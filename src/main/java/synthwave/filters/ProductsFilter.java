@@ -0,0 +1,138 @@
+package synthwave.filters;
+
+import core.filters.Filter;
+import java.util.List;
+import org.bson.types.ObjectId;
+
+/**
+ * Class for products filter
+ * @author small-entropy
+ */
+public class ProductsFilter extends Filter {
+    /** Property for catalog id */
+    private ObjectId catalog;
+    /** Property for category id */
+    private ObjectId category;
+    /** Property for tag id */
+    private ObjectId tag;
+    /** Property for selected categories ids (search) */
+    private List<ObjectId> categories = List.of();
+    /** Property for selected tags ids (search) */
+    private List<ObjectId> tags = List.of();
+    /** Property for selected sellers ids (search) */
+    private List<ObjectId> sellers = List.of();
+    /** Property for selected manufacturers ids (search) */
+    private List<ObjectId> manufacturers = List.of();
+    /** Property for currency code of prices */
+    private String currency;
+    /** Property for minimal price (in minor units) */
+    private Long priceMin;
+    /** Property for maximal price (in minor units) */
+    private Long priceMax;
+    /** Property for descending order by price */
+    private boolean descending;
+
+    public ProductsFilter() {
+        super();
+    }
+
+    public ProductsFilter(ObjectId id, String[] excludes) {
+        super(id, excludes);
+    }
+
+    public ProductsFilter(int skip, int limit, String[] excludes) {
+        super(skip, limit, excludes);
+    }
+
+    public ProductsFilter(String[] excludes) {
+        super(excludes);
+    }
+
+    public ObjectId getCatalog() {
+        return catalog;
+    }
+
+    public void setCatalog(ObjectId catalog) {
+        this.catalog = catalog;
+    }
+
+    public ObjectId getCategory() {
+        return category;
+    }
+
+    public void setCategory(ObjectId category) {
+        this.category = category;
+    }
+
+    public ObjectId getTag() {
+        return tag;
+    }
+
+    public void setTag(ObjectId tag) {
+        this.tag = tag;
+    }
+
+    public List<ObjectId> getCategories() {
+        return categories;
+    }
+
+    public void setCategories(List<ObjectId> categories) {
+        this.categories = categories;
+    }
+
+    public List<ObjectId> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<ObjectId> tags) {
+        this.tags = tags;
+    }
+
+    public List<ObjectId> getSellers() {
+        return sellers;
+    }
+
+    public void setSellers(List<ObjectId> sellers) {
+        this.sellers = sellers;
+    }
+
+    public List<ObjectId> getManufacturers() {
+        return manufacturers;
+    }
+
+    public void setManufacturers(List<ObjectId> manufacturers) {
+        this.manufacturers = manufacturers;
+    }
+
+    public Long getPriceMin() {
+        return priceMin;
+    }
+
+    public void setPriceMin(Long priceMin) {
+        this.priceMin = priceMin;
+    }
+
+    public Long getPriceMax() {
+        return priceMax;
+    }
+
+    public void setPriceMax(Long priceMax) {
+        this.priceMax = priceMax;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
+    public boolean isDescending() {
+        return descending;
+    }
+
+    public void setDescending(boolean descending) {
+        this.descending = descending;
+    }
+}
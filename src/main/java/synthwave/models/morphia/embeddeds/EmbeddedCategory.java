@@ -1,11 +1,13 @@
 package synthwave.models.morphia.embeddeds;
 
+import dev.morphia.annotations.Embedded;
 import org.bson.types.ObjectId;
 
 /**
  *
  * @author small-entropy
  */
+@Embedded
 public class EmbeddedCategory {
     private ObjectId id;
     private String title;
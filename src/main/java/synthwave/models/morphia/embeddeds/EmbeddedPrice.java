@@ -5,16 +5,19 @@
  */
 package synthwave.models.morphia.embeddeds;
 
+import dev.morphia.annotations.Embedded;
 import org.bson.types.ObjectId;
 
 /**
- * Model for embedded document price
+ * Model for embedded document price. Value stored in minor units of
+ * currency (for example - cents)
  * @author small-entropy
  */
+@Embedded
 public class EmbeddedPrice {
     private ObjectId id;
     private String name;
-    private String value;
+    private long value;
     private String currency;
     private String description;
 
@@ -23,7 +26,7 @@ public class EmbeddedPrice {
     public EmbeddedPrice(
             ObjectId id, 
             String name, 
-            String value, 
+            long value, 
             String currency, 
             String description
     ) {
@@ -66,11 +69,11 @@ public class EmbeddedPrice {
         this.name = name;
     }
 
-    public String getValue() {
+    public long getValue() {
         return value;
     }
 
-    public void setValue(String value) {
+    public void setValue(long value) {
         this.value = value;
     }
 }
@@ -18,6 +18,7 @@ public class EmbeddedTag {
     public EmbeddedTag(ObjectId id, String value, String name) {
         this.id = id;
         this.value = value;
+        this.name = name;
     }
 
     public String getName() {
@@ -16,7 +16,15 @@ import dev.morphia.annotations.*;
             options = @IndexOptions(unique = true)
     ),
     @Index(fields = @Field("title")),
-    @Index(fields = @Field("owner"))
+    @Index(fields = {
+        @Field("status"),
+        @Field("_id")
+    }),
+    @Index(fields = {
+        @Field("status"),
+        @Field("owner.id"),
+        @Field("_id")
+    })
 })
 public class Catalog extends DocumentExtended {
     @Version private Long version;
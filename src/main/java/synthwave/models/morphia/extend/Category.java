@@ -21,14 +21,44 @@ import org.bson.types.ObjectId;
             options = @IndexOptions(unique = true)
     ),
     @Index(fields = @Field("title")),
-    @Index(fields = @Field("catalog")),
-    @Index(fields = @Field("owner"))
+    @Index(fields = {
+        @Field("status"),
+        @Field("_id")
+    }),
+    @Index(fields = {
+        @Field("status"),
+        @Field("owner.id"),
+        @Field("_id")
+    }),
+    @Index(fields = {
+        @Field("status"),
+        @Field("catalog.id"),
+        @Field("_id")
+    }),
+    @Index(fields = {
+        @Field("status"),
+        @Field("catalog.id"),
+        @Field("depth"),
+        @Field("_id")
+    }),
+    @Index(fields = {
+        @Field("status"),
+        @Field("ancestors"),
+        @Field("depth"),
+        @Field("_id")
+    })
 })
 public class Category extends DocumentExtended {
     
     private EmbeddedCatalog catalog;
     private List<EmbeddedBreadcrumb> breadcrumbs;
     private List<EmbeddedBreadcrumb> childs;
+    /** Id of parent category (null for root category) */
+    private ObjectId parent;
+    /** Ids of ancestors categories (from root category to parent) */
+    private List<ObjectId> ancestors;
+    /** Depth of category in tree (0 for root category) */
+    private int depth;
     @Version private Long version;
 
     public Category() {
@@ -117,6 +147,30 @@ public class Category extends DocumentExtended {
         this.childs = childs;
     }
 
+    public ObjectId getParent() {
+        return parent;
+    }
+
+    public void setParent(ObjectId parent) {
+        this.parent = parent;
+    }
+
+    public List<ObjectId> getAncestors() {
+        return ancestors;
+    }
+
+    public void setAncestors(List<ObjectId> ancestors) {
+        this.ancestors = ancestors;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public void setDepth(int depth) {
+        this.depth = depth;
+    }
+
     public Long getVersion() {
         return version;
     }
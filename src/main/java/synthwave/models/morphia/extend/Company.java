@@ -25,7 +25,16 @@ import org.bson.types.ObjectId;
     @Index(
             fields = @Field("title"),
             options = @IndexOptions(unique = true)
-    )
+    ),
+    @Index(fields = {
+        @Field("status"),
+        @Field("_id")
+    }),
+    @Index(fields = {
+        @Field("status"),
+        @Field("owner.id"),
+        @Field("_id")
+    })
 })
 public class Company extends DocumentExtended {
     @Version private Long version;
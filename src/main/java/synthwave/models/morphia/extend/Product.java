@@ -8,21 +8,62 @@ import core.models.morphia.embeddeds.EmbeddedOwner;
 import synthwave.models.morphia.embeddeds.EmbeddedPrice;
 import core.models.morphia.embeddeds.EmbeddedProperty;
 import synthwave.models.morphia.embeddeds.EmbeddedTag;
-import dev.morphia.annotations.Entity;
-import dev.morphia.annotations.Version;
+import core.utils.PriceManager;
+import dev.morphia.annotations.*;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import org.bson.Document;
 
 /**
  * Model for work with products collection
  * @author small-entropy
  */
 @Entity("products")
+@Indexes({
+    @Index(
+            fields = @Field("name"),
+            options = @IndexOptions(unique = true)
+    ),
+    @Index(fields = {
+        @Field("status"),
+        @Field("_id")
+    }),
+    @Index(fields = {
+        @Field("status"),
+        @Field("owner.id"),
+        @Field("_id")
+    }),
+    @Index(fields = {
+        @Field("status"),
+        @Field("catalog.id"),
+        @Field("_id")
+    }),
+    @Index(fields = {
+        @Field("status"),
+        @Field("categories.id"),
+        @Field("_id")
+    }),
+    @Index(fields = {
+        @Field("status"),
+        @Field("tags.id"),
+        @Field("_id")
+    }),
+    @Index(fields = {
+        @Field("status"),
+        @Field("owner.id"),
+        @Field("catalog.id"),
+        @Field("_id")
+    })
+})
 public class Product extends DocumentExtended {
     
     private String brief;
     private EmbeddedCatalog catalog;
     private List<EmbeddedPrice> prices;
+    /** Minimal price (in minor units) by currency code (for price index) */
+    private Map<String, Long> price;
     private List<EmbeddedCategory> categories;
     private List<EmbeddedProperty> scores;
     private List<EmbeddedTag> tags;
@@ -63,6 +104,22 @@ public class Product extends DocumentExtended {
         this.manufacturer = manufacturer;
     }
     
+    /**
+     * Getter for minimal prices by currency
+     * @return minimal prices (in minor units) by currency code
+     */
+    public Map<String, Long> getPrice() {
+        return price;
+    }
+
+    /**
+     * Setter for minimal prices by currency
+     * @param price new value of minimal prices by currency code
+     */
+    public void setPrice(Map<String, Long> price) {
+        this.price = price;
+    }
+
     /**
      * Getter for scores list
      * @return current value of scores list
@@ -206,4 +263,44 @@ public class Product extends DocumentExtended {
     public void setVersion(Long version) {
         this.version = version;
     }
+
+    /**
+     * Method for convert prices stored as decimal strings (documents not
+     * migrated to minor units yet) on load. Prices which can not be
+     * converted skipped in loaded document (stored document not changed)
+     * @param document stored document
+     */
+    @PreLoad
+    void convertLegacyPrices(Document document) {
+        Object prices = document.get("prices");
+        if (!(prices instanceof List)) {
+            return;
+        }
+        List<Object> converted = new ArrayList<>();
+        boolean legacy = false;
+        for (Object item : (List<?>) prices) {
+            Object value = (item instanceof Document)
+                    ? ((Document) item).get("value")
+                    : null;
+            if (value instanceof String) {
+                legacy = true;
+                Document price = (Document) item;
+                Object code = price.get("currency");
+                String currency = (code instanceof String)
+                        ? PriceManager.normalizeCurrency((String) code)
+                        : null;
+                try {
+                    long minor = PriceManager.toMinorUnits((String) value, currency);
+                    converted.add(new Document(price).append("value", minor));
+                } catch (NumberFormatException exception) {
+                    // Not converted price left in database for migration
+                }
+            } else {
+                converted.add(item);
+            }
+        }
+        if (legacy) {
+            document.put("prices", converted);
+        }
+    }
 }
@@ -16,7 +16,10 @@ import java.util.List;
             fields = @Field("username"), 
             options = @IndexOptions(unique = true)
     ),
-    @Index(fields = @Field("profile"))
+    @Index(fields = {
+        @Field("status"),
+        @Field("_id")
+    })
 })
 public class User extends StandaloneExtended {
 
@@ -110,6 +113,14 @@ public class User extends StandaloneExtended {
         return this.issuedToken;
     }
 
+    /**
+     * Getter for hashed password
+     * @return hashed user password
+     */
+    public String getPassword() {
+        return this.password;
+    }
+
     /**
      * Setter for password
      * @param notEncryptPassword not encrypt user password
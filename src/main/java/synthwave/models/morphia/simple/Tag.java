@@ -22,7 +22,16 @@ import engine.models.morphia.simple.Document;
     @Index(
             fields = @Field("title"),
             options = @IndexOptions(unique = true)
-    )
+    ),
+    @Index(fields = {
+        @Field("status"),
+        @Field("_id")
+    }),
+    @Index(fields = {
+        @Field("status"),
+        @Field("owner.id"),
+        @Field("_id")
+    })
 })
 public class Tag extends Document {
 
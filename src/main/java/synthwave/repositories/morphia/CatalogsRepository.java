@@ -6,6 +6,8 @@ import synthwave.models.morphia.extend.Catalog;
 import core.models.morphia.embeddeds.EmbeddedOwner;
 import engine.repositories.morphia.MorphiaRepository;
 import dev.morphia.Datastore;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Class for datastore source for catalogs collection
@@ -24,12 +26,12 @@ public class CatalogsRepository
 
     
     /**
-     * Method for create catalog document
+     * Method for build catalog document
      * @param catalogDTO catalog data transfer object
-     * @return created catalog document
+     * @return catalog document
      */
     @Override
-    public Catalog create(CatalogDTO catalogDTO) {
+    protected Catalog build(CatalogDTO catalogDTO) {
         EmbeddedOwner owner = new EmbeddedOwner(
                 catalogDTO.getOwner().getId(),
                 catalogDTO.getOwner().getUsername()
@@ -40,33 +42,23 @@ public class CatalogsRepository
                 catalogDTO.getDescription(),
                 owner
         );
-        save(catalog);
         return catalog;
     }
     
     /**
-     * Handler for method update catalog document
+     * Method for get changed fields of catalog document
      * @param catalogDTO catalog data transfer object
-     * @param catalog catalog document
-     * @return result of changed
+     * @return changed fields
      */
     @Override
-    protected boolean updateHandler(CatalogDTO catalogDTO, Catalog catalog) {
-        boolean changed = false;
-        var description = catalogDTO.getDescription();
-        var title = catalogDTO.getTitle();
-        if (title != null && (catalog.getTitle() == null
-                || !catalog.getTitle().equals(title))) {
-            catalog.setTitle(title);
-            changed = true;
+    protected Map<String, Object> getUpdates(CatalogDTO catalogDTO) {
+        Map<String, Object> updates = new HashMap<>();
+        if (catalogDTO.getTitle() != null) {
+            updates.put("title", catalogDTO.getTitle());
         }
-        if (description != null && (catalog.getDescription() == null
-                || !catalog.getDescription().equals(description))) {
-            catalog.setDescription(description);
-            if(!changed) {
-                changed = true;
-            }
+        if (catalogDTO.getDescription() != null) {
+            updates.put("description", catalogDTO.getDescription());
         }
-        return changed;
+        return updates;
     }
 }
@@ -5,14 +5,34 @@ import synthwave.filters.CategoriesFilter;
 import synthwave.models.morphia.embeddeds.EmbeddedBreadcrumb;
 import synthwave.models.morphia.embeddeds.EmbeddedCatalog;
 import synthwave.models.morphia.extend.Category;
+import core.exceptions.DataException;
 import core.models.morphia.embeddeds.EmbeddedOwner;
 import engine.repositories.morphia.MorphiaRepository;
+import engine.repositories.morphia.QueryShape;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.CountOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.UpdateManyModel;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
 import dev.morphia.Datastore;
-import dev.morphia.query.FindOptions;
-import static dev.morphia.query.experimental.filters.Filters.and;
-import static dev.morphia.query.experimental.filters.Filters.eq;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Class datasource for categories collection
@@ -21,6 +41,27 @@ import java.util.List;
 public class CategoriesRepository 
         extends MorphiaRepository<Category, CategoriesFilter, CategoryDTO>{
     
+    /** Logger of categories repository */
+    private static final Logger LOGGER = LoggerFactory.getLogger(CategoriesRepository.class);
+    /** Name of category catalog id field */
+    protected static final String CATALOG_FIELD = "catalog.id";
+    /** Name of parent category id field */
+    protected static final String PARENT_FIELD = "parent";
+    /** Name of ancestors categories ids field */
+    protected static final String ANCESTORS_FIELD = "ancestors";
+    /** Name of breadcrumbs field */
+    protected static final String BREADCRUMBS_FIELD = "breadcrumbs";
+    /** Name of category depth field */
+    protected static final String DEPTH_FIELD = "depth";
+    /** Maximum count of categories in one tree request */
+    private static final int MAX_TREE_SIZE = 10000;
+    /** Shapes of queries issued by repository (for index advisor) */
+    public static final List<QueryShape> CATEGORY_QUERY_SHAPES = List.of(
+            new QueryShape("findAllByCatalogId", ID_FIELD, STATUS_FIELD, CATALOG_FIELD),
+            new QueryShape("findTreeByCatalogId", DEPTH_FIELD, STATUS_FIELD, CATALOG_FIELD),
+            new QueryShape("findSubtree", DEPTH_FIELD, STATUS_FIELD, ANCESTORS_FIELD)
+    );
+    
     /**
      * Constructor for datastore source of categories collection
      * @param datastore Morphia datastore
@@ -30,12 +71,12 @@ public class CategoriesRepository
     }
     
     /**
-     * Method for create category document
+     * Method for build category document
      * @param categoryDTO category data transfer object
-     * @return created category document
+     * @return category document
      */
     @Override
-    public Category create(CategoryDTO categoryDTO) {
+    protected Category build(CategoryDTO categoryDTO) {
         // Create owner document
         // Attention! Owner of category may be not equeal owner of catalog!
         EmbeddedOwner owner = new EmbeddedOwner(
@@ -48,33 +89,73 @@ public class CategoriesRepository
                 categoryDTO.getCatalog().getTitle(),
                 categoryDTO.getCatalog().getOwner()
         ); 
-        // Create empty breadcrumbs list
-        List<EmbeddedBreadcrumb> breadcrumbs = Arrays.asList();
-        // Check on exist in data transfer object on exist parent field.
-        // If field exist - create BreadcrumbCategory document and add it to
-        // breadcrumbs list. 
-        // If field not exist - no do anything.
-        if (categoryDTO.getParent() != null) {
-            EmbeddedBreadcrumb breadcrumb = new EmbeddedBreadcrumb(
-                    categoryDTO.getParent().getId(),
-                    categoryDTO.getParent().getTitle()
-            );
-            breadcrumbs.add(breadcrumb);
-        }
+        // Path of category in tree created by parent document (parent
+        // must be loaded from database)
+        Category parent = categoryDTO.getParent();
+        List<ObjectId> ancestors = getChildAncestors(parent);
         // Create category document
         Category category = new Category(
                 categoryDTO.getName(),
                 categoryDTO.getTitle(),
                 categoryDTO.getDescription(),
                 catalog,
-                breadcrumbs,
+                getChildBreadcrumbs(parent),
                 owner
         );
-        // Save document in database
-        save(category);
-        // Return saved document
+        category.setParent((parent != null) ? parent.getId() : null);
+        category.setAncestors(ancestors);
+        category.setDepth(ancestors.size());
         return category;
     }
+    
+    /**
+     * Method for get ancestors of child category by parent category
+     * @param parent parent category (null for root category)
+     * @return ids of ancestors (from root category to parent)
+     */
+    protected static List<ObjectId> getChildAncestors(Category parent) {
+        List<ObjectId> ancestors = new ArrayList<>();
+        if (parent != null) {
+            if (parent.getAncestors() != null) {
+                ancestors.addAll(parent.getAncestors());
+            }
+            ancestors.add(parent.getId());
+        }
+        return ancestors;
+    }
+    
+    /**
+     * Method for get breadcrumbs of child category by parent category
+     * @param parent parent category (null for root category)
+     * @return breadcrumbs (from root category to parent)
+     */
+    protected static List<EmbeddedBreadcrumb> getChildBreadcrumbs(Category parent) {
+        List<EmbeddedBreadcrumb> breadcrumbs = new ArrayList<>();
+        if (parent != null) {
+            if (parent.getBreadcrumbs() != null) {
+                breadcrumbs.addAll(parent.getBreadcrumbs());
+            }
+            breadcrumbs.add(new EmbeddedBreadcrumb(parent.getId(), parent.getTitle()));
+        }
+        return breadcrumbs;
+    }
+    
+    /**
+     * Method for get changed fields of category document
+     * @param categoryDTO category data transfer object
+     * @return changed fields
+     */
+    @Override
+    protected Map<String, Object> getUpdates(CategoryDTO categoryDTO) {
+        Map<String, Object> updates = new HashMap<>();
+        if (categoryDTO.getTitle() != null) {
+            updates.put("title", categoryDTO.getTitle());
+        }
+        if (categoryDTO.getDescription() != null) {
+            updates.put("description", categoryDTO.getDescription());
+        }
+        return updates;
+    }
 
     /**
      * Method for get all categories by catalog id
@@ -82,52 +163,301 @@ public class CategoriesRepository
      * @return list of all categories for catalog
      */
     public List<Category> findAllByCatalogId(CategoriesFilter filter) {
-        FindOptions findOptions = new FindOptions()
-                .projection()
-                .exclude(filter.getExcludes())
-                .skip(filter.getSkip())
-                .limit(filter.getLimit());
-        return getStore()
-                .find(getModelClass())
-                .filter(and(
-                        eq("status", filter.getStatus()),
-                        eq("catalog.id", filter.getCatalog())
-                ))
-                .iterator(findOptions)
-                .toList();
+        return findList(
+                filter,
+                Filters.eq(STATUS_FIELD, filter.getStatus()),
+                Filters.eq(CATALOG_FIELD, filter.getCatalog())
+        );
+    }
+
+    /**
+     * Method for get categories of catalog tree sorted by depth (depth of
+     * tree limited by filter max depth)
+     * @param filter filter object
+     * @return list of catalog categories
+     */
+    public List<Category> findTreeByCatalogId(CategoriesFilter filter) {
+        return findTree(filter, Filters.eq(CATALOG_FIELD, filter.getCatalog()));
     }
     
     /**
-     * Handler for update document method 
-     * @param categoryDTO category data transfer object
-     * @param category category document
-     * @return result of update
+     * Method for get descendants of category (by filter parent) sorted by
+     * depth (depth of subtree limited by filter max depth)
+     * @param filter filter object
+     * @return list of descendants categories
      */
-    @Override
-    protected boolean updateHandler(
-            CategoryDTO categoryDTO, 
-            Category category
+    public List<Category> findSubtree(CategoriesFilter filter) {
+        return findTree(filter, Filters.eq(ANCESTORS_FIELD, filter.getParent()));
+    }
+    
+    /**
+     * Method for get categories of tree sorted by depth
+     * @param filter filter object
+     * @param scope query filter of tree
+     * @return list of categories
+     */
+    private List<Category> findTree(CategoriesFilter filter, Bson scope) {
+        List<Bson> conditions = new ArrayList<>();
+        conditions.add(Filters.eq(STATUS_FIELD, filter.getStatus()));
+        conditions.add(scope);
+        if (filter.getMaxDepth() != null) {
+            conditions.add(Filters.lte(DEPTH_FIELD, filter.getMaxDepth()));
+        }
+        long start = System.nanoTime();
+        List<Category> categories = find(filter, Filters.and(conditions))
+                .sort(Sorts.ascending(DEPTH_FIELD, ID_FIELD))
+                .limit(MAX_TREE_SIZE)
+                .into(new ArrayList<>());
+        observe("findTree", start);
+        return categories;
+    }
+    
+    /**
+     * Method for move category of owner to new parent category. Path of
+     * category & paths of all descendants updated (descendants updated by
+     * one request)
+     * @param ownerId owner id
+     * @param categoryId category id
+     * @param parent new parent category (null for move to root)
+     * @return moved category
+     * @throws DataException throw if category can not be found or parent
+     *                       is descendant of category
+     */
+    public Category move(
+            ObjectId ownerId, 
+            ObjectId categoryId, 
+            Category parent
+    ) throws DataException {
+        List<ObjectId> ancestors = getChildAncestors(parent);
+        if (ancestors.contains(categoryId)) {
+            Error error = new Error("Category can not be moved to own subtree");
+            throw new DataException("CanNotUpdate", error);
+        }
+        List<EmbeddedBreadcrumb> breadcrumbs = getChildBreadcrumbs(parent);
+        Map<String, Object> updates = new HashMap<>();
+        updates.put(PARENT_FIELD, (parent != null) ? parent.getId() : null);
+        updates.put(ANCESTORS_FIELD, ancestors);
+        updates.put(BREADCRUMBS_FIELD, breadcrumbs);
+        updates.put(DEPTH_FIELD, ancestors.size());
+        Category category = modifyOne(
+                getOwnerFilter(categoryId, ownerId),
+                getUpdate(updates),
+                null
+        );
+        if (category == null) {
+            Error error = new Error("Can not find category");
+            throw new DataException("NotFound", error);
+        }
+        // Replace path prefix (before moved category) of all descendants
+        List<Document> prefix = new ArrayList<>();
+        for (EmbeddedBreadcrumb breadcrumb : breadcrumbs) {
+            prefix.add(new Document("id", breadcrumb.getId())
+                    .append("title", breadcrumb.getTitle()));
+        }
+        long start = System.nanoTime();
+        getCollection().updateMany(
+                Filters.eq(ANCESTORS_FIELD, categoryId),
+                List.of(
+                        new Document("$set", new Document(
+                                ANCESTORS_FIELD,
+                                replacePrefix(ancestors, "$" + ANCESTORS_FIELD, categoryId)
+                        ).append(
+                                BREADCRUMBS_FIELD,
+                                replacePrefix(prefix, "$" + BREADCRUMBS_FIELD + ".id", categoryId)
+                        )),
+                        new Document("$set", new Document(
+                                DEPTH_FIELD,
+                                new Document("$size", "$" + ANCESTORS_FIELD)
+                        ))
+                )
+        );
+        observe("moveSubtree", start);
+        return category;
+    }
+    
+    /**
+     * Method for create expression of path with replaced prefix (elements
+     * before category in path)
+     * @param prefix new prefix
+     * @param ids expression of ids in path
+     * @param categoryId id of category from which path kept
+     * @return expression of path
+     */
+    private static Document replacePrefix(
+            List<?> prefix, 
+            String ids, 
+            ObjectId categoryId
     ) {
-        boolean changed = false;
-        var title = categoryDTO.getTitle();
-        var description = categoryDTO.getDescription();
-        var breadcrumbs = categoryDTO.getBradcrumbs();
-        if (title != null && (category.getTitle() == null
-                || !category.getTitle().equals(title))) {
-            category.setTitle(title);
-            changed = true;
-        }
-        if (description != null && (category.getDescription() == null
-                || !category.getDescription().equals(description))) {
-            category.setDescription(description);
-            if (!changed) {
-                changed = true;
+        // Path is ancestors or breadcrumbs array (ids resolved by path)
+        String path = ids.endsWith(".id") 
+                ? ids.substring(0, ids.length() - 3) 
+                : ids;
+        Document index = new Document("$max", List.of(
+                new Document("$indexOfArray", List.of(ids, categoryId)),
+                0
+        ));
+        Document size = new Document("$max", List.of(
+                new Document("$size", path),
+                1
+        ));
+        return new Document("$concatArrays", List.of(
+                new Document("$literal", prefix),
+                new Document("$slice", List.of(path, index, size))
+        ));
+    }
+    
+    /**
+     * Method for update title of category in breadcrumbs of descendants
+     * @param categoryId category id
+     * @param title new title of category
+     */
+    public void renameInSubtree(ObjectId categoryId, String title) {
+        renameInSubtrees(Map.of(categoryId, title));
+    }
+    
+    /**
+     * Method for update titles of categories in breadcrumbs of descendants
+     * by one not ordered bulk write
+     * @param titles new titles by categories ids
+     */
+    public void renameInSubtrees(Map<ObjectId, String> titles) {
+        if (titles.isEmpty()) {
+            return;
+        }
+        List<WriteModel<Category>> writes = new ArrayList<>(titles.size());
+        titles.forEach((categoryId, title) -> writes.add(new UpdateManyModel<>(
+                Filters.eq(ANCESTORS_FIELD, categoryId),
+                Updates.set(BREADCRUMBS_FIELD + ".$[crumb].title", title),
+                new UpdateOptions().arrayFilters(List.of(
+                        Filters.eq("crumb.id", categoryId)
+                ))
+        )));
+        long start = System.nanoTime();
+        getCollection().bulkWrite(writes, new BulkWriteOptions().ordered(false));
+        observe("renameInSubtrees", start);
+    }
+    
+    /**
+     * Method for deactivate active descendants of categories (tree can't
+     * contain active categories under inactive category)
+     * @param categoriesIds ids of deactivated categories
+     * @return count of deactivated descendants
+     */
+    public long deactivateDescendants(List<ObjectId> categoriesIds) {
+        if (categoriesIds.isEmpty()) {
+            return 0;
+        }
+        Map<String, Object> updates = new HashMap<>();
+        updates.put(STATUS_FIELD, INACTIVE);
+        long start = System.nanoTime();
+        long count = getCollection().updateMany(
+                Filters.and(
+                        Filters.in(ANCESTORS_FIELD, categoriesIds),
+                        Filters.eq(STATUS_FIELD, ACTIVE)
+                ),
+                getUpdate(updates)
+        ).getModifiedCount();
+        observe("deactivateDescendants", start);
+        return count;
+    }
+    
+    /**
+     * Method for fill paths (parent, ancestors, breadcrumbs & depth) of
+     * categories created before materialized paths. Parent of category got
+     * from last breadcrumb. Categories with paths not changed
+     * @return count of repaired categories
+     */
+    public long repairTree() {
+        MongoCollection<Document> collection = getCollection()
+                .withDocumentClass(Document.class);
+        Bson legacy = Filters.exists(ANCESTORS_FIELD, false);
+        if (collection.countDocuments(legacy, new CountOptions().limit(1)) == 0) {
+            return 0;
+        }
+        long start = System.nanoTime();
+        // Load short data of all categories (paths resolved by parents)
+        Map<ObjectId, Document> categories = new HashMap<>();
+        try (MongoCursor<Document> cursor = collection
+                .find()
+                .projection(Projections.include(
+                        "title",
+                        PARENT_FIELD,
+                        ANCESTORS_FIELD,
+                        BREADCRUMBS_FIELD
+                ))
+                .batchSize(STREAM_BATCH_SIZE)
+                .iterator()) {
+            while (cursor.hasNext()) {
+                Document category = cursor.next();
+                categories.put(category.getObjectId(ID_FIELD), category);
             }
         }
-        if (breadcrumbs != null) {
-            category.setBreadcrumbs(breadcrumbs);
-            changed = true;
+        List<WriteModel<Document>> updates = new ArrayList<>();
+        long repaired = 0;
+        for (Document category : categories.values()) {
+            if (category.containsKey(ANCESTORS_FIELD)) {
+                continue;
+            }
+            ObjectId id = category.getObjectId(ID_FIELD);
+            // Path from parent to root (stop on cycle or not exist parent)
+            List<ObjectId> ancestors = new ArrayList<>();
+            List<Document> breadcrumbs = new ArrayList<>();
+            Set<ObjectId> visited = new HashSet<>();
+            visited.add(id);
+            ObjectId parentId = getLegacyParent(category);
+            while (parentId != null 
+                    && categories.containsKey(parentId) 
+                    && visited.add(parentId)) {
+                Document parent = categories.get(parentId);
+                ancestors.add(0, parentId);
+                breadcrumbs.add(0, new Document("id", parentId)
+                        .append("title", parent.getString("title")));
+                parentId = getLegacyParent(parent);
+            }
+            ObjectId parent = (ancestors.isEmpty()) 
+                    ? null 
+                    : ancestors.get(ancestors.size() - 1);
+            updates.add(new UpdateOneModel<>(
+                    Filters.and(Filters.eq(ID_FIELD, id), legacy),
+                    Updates.combine(
+                            Updates.set(PARENT_FIELD, parent),
+                            Updates.set(ANCESTORS_FIELD, ancestors),
+                            Updates.set(BREADCRUMBS_FIELD, breadcrumbs),
+                            Updates.set(DEPTH_FIELD, ancestors.size())
+                    )
+            ));
+            if (updates.size() >= STREAM_BATCH_SIZE) {
+                repaired += collection.bulkWrite(updates).getModifiedCount();
+                updates.clear();
+            }
+        }
+        if (!updates.isEmpty()) {
+            repaired += collection.bulkWrite(updates).getModifiedCount();
+        }
+        observe("repairTree", start);
+        LOGGER.info("Paths of {} categories repaired", repaired);
+        return repaired;
+    }
+    
+    /**
+     * Method for get parent id of category (parent field or last breadcrumb
+     * for categories created before materialized paths)
+     * @param category category document
+     * @return parent id or null for root category
+     */
+    private static ObjectId getLegacyParent(Document category) {
+        if (category.containsKey(ANCESTORS_FIELD)) {
+            return category.getObjectId(PARENT_FIELD);
+        }
+        Object breadcrumbs = category.get(BREADCRUMBS_FIELD);
+        if (breadcrumbs instanceof List && !((List<?>) breadcrumbs).isEmpty()) {
+            List<?> items = (List<?>) breadcrumbs;
+            Object last = items.get(items.size() - 1);
+            if (last instanceof Document) {
+                Object id = ((Document) last).get("id");
+                return (id instanceof ObjectId) ? (ObjectId) id : null;
+            }
         }
-        return changed;
+        return null;
     }
 }
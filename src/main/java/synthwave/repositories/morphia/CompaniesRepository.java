@@ -6,6 +6,8 @@ import core.models.morphia.embeddeds.EmbeddedOwner;
 import synthwave.models.morphia.extend.Company;
 import engine.repositories.morphia.MorphiaRepository;
 import dev.morphia.Datastore;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Class repository for companies collection
@@ -23,19 +25,19 @@ public class CompaniesRepository
     }
     
     /**
-     * Method for create company document
+     * Method for build company document
      * @param companyDTO company data transfer object
-     * @return created company
+     * @return company document
      */
     @Override
-    public Company create(CompanyDTO companyDTO) {
+    protected Company build(CompanyDTO companyDTO) {
         // Create embedded owner document
         EmbeddedOwner owner = new EmbeddedOwner(
                 companyDTO.getOwner().getId(),
                 companyDTO.getOwner().getUsername()
         );
         // Create company document
-        Company company = new Company(
+        return new Company(
                 companyDTO.getName(),
                 companyDTO.getTitle(),
                 companyDTO.getDescription(),
@@ -43,35 +45,22 @@ public class CompaniesRepository
                 companyDTO.getProfile(),
                 companyDTO.getProperties()
         );
-        // Save company document in database
-        save(company);
-        // Return company document
-        return company;
     }
     
     /**
-     * Update handler for company document
+     * Method for get changed fields of company document
      * @param companyDTO company data transfer object
-     * @param company company document
-     * @return result of update
+     * @return changed fields
      */
     @Override
-    protected boolean updateHandler(CompanyDTO companyDTO, Company company) {
-        boolean changed = false;
-        var title = companyDTO.getDescription();
-        var description = companyDTO.getTitle();
-        if (title != null && (company.getTitle() == null
-                || !company.getTitle().equals(title))) {
-            company.setTitle(title);
-            changed = true;
+    protected Map<String, Object> getUpdates(CompanyDTO companyDTO) {
+        Map<String, Object> updates = new HashMap<>();
+        if (companyDTO.getTitle() != null) {
+            updates.put("title", companyDTO.getTitle());
         }
-        if (description != null && (company.getDescription() == null
-                || !company.getDescription().equals(description))) {
-            company.setDescription(description);
-            if (!changed) {
-                changed = true;
-            }
+        if (companyDTO.getDescription() != null) {
+            updates.put("description", companyDTO.getDescription());
         }
-        return changed;
+        return updates;
     }
 }
\ No newline at end of file
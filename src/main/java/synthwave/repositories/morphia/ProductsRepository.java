@@ -0,0 +1,830 @@
+package synthwave.repositories.morphia;
+
+import synthwave.dto.ProductDTO;
+import synthwave.filters.ProductsFilter;
+import synthwave.models.morphia.embeddeds.EmbeddedCatalog;
+import synthwave.models.morphia.embeddeds.EmbeddedCategory;
+import synthwave.models.morphia.embeddeds.EmbeddedCompany;
+import synthwave.models.morphia.embeddeds.EmbeddedTag;
+import synthwave.models.morphia.extend.Catalog;
+import synthwave.models.morphia.extend.Category;
+import synthwave.models.morphia.extend.Company;
+import synthwave.models.morphia.extend.Product;
+import synthwave.models.morphia.simple.Tag;
+import synthwave.models.morphia.embeddeds.EmbeddedPrice;
+import core.constants.Currencies;
+import core.models.morphia.embeddeds.EmbeddedOwner;
+import core.response.answers.FacetRange;
+import core.response.answers.FacetValue;
+import core.response.answers.FacetedList;
+import core.utils.PriceManager;
+import engine.repositories.morphia.MorphiaRepository;
+import engine.repositories.morphia.QueryShape;
+import com.mongodb.client.model.Accumulators;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Facet;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+import dev.morphia.Datastore;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonType;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Class datasource for products collection
+ * @author small-entropy
+ */
+public class ProductsRepository
+        extends MorphiaRepository<Product, ProductsFilter, ProductDTO> {
+
+    /** Logger of products repository */
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProductsRepository.class);
+    /** Name of product catalog id field */
+    protected static final String CATALOG_FIELD = "catalog.id";
+    /** Name of product categories ids field */
+    protected static final String CATEGORY_FIELD = "categories.id";
+    /** Name of product tags ids field */
+    protected static final String TAG_FIELD = "tags.id";
+    /** Name of product seller id field */
+    protected static final String SELLER_FIELD = "seller.id";
+    /** Name of product manufacturer id field */
+    protected static final String MANUFACTURER_FIELD = "manufacturer.id";
+    /** Name of product minimal prices by currency field */
+    protected static final String PRICE_FIELD = "price";
+    /** Name of product prices field */
+    protected static final String PRICES_FIELD = "prices";
+    /** Name of categories facet */
+    public static final String CATEGORIES_FACET = "categories";
+    /** Name of tags facet */
+    public static final String TAGS_FACET = "tags";
+    /** Name of sellers facet */
+    public static final String SELLERS_FACET = "sellers";
+    /** Name of manufacturers facet */
+    public static final String MANUFACTURERS_FACET = "manufacturers";
+    /** Name of prices facet */
+    public static final String PRICES_FACET = "prices";
+    /** Name of search result items facet */
+    private static final String ITEMS_FACET = "items";
+    /** Name of search result total count facet */
+    private static final String TOTAL_FACET = "total";
+    /** Maximum count of values by facet */
+    private static final int FACET_LIMIT = 50;
+    /** Shapes of queries issued by repository (for index advisor) */
+    public static final List<QueryShape> PRODUCT_QUERY_SHAPES = List.of(
+            new QueryShape("findAllByCatalogId", ID_FIELD, STATUS_FIELD, CATALOG_FIELD),
+            new QueryShape("findAllByCategoryId", ID_FIELD, STATUS_FIELD, CATEGORY_FIELD),
+            new QueryShape("findAllByTagId", ID_FIELD, STATUS_FIELD, TAG_FIELD),
+            new QueryShape("search", ID_FIELD, STATUS_FIELD),
+            new QueryShape("searchByCatalogId", ID_FIELD, STATUS_FIELD, CATALOG_FIELD),
+            new QueryShape(
+                    "findAllByOwnerAndCatalogId",
+                    ID_FIELD,
+                    STATUS_FIELD,
+                    OWNER_FIELD,
+                    CATALOG_FIELD
+            )
+    );
+
+    /**
+     * Constructor for datastore source of products collection
+     * @param datastore Morphia datastore
+     */
+    public ProductsRepository(Datastore datastore) {
+        super(datastore, Product.class);
+    }
+
+    /**
+     * Method for build product document
+     * @param productDTO product data transfer object
+     * @return product document
+     */
+    @Override
+    protected Product build(ProductDTO productDTO) {
+        EmbeddedOwner owner = new EmbeddedOwner(
+                productDTO.getOwner().getId(),
+                productDTO.getOwner().getUsername()
+        );
+        List<EmbeddedPrice> prices = normalizePrices(productDTO.getPrices());
+        Product product = new Product(
+                productDTO.getName(),
+                productDTO.getTitle(),
+                productDTO.getBrief(),
+                productDTO.getDescription(),
+                getEmbeddedCatalog(productDTO.getCatalog()),
+                prices,
+                getEmbeddedCategories(productDTO.getCategories()),
+                null,
+                null,
+                productDTO.getScores(),
+                getEmbeddedTags(productDTO.getTags()),
+                getEmbeddedCompany(productDTO.getSeller()),
+                getEmbeddedCompany(productDTO.getManufacturer()),
+                owner,
+                null,
+                null
+        );
+        product.setPrice(getMinPrices(prices));
+        return product;
+    }
+
+    /**
+     * Method for get changed fields of product document
+     * @param productDTO product data transfer object
+     * @return changed fields
+     */
+    @Override
+    protected Map<String, Object> getUpdates(ProductDTO productDTO) {
+        Map<String, Object> updates = new HashMap<>();
+        if (productDTO.getTitle() != null) {
+            updates.put("title", productDTO.getTitle());
+        }
+        if (productDTO.getBrief() != null) {
+            updates.put("brief", productDTO.getBrief());
+        }
+        if (productDTO.getDescription() != null) {
+            updates.put("description", productDTO.getDescription());
+        }
+        if (productDTO.getPrices() != null) {
+            List<EmbeddedPrice> prices = normalizePrices(productDTO.getPrices());
+            updates.put("prices", prices);
+            updates.put(PRICE_FIELD, getMinPrices(prices));
+        }
+        if (productDTO.getScores() != null) {
+            updates.put("scores", productDTO.getScores());
+        }
+        if (productDTO.getCategories() != null) {
+            updates.put("categories", getEmbeddedCategories(productDTO.getCategories()));
+        }
+        if (productDTO.getTags() != null) {
+            updates.put("tags", getEmbeddedTags(productDTO.getTags()));
+        }
+        if (productDTO.getSeller() != null) {
+            updates.put("seller", getEmbeddedCompany(productDTO.getSeller()));
+        }
+        if (productDTO.getManufacturer() != null) {
+            updates.put("manufacturer", getEmbeddedCompany(productDTO.getManufacturer()));
+        }
+        return updates;
+    }
+
+    /**
+     * Method for get catalogs ids of active owner products by one query
+     * @param ownerId owner id
+     * @param ids products ids
+     * @return catalog id by product id (only for found products)
+     */
+    public Map<ObjectId, ObjectId> findCatalogIds(
+            ObjectId ownerId, 
+            List<ObjectId> ids
+    ) {
+        Map<ObjectId, ObjectId> catalogs = new HashMap<>();
+        List<ObjectId> unique = new ArrayList<>(new LinkedHashSet<>(ids));
+        unique.remove(null);
+        if (unique.isEmpty()) {
+            return catalogs;
+        }
+        long start = System.nanoTime();
+        getCollection()
+                .withDocumentClass(Document.class)
+                .find(Filters.and(
+                        Filters.in(ID_FIELD, unique),
+                        Filters.eq(OWNER_FIELD, ownerId),
+                        Filters.eq(STATUS_FIELD, ACTIVE)
+                ))
+                .projection(Projections.include(CATALOG_FIELD))
+                .forEach(document -> {
+                    Object catalog = document.get("catalog");
+                    catalogs.put(
+                            document.getObjectId(ID_FIELD),
+                            (catalog instanceof Document)
+                                    ? ((Document) catalog).getObjectId("id")
+                                    : null
+                    );
+                });
+        observe("findCatalogIds", start);
+        return catalogs;
+    }
+
+    /**
+     * Method for normalize currency codes of prices
+     * @param prices prices
+     * @return prices with normalized currency codes
+     */
+    private static List<EmbeddedPrice> normalizePrices(List<EmbeddedPrice> prices) {
+        if (prices != null) {
+            prices.removeIf(price -> price == null);
+            for (EmbeddedPrice price : prices) {
+                price.setCurrency(PriceManager.normalizeCurrency(price.getCurrency()));
+            }
+        }
+        return prices;
+    }
+
+    /**
+     * Method for get minimal prices by currency (value of indexed price
+     * field)
+     * @param prices prices
+     * @return minimal prices (in minor units) by currency code
+     */
+    private static Map<String, Long> getMinPrices(List<EmbeddedPrice> prices) {
+        Map<String, Long> minPrices = new HashMap<>();
+        if (prices != null) {
+            for (EmbeddedPrice price : prices) {
+                if (price.getCurrency() != null) {
+                    minPrices.merge(price.getCurrency(), price.getValue(), Math::min);
+                }
+            }
+        }
+        return minPrices;
+    }
+
+    /**
+     * Method for get name of indexed price field by currency
+     * @param currency currency code
+     * @return name of price field
+     */
+    protected static String getPriceField(String currency) {
+        return PRICE_FIELD + "." + currency;
+    }
+
+    /**
+     * Method for create embedded catalog document
+     * @param catalog catalog document
+     * @return embedded catalog document
+     */
+    private static EmbeddedCatalog getEmbeddedCatalog(Catalog catalog) {
+        return (catalog != null)
+                ? new EmbeddedCatalog(
+                        catalog.getId(),
+                        catalog.getTitle(),
+                        catalog.getOwner()
+                )
+                : null;
+    }
+
+    /**
+     * Method for create list of embedded categories documents
+     * @param categories categories documents
+     * @return list of embedded categories documents
+     */
+    private static List<EmbeddedCategory> getEmbeddedCategories(
+            List<Category> categories
+    ) {
+        List<EmbeddedCategory> embeddeds = new ArrayList<>();
+        if (categories != null) {
+            for (Category category : categories) {
+                String owner = (category.getOwner() != null)
+                        ? category.getOwner().getUsername()
+                        : null;
+                embeddeds.add(new EmbeddedCategory(
+                        category.getId(),
+                        category.getTitle(),
+                        owner
+                ));
+            }
+        }
+        return embeddeds;
+    }
+
+    /**
+     * Method for create list of embedded tags documents
+     * @param tags tags documents
+     * @return list of embedded tags documents
+     */
+    private static List<EmbeddedTag> getEmbeddedTags(List<Tag> tags) {
+        List<EmbeddedTag> embeddeds = new ArrayList<>();
+        if (tags != null) {
+            for (Tag tag : tags) {
+                embeddeds.add(new EmbeddedTag(
+                        tag.getId(),
+                        tag.getTitle(),
+                        tag.getName()
+                ));
+            }
+        }
+        return embeddeds;
+    }
+
+    /**
+     * Method for create embedded company document
+     * @param company company document
+     * @return embedded company document
+     */
+    private static EmbeddedCompany getEmbeddedCompany(Company company) {
+        return (company != null)
+                ? new EmbeddedCompany(
+                        company.getId(),
+                        company.getTitle(),
+                        company.getDescription(),
+                        company.getOwner()
+                )
+                : null;
+    }
+
+    /**
+     * Method for get all products by catalog id
+     * @param filter filter object
+     * @return list of catalog products
+     */
+    public List<Product> findAllByCatalogId(ProductsFilter filter) {
+        return findList(
+                filter,
+                Filters.eq(STATUS_FIELD, filter.getStatus()),
+                Filters.eq(CATALOG_FIELD, filter.getCatalog())
+        );
+    }
+
+    /**
+     * Method for get all products by category id
+     * @param filter filter object
+     * @return list of category products
+     */
+    public List<Product> findAllByCategoryId(ProductsFilter filter) {
+        return findList(
+                filter,
+                Filters.eq(STATUS_FIELD, filter.getStatus()),
+                Filters.eq(CATEGORY_FIELD, filter.getCategory())
+        );
+    }
+
+    /**
+     * Method for get all products by tag id
+     * @param filter filter object
+     * @return list of products with tag
+     */
+    public List<Product> findAllByTagId(ProductsFilter filter) {
+        return findList(
+                filter,
+                Filters.eq(STATUS_FIELD, filter.getStatus()),
+                Filters.eq(TAG_FIELD, filter.getTag())
+        );
+    }
+
+    /**
+     * Method for get all products of owner by catalog id
+     * @param filter filter object
+     * @return list of owner products in catalog
+     */
+    public List<Product> findAllByOwnerAndCatalogId(ProductsFilter filter) {
+        return findList(
+                filter,
+                Filters.eq(STATUS_FIELD, filter.getStatus()),
+                Filters.eq(OWNER_FIELD, filter.getOwner()),
+                Filters.eq(CATALOG_FIELD, filter.getCatalog())
+        );
+    }
+
+    /**
+     * Method for get products with price in currency sorted by price.
+     * Query use price index of currency
+     * @param filter filter object (currency must be set)
+     * @return list of products sorted by price
+     */
+    public List<Product> findAllByPrice(ProductsFilter filter) {
+        String field = getPriceField(filter.getCurrency());
+        List<Bson> conditions = new ArrayList<>();
+        conditions.add(Filters.eq(STATUS_FIELD, filter.getStatus()));
+        conditions.add(Filters.exists(field));
+        if (filter.getPriceMin() != null) {
+            conditions.add(Filters.gte(field, filter.getPriceMin()));
+        }
+        if (filter.getPriceMax() != null) {
+            conditions.add(Filters.lte(field, filter.getPriceMax()));
+        }
+        long start = System.nanoTime();
+        List<Product> products = find(filter, Filters.and(conditions))
+                .skip(filter.getSkip())
+                .limit(filter.getLimit())
+                .sort((filter.isDescending())
+                        ? Sorts.descending(field, ID_FIELD)
+                        : Sorts.ascending(field, ID_FIELD))
+                .into(new ArrayList<>());
+        observe("findAllByPrice", start);
+        return products;
+    }
+
+    /**
+     * Method for create price indexes (status, price in currency & id) for
+     * all supported currencies. Currencies not declared in annotations, so
+     * indexes created by this method
+     */
+    public void ensurePriceIndexes() {
+        for (Currencies currency : Currencies.values()) {
+            getCollection().createIndex(Indexes.ascending(
+                    STATUS_FIELD,
+                    getPriceField(currency.getName()),
+                    ID_FIELD
+            ));
+        }
+    }
+
+    /**
+     * Method for migrate prices of existing products to minor units (prices
+     * stored as strings converted by currency digits) & fill minimal prices
+     * by currency. Document updated only if prices not changed since read.
+     * Products with not convertible prices not changed (left for manual
+     * fix) & counted as skipped
+     * @return count of migrated products
+     */
+    public long migratePrices() {
+        MongoCollection<Document> collection = getCollection()
+                .withDocumentClass(Document.class);
+        Bson legacy = Filters.or(
+                Filters.type(PRICES_FIELD + ".value", BsonType.STRING),
+                Filters.and(
+                        Filters.exists(PRICES_FIELD + ".0"),
+                        Filters.exists(PRICE_FIELD, false)
+                )
+        );
+        List<WriteModel<Document>> updates = new ArrayList<>();
+        long migrated = 0;
+        long skipped = 0;
+        long start = System.nanoTime();
+        try (MongoCursor<Document> cursor = collection
+                .find(legacy)
+                .projection(Projections.include(PRICES_FIELD))
+                .batchSize(STREAM_BATCH_SIZE)
+                .iterator()) {
+            while (cursor.hasNext()) {
+                Document document = cursor.next();
+                Object prices = document.get(PRICES_FIELD);
+                if (!(prices instanceof List)) {
+                    continue;
+                }
+                ObjectId id = document.getObjectId(ID_FIELD);
+                List<Document> converted = new ArrayList<>();
+                Map<String, Long> minPrices = new HashMap<>();
+                for (Object item : (List<?>) prices) {
+                    Document price = (item instanceof Document)
+                            ? convertPrice(id, (Document) item)
+                            : null;
+                    if (price == null) {
+                        converted = null;
+                        break;
+                    }
+                    converted.add(price);
+                    String currency = price.getString("currency");
+                    if (currency != null) {
+                        minPrices.merge(currency, price.getLong("value"), Math::min);
+                    }
+                }
+                if (converted == null) {
+                    skipped++;
+                    continue;
+                }
+                updates.add(new UpdateOneModel<>(
+                        Filters.and(
+                                Filters.eq(ID_FIELD, id),
+                                Filters.eq(PRICES_FIELD, prices)
+                        ),
+                        Updates.combine(
+                                Updates.set(PRICES_FIELD, converted),
+                                Updates.set(PRICE_FIELD, new Document(new HashMap<>(minPrices)))
+                        )
+                ));
+                if (updates.size() >= STREAM_BATCH_SIZE) {
+                    migrated += collection.bulkWrite(updates).getModifiedCount();
+                    updates.clear();
+                }
+            }
+        }
+        if (!updates.isEmpty()) {
+            migrated += collection.bulkWrite(updates).getModifiedCount();
+        }
+        observe("migratePrices", start);
+        LOGGER.info(
+                "Prices of {} products migrated to minor units, {} products skipped (not correct prices)",
+                migrated,
+                skipped
+        );
+        return migrated;
+    }
+
+    /**
+     * Method for convert price to minor units of currency
+     * @param productId product id (for log)
+     * @param price price document
+     * @return converted price document or null if price can not be converted
+     */
+    private static Document convertPrice(ObjectId productId, Document price) {
+        Object value = price.get("value");
+        Object code = price.get("currency");
+        String currency = (code instanceof String)
+                ? PriceManager.normalizeCurrency((String) code)
+                : null;
+        long minor;
+        try {
+            if (value instanceof Number) {
+                minor = ((Number) value).longValue();
+            } else if (value instanceof String) {
+                minor = PriceManager.toMinorUnits((String) value, currency);
+            } else {
+                throw new NumberFormatException("Price value not set");
+            }
+        } catch (NumberFormatException exception) {
+            LOGGER.warn(
+                    "Product {} not migrated, price {} not correct: {}",
+                    productId,
+                    value,
+                    exception.getMessage()
+            );
+            return null;
+        }
+        Document converted = new Document(price);
+        converted.put("value", minor);
+        converted.put("currency", currency);
+        return converted;
+    }
+
+    /**
+     * Method for faceted search of products. Page of products, total count
+     * and counts by categories, tags, sellers, manufacturers & price bounds
+     * got by one aggregation. Counts of each facet computed without
+     * selection of this facet (so client can extend selection)
+     * @param filter filter object
+     * @return faceted search result
+     */
+    public FacetedList<Product> search(ProductsFilter filter) {
+        List<Bson> pipeline = getSearchPipeline(filter);
+        long start = System.nanoTime();
+        // Result read as raw document (items decoded from binary by codec
+        // of model)
+        RawBsonDocument result = getCollection()
+                .aggregate(pipeline, RawBsonDocument.class)
+                .first();
+        observe("search", start);
+        return readSearchResult(result);
+    }
+
+    /**
+     * Method for create aggregation pipeline of faceted search. Only first
+     * stage (status & catalog) use index, selections applied inside facets
+     * @param filter filter object
+     * @return aggregation pipeline
+     */
+    protected List<Bson> getSearchPipeline(ProductsFilter filter) {
+        Bson base = (filter.getCatalog() != null)
+                ? Filters.and(
+                        Filters.eq(STATUS_FIELD, filter.getStatus()),
+                        Filters.eq(CATALOG_FIELD, filter.getCatalog())
+                )
+                : Filters.eq(STATUS_FIELD, filter.getStatus());
+
+        Bson categories = getSelection(CATEGORY_FIELD, filter.getCategories());
+        Bson tags = getSelection(TAG_FIELD, filter.getTags());
+        Bson sellers = getSelection(SELLER_FIELD, filter.getSellers());
+        Bson manufacturers = getSelection(MANUFACTURER_FIELD, filter.getManufacturers());
+        Bson prices = getPriceSelection(
+                filter.getCurrency(),
+                filter.getPriceMin(),
+                filter.getPriceMax()
+        );
+
+        List<Bson> items = new ArrayList<>();
+        items.add(getSelections(categories, tags, sellers, manufacturers, prices));
+        items.add(Aggregates.sort(Sorts.ascending(ID_FIELD)));
+        items.add(Aggregates.skip(filter.getSkip()));
+        items.add(Aggregates.limit(Math.max(filter.getLimit(), 1)));
+        Bson projection = getProjection(filter);
+        if (projection != null) {
+            items.add(Aggregates.project(projection));
+        }
+
+        return List.of(
+                Aggregates.match(base),
+                Aggregates.facet(
+                        new Facet(ITEMS_FACET, items),
+                        new Facet(
+                                TOTAL_FACET,
+                                getSelections(categories, tags, sellers, manufacturers, prices),
+                                Aggregates.count()
+                        ),
+                        getValuesFacet(
+                                CATEGORIES_FACET,
+                                "categories",
+                                "title",
+                                getSelections(tags, sellers, manufacturers, prices)
+                        ),
+                        getValuesFacet(
+                                TAGS_FACET,
+                                "tags",
+                                "value",
+                                getSelections(categories, sellers, manufacturers, prices)
+                        ),
+                        getValuesFacet(
+                                SELLERS_FACET,
+                                "seller",
+                                "title",
+                                getSelections(categories, tags, manufacturers, prices)
+                        ),
+                        getValuesFacet(
+                                MANUFACTURERS_FACET,
+                                "manufacturer",
+                                "title",
+                                getSelections(categories, tags, sellers, prices)
+                        ),
+                        getPricesFacet(getSelections(categories, tags, sellers, manufacturers))
+                )
+        );
+    }
+
+    /**
+     * Method for create selection by ids of embedded documents (document
+     * selected if contains any of ids)
+     * @param field name of id field
+     * @param ids selected ids
+     * @return selection or null if nothing selected
+     */
+    private static Bson getSelection(String field, List<ObjectId> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return null;
+        }
+        return (ids.size() == 1)
+                ? Filters.eq(field, ids.get(0))
+                : Filters.in(field, ids);
+    }
+
+    /**
+     * Method for create selection by price bounds in currency
+     * @param currency currency code
+     * @param min minimal price (in minor units)
+     * @param max maximal price (in minor units)
+     * @return selection or null if bounds not set
+     */
+    private static Bson getPriceSelection(String currency, Long min, Long max) {
+        if (currency == null || (min == null && max == null)) {
+            return null;
+        }
+        String field = getPriceField(currency);
+        if (min != null && max != null) {
+            return Filters.and(Filters.gte(field, min), Filters.lte(field, max));
+        }
+        return (min != null) ? Filters.gte(field, min) : Filters.lte(field, max);
+    }
+
+    /**
+     * Method for create match stage by selections
+     * @param selections selections (null values skipped)
+     * @return match stage
+     */
+    private static Bson getSelections(Bson... selections) {
+        List<Bson> conditions = new ArrayList<>();
+        for (Bson selection : selections) {
+            if (selection != null) {
+                conditions.add(selection);
+            }
+        }
+        return Aggregates.match(switch (conditions.size()) {
+            case 0 -> new Document();
+            case 1 -> conditions.get(0);
+            default -> Filters.and(conditions);
+        });
+    }
+
+    /**
+     * Method for create facet with counts of products by embedded document
+     * @param name name of facet
+     * @param field name of embedded document (or list) field
+     * @param title name of embedded document title field
+     * @param selections match stage by selections of other facets
+     * @return facet
+     */
+    private static Facet getValuesFacet(
+            String name,
+            String field,
+            String title,
+            Bson selections
+    ) {
+        return new Facet(
+                name,
+                selections,
+                Aggregates.unwind("$" + field),
+                Aggregates.match(Filters.ne(field + ".id", null)),
+                Aggregates.group(
+                        "$" + field + ".id",
+                        Accumulators.first("title", "$" + field + "." + title),
+                        Accumulators.sum("count", 1)
+                ),
+                Aggregates.sort(Sorts.orderBy(
+                        Sorts.descending("count"),
+                        Sorts.ascending(ID_FIELD)
+                )),
+                Aggregates.limit(FACET_LIMIT)
+        );
+    }
+
+    /**
+     * Method for create facet with bounds of products prices by currency
+     * @param selections match stage by selections of other facets
+     * @return facet
+     */
+    private static Facet getPricesFacet(Bson selections) {
+        return new Facet(
+                PRICES_FACET,
+                selections,
+                Aggregates.project(new Document(
+                        PRICE_FIELD,
+                        new Document("$objectToArray", "$" + PRICE_FIELD)
+                )),
+                Aggregates.unwind("$" + PRICE_FIELD),
+                Aggregates.group(
+                        "$" + PRICE_FIELD + ".k",
+                        Accumulators.min("min", "$" + PRICE_FIELD + ".v"),
+                        Accumulators.max("max", "$" + PRICE_FIELD + ".v")
+                )
+        );
+    }
+
+    /**
+     * Method for read faceted search result from aggregation result
+     * @param result aggregation result
+     * @return faceted search result
+     */
+    protected FacetedList<Product> readSearchResult(RawBsonDocument result) {
+        if (result == null) {
+            return new FacetedList<>(
+                    new ArrayList<>(),
+                    0,
+                    new LinkedHashMap<>(),
+                    new LinkedHashMap<>()
+            );
+        }
+        Codec<Product> codec = getStore()
+                .getMapper()
+                .getCodecRegistry()
+                .get(getModelClass());
+        List<Product> products = new ArrayList<>();
+        for (BsonValue item : getArray(result, ITEMS_FACET)) {
+            products.add(((RawBsonDocument) item).decode(codec));
+        }
+
+        BsonArray totals = getArray(result, TOTAL_FACET);
+        long total = (totals.isEmpty())
+                ? 0
+                : totals.get(0).asDocument().get("count").asNumber().longValue();
+
+        Map<String, List<FacetValue>> facets = new LinkedHashMap<>();
+        for (String name : List.of(
+                CATEGORIES_FACET,
+                TAGS_FACET,
+                SELLERS_FACET,
+                MANUFACTURERS_FACET
+        )) {
+            List<FacetValue> values = new ArrayList<>();
+            for (BsonValue value : getArray(result, name)) {
+                BsonDocument document = value.asDocument();
+                BsonValue title = document.get("title");
+                values.add(new FacetValue(
+                        document.getObjectId(ID_FIELD).getValue(),
+                        (title != null && title.isString()) ? title.asString().getValue() : null,
+                        document.get("count").asNumber().longValue()
+                ));
+            }
+            facets.put(name, values);
+        }
+
+        // Prices bounds by currency (as "prices.USD")
+        Map<String, FacetRange> ranges = new LinkedHashMap<>();
+        for (BsonValue value : getArray(result, PRICES_FACET)) {
+            BsonDocument bounds = value.asDocument();
+            String currency = bounds.getString(ID_FIELD).getValue();
+            ranges.put(PRICES_FACET + "." + currency, new FacetRange(
+                    bounds.get("min").asNumber().longValue(),
+                    bounds.get("max").asNumber().longValue()
+            ));
+        }
+        return new FacetedList<>(products, total, facets, ranges);
+    }
+
+    /**
+     * Method for get array field of aggregation result
+     * @param document aggregation result
+     * @param name name of field
+     * @return array (empty if field not exist)
+     */
+    private static BsonArray getArray(BsonDocument document, String name) {
+        BsonValue value = document.get(name);
+        return (value != null && value.isArray()) ? value.asArray() : new BsonArray();
+    }
+}
@@ -4,11 +4,16 @@ import synthwave.dto.UserRightDTO;
 import synthwave.filters.UsersFilter;
 import core.exceptions.DataException;
 import synthwave.models.morphia.extend.User;
+import synthwave.utils.access.UserRightsCache;
 import core.models.morphia.embeddeds.EmbeddedRight;
 import core.utils.Searcher;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Updates;
 import dev.morphia.Datastore;
-import java.util.Iterator;
+import java.util.ArrayList;
 import java.util.List;
+import org.bson.conversions.Bson;
 import org.bson.types.ObjectId;
 
 /**
@@ -17,6 +22,9 @@ import org.bson.types.ObjectId;
  */
 public class RightsRepository extends UsersRepository {
     
+    /** Name of rights field */
+    private static final String RIGHTS_FIELD = "rights";
+    
     private final List<String> blackList;
     
     /**
@@ -66,25 +74,48 @@ public class RightsRepository extends UsersRepository {
     }
     
     /**
-     * Method for check exist right in rights list
-     * @param name name of right
-     * @param user user document
-     * @return check result
+     * Method for create query filter for active user document by id
+     * @param userId user id
+     * @return query filter
      */
-    private boolean hasRight(String name, User user) {
-        boolean hasRight = false;
-        List<EmbeddedRight> rights = user.getRights();
-        for (EmbeddedRight right : rights) {
-            if (right.getName().equals(name)) {
-                hasRight = true;
-                break;
-            }
+    private Bson getUserFilter(ObjectId userId) {
+        return Filters.and(
+                Filters.eq(ID_FIELD, userId),
+                Filters.eq(STATUS_FIELD, ACTIVE)
+        );
+    }
+    
+    /**
+     * Method for atomic update of user rights (version of user document
+     * incremented). Returned document contains only rights field
+     * @param filter query filter
+     * @param update update operation
+     * @param expected expected version of user document (null - not checked)
+     * @return updated user document or null if user not found
+     * @throws DataException throw if user document has other version
+     */
+    private User modifyRights(Bson filter, Bson update, Long expected) 
+            throws DataException 
+    {
+        String version = getVersionField();
+        Bson operation = (version != null)
+                ? Updates.combine(update, Updates.inc(version, 1L))
+                : update;
+        User user = modifyOne(
+                getVersionFilter(filter, expected), 
+                operation, 
+                Projections.include(RIGHTS_FIELD)
+        );
+        if (user == null) {
+            checkVersionConflict(filter, expected);
         }
-        return hasRight;
+        return user;
     }
 
     /**
-     * Method for create user right by user right data transfer object
+     * Method for create user right by user right data transfer object.
+     * Right pushed to rights list by one atomic operation (only if user
+     * hasn't right with same name)
      * @param userId user id from request params
      * @param userRightDTO user right data transfer object
      * @return created right document
@@ -94,28 +125,36 @@ public class RightsRepository extends UsersRepository {
             ObjectId userId,
             UserRightDTO userRightDTO
     ) throws DataException {
-        User user = getUserDocument(userId);
-        boolean hasRight = hasRight(userRightDTO.getName(), user);
-        if (!hasRight) {
-            EmbeddedRight userRight = new EmbeddedRight(
-                    userRightDTO.getName(),
-                    userRightDTO.getCreate(),
-                    userRightDTO.getRead(),
-                    userRightDTO.getUpdate(),
-                    userRightDTO.getDelete()
-            );
-            List<EmbeddedRight> rights = user.getRights();
-            rights.add(userRight);
-            save(user);
+        EmbeddedRight userRight = new EmbeddedRight(
+                userRightDTO.getName(),
+                userRightDTO.getCreate(),
+                userRightDTO.getRead(),
+                userRightDTO.getUpdate(),
+                userRightDTO.getDelete()
+        );
+        User user = modifyRights(
+                Filters.and(
+                        getUserFilter(userId),
+                        Filters.ne(RIGHTS_FIELD + ".name", userRightDTO.getName())
+                ),
+                Updates.push(RIGHTS_FIELD, userRight),
+                userRightDTO.getVersion()
+        );
+        if (user != null) {
+            UserRightsCache.invalidate(userId);
             return userRight;
         } else {
+            // Check user exist for correct error
+            getUserDocument(userId);
             Error error = new Error("Can not create user right");
             throw new DataException("CanNotCreate", error);
         }
     }
    
     /**
-     * Method for remove user right from rights list in user document
+     * Method for remove user right from rights list in user document.
+     * Right pulled from list by one atomic operation (rights from
+     * blacklist can not be removed)
      * @param rightId right id from request
      * @param userId user id from request
      * @return actual right list
@@ -125,61 +164,74 @@ public class RightsRepository extends UsersRepository {
             ObjectId rightId,
             ObjectId userId
     ) throws DataException {
-        User user = getUserDocument(userId);
-        List<EmbeddedRight> rights = user.getRights();
-        Iterator<EmbeddedRight> iterator = rights.iterator();
-        String toCheck = rightId.toString();
-        while(iterator.hasNext()) {
-            EmbeddedRight right = iterator.next();
-            if (right.getId().equals(toCheck) &&
-                    !getBlackList().contains(right.getName())) {
-                iterator.remove();
-            }
+        Bson condition = (getBlackList() != null && !getBlackList().isEmpty())
+                ? Filters.and(
+                        Filters.eq("id", rightId),
+                        Filters.nin("name", getBlackList())
+                )
+                : Filters.eq("id", rightId);
+        User user = modifyRights(
+                getUserFilter(userId), 
+                Updates.pull(RIGHTS_FIELD, condition),
+                null
+        );
+        if (user != null) {
+            UserRightsCache.invalidate(userId);
+            return (user.getRights() != null) 
+                    ? user.getRights() 
+                    : new ArrayList<>();
+        } else {
+            Error error = new Error("Can not find user by id from request");
+            throw new DataException("NotFound", error);
         }
-        save(user);
-        return user.getRights();
     }
     
     /**
-     * MEthod for update user right document
+     * MEthod for update user right document. Changed rules set by one
+     * atomic operation (by positional operator)
      * @param rightId right id from request
      * @param userId user id from request
      * @param userRightDTO user right data transfer obejct
      * @return updated right document
-     * @throws DataException throw if user document con not be found
+     * @throws DataException throw if user document or right con not be found
      */
     public EmbeddedRight updateUserRight(
             ObjectId rightId, 
             ObjectId userId,
             UserRightDTO userRightDTO
     ) throws DataException {
-        User user = getUserDocument(userId);
-        List<EmbeddedRight> rights = user.getRights();
-        EmbeddedRight right = Searcher
-                .getUserRightByIdFromList(rightId, rights);
-        
-        if (userRightDTO.getCreate() != null && 
-                !right.getCreate().equals(userRightDTO.getCreate())) {
-            right.setCreate(userRightDTO.getCreate());
+        List<Bson> updates = new ArrayList<>();
+        String position = RIGHTS_FIELD + ".$.";
+        if (userRightDTO.getCreate() != null) {
+            updates.add(Updates.set(position + "create", userRightDTO.getCreate()));
         }
-        
-        if (userRightDTO.getRead() != null && 
-                !right.getRead().equals(userRightDTO.getRead())) {
-            right.setRead(userRightDTO.getRead());
+        if (userRightDTO.getRead() != null) {
+            updates.add(Updates.set(position + "read", userRightDTO.getRead()));
         }
-        
-        if (userRightDTO.getUpdate() != null &&
-                !right.getUpdate().equals(userRightDTO.getUpdate())) {
-            right.setUpdate(userRightDTO.getUpdate());
+        if (userRightDTO.getUpdate() != null) {
+            updates.add(Updates.set(position + "update", userRightDTO.getUpdate()));
         }
-        
-        if (userRightDTO.getDelete() != null &&
-                !right.getDelete().equals(userRightDTO.getDelete())) {
-            right.setDelete(userRightDTO.getCreate());
+        if (userRightDTO.getDelete() != null) {
+            updates.add(Updates.set(position + "delete", userRightDTO.getDelete()));
+        }
+        if (updates.isEmpty()) {
+            return getRightByIdParam(rightId, userId);
+        }
+        User user = modifyRights(
+                Filters.and(
+                        getUserFilter(userId),
+                        Filters.eq(RIGHTS_FIELD + ".id", rightId)
+                ),
+                Updates.combine(updates),
+                userRightDTO.getVersion()
+        );
+        if (user != null) {
+            UserRightsCache.invalidate(userId);
+            return Searcher.getUserRightByIdFromList(rightId, user.getRights());
+        } else {
+            Error error = new Error("Can not find user right by request params");
+            throw new DataException("NotFound", error);
         }
-        
-        save(user);
-        return right;
     }
     
     /**
@@ -6,6 +6,8 @@ import core.models.morphia.embeddeds.EmbeddedOwner;
 import synthwave.models.morphia.simple.Tag;
 import engine.repositories.morphia.MorphiaRepository;
 import dev.morphia.Datastore;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Class of repository for tags collection
@@ -23,12 +25,12 @@ public class TagsRepository
     }
     
     /**
-     * Method for create tag document in collection
+     * Method for build tag document
      * @param tagDTO tag data transfer object
-     * @return created tag document
+     * @return tag document
      */
     @Override
-    public Tag create(TagDTO tagDTO) {
+    protected Tag build(TagDTO tagDTO) {
         EmbeddedOwner owner = new EmbeddedOwner(
                 tagDTO.getOwner().getId(),
                 tagDTO.getOwner().getUsername()
@@ -40,33 +42,23 @@ public class TagsRepository
                 tagDTO.getDescription(),
                 owner
         );
-        save(tag);
         return tag;
     }
     
     /**
-     * Handler for update method
-     * @param tagDTO tag data transfer obejct
-     * @param tag tag document
-     * @return result of update
+     * Method for get changed fields of tag document
+     * @param tagDTO tag data transfer object
+     * @return changed fields
      */
     @Override
-    protected boolean updateHandler(TagDTO tagDTO, Tag tag) {
-        boolean changed = false;
-        var description = tagDTO.getDescription();
-        var value = tagDTO.getTitle();
-        if (description != null && (tag.getDescription() == null
-                || !tag.getDescription().equals(description))) {
-            tag.setDescription(description);
-            changed = true;
+    protected Map<String, Object> getUpdates(TagDTO tagDTO) {
+        Map<String, Object> updates = new HashMap<>();
+        if (tagDTO.getTitle() != null) {
+            updates.put("title", tagDTO.getTitle());
         }
-        if(value != null && (tag.getTitle()== null
-                || tag.getTitle().equals(value))) {
-            tag.setTitle(value);
-            if (!changed) {
-                changed = true;
-            }
+        if (tagDTO.getDescription() != null) {
+            updates.put("description", tagDTO.getDescription());
         }
-        return changed;
+        return updates;
     }
 }
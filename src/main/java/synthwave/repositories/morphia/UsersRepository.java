@@ -1,14 +1,13 @@
 package synthwave.repositories.morphia;
 
 import engine.repositories.morphia.MorphiaRepository;
+import engine.repositories.morphia.QueryShape;
 import synthwave.dto.UserDTO;
 import synthwave.filters.UsersFilter;
 import synthwave.models.morphia.extend.User;
 import core.utils.JsonWebToken;
 import dev.morphia.Datastore;
-import dev.morphia.query.FindOptions;
-import static dev.morphia.query.experimental.filters.Filters.and;
-import static dev.morphia.query.experimental.filters.Filters.eq;
+import com.mongodb.client.model.Filters;
 import java.util.Arrays;
 import java.util.List;
 import org.bson.types.ObjectId;
@@ -20,6 +19,13 @@ import org.bson.types.ObjectId;
 public class UsersRepository 
         extends MorphiaRepository<User, UsersFilter, UserDTO> {
     
+    /** Shapes of queries issued by repository (for index advisor) */
+    public static final List<QueryShape> USER_QUERY_SHAPES = List.of(
+            new QueryShape("findAll", ID_FIELD, STATUS_FIELD),
+            new QueryShape("findOneById", null, STATUS_FIELD, ID_FIELD),
+            new QueryShape("findOneByUsername", null, STATUS_FIELD, "username")
+    );
+    
     /**
      * Constuctor users collection sources
      * @param datastore Morphia datastore object
@@ -34,18 +40,12 @@ public class UsersRepository
      * @return founded user document
      */
     public User findOneByUsername(UsersFilter filter) {
-        // Create find optoions for Morphia
-        FindOptions findOptions = new FindOptions()
-                .projection()
-                .exclude(filter.getExcludes());
         // Find in database by status & username
-        return getStore()
-                .find(getModelClass())
-                .filter(and(
-                        eq("status", filter.getStatus()),
-                        eq("username", filter.getUsername())
+        return find(filter, Filters.and(
+                        Filters.eq(STATUS_FIELD, filter.getStatus()),
+                        Filters.eq("username", filter.getUsername())
                 ))
-                .first(findOptions);
+                .first();
     }
     
     /**
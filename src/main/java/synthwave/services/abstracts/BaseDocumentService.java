@@ -1,6 +1,7 @@
 package synthwave.services.abstracts;
 
 import engine.dto.RuleDTO;
+import core.exceptions.DataException;
 import core.models.morphia.standalones.Standalone;
 import synthwave.filters.UsersFilter;
 import synthwave.models.morphia.extend.User;
@@ -17,6 +18,12 @@ import spark.Request;
  */
 public abstract class BaseDocumentService <M extends Standalone, R> extends BaseService<M, R> {
 	
+	/** Include fields for get owner user document */
+	private static final String[] OWNER_INCLUDES = new String[] {
+		"status",
+		"username"
+	};
+	
 	/** Property with repository for work with users data */
 	UsersRepository usersRepository;
 	
@@ -140,15 +147,34 @@ public abstract class BaseDocumentService <M extends Standalone, R> extends Base
     }
     
     /**
-     * Method for get for user document by entity id
+     * Method for get for user document by entity id. Document contains
+     * only fields for owner data (id & username)
      * @param id entity id
      * @return user document
      */
     protected User getUserById(ObjectId id) {
-        UsersFilter filter = new UsersFilter(id, new String[] {});
+        UsersFilter filter = new UsersFilter();
+        filter.setId(id);
+        filter.setIncludes(OWNER_INCLUDES);
         return getUsersRepository().findOneById(filter);
     }
     
+    /**
+     * Method for get owner user document by id
+     * @param id user id
+     * @return owner user document
+     * @throws DataException throw if can not find user
+     */
+    protected User getOwnerById(ObjectId id) throws DataException {
+        User user = getUserById(id);
+        if (user != null) {
+            return user;
+        } else {
+            Error error = new Error("Can not find user");
+            throw new DataException("NotFound", error);
+        }
+    }
+    
     /**
      * Method for get rule data transfer object by request, 
      * right name & action name
@@ -1,14 +1,22 @@
 package synthwave.services.abstracts;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import engine.dto.RuleDTO;
+import core.constants.ListConstants;
+import core.dto.BaseDTO;
 import core.exceptions.AccessException;
 import core.exceptions.DataException;
 import core.exceptions.ServerException;
 import core.exceptions.TokenException;
 import core.models.morphia.standalones.Standalone;
+import core.response.answers.BatchResult;
+import engine.repositories.morphia.DocumentStream;
+import engine.repositories.morphia.MorphiaRepository;
 import synthwave.utils.access.RightManager;
+import org.bson.types.ObjectId;
 import spark.Request;
 
 /**
@@ -55,6 +63,21 @@ public abstract class BaseService <M extends Standalone, R>  {
         this.publicExcludes = publicExcludes;
         this.privateExcludes = privateExcludes;
         this.globalExcludes = globalExcludes;
+        prepareProjections();
+    }
+    
+    /**
+     * Method for precompute projections of repository for all access
+     * levels (projections built once, not on each query)
+     */
+    private void prepareProjections() {
+        if (repository instanceof MorphiaRepository) {
+            ((MorphiaRepository<?, ?, ?>) repository).prepareProjections(
+                    globalExcludes, 
+                    publicExcludes, 
+                    privateExcludes
+            );
+        }
     }
 
     /**
@@ -87,6 +110,7 @@ public abstract class BaseService <M extends Standalone, R>  {
      */
     public void setPublicExcludes(String[] publicExcludes) {
         this.publicExcludes = publicExcludes;
+        prepareProjections();
     }
 
     /**
@@ -103,6 +127,7 @@ public abstract class BaseService <M extends Standalone, R>  {
      */
     public void setPrivateExcludes(String[] privateExcludes) {
         this.privateExcludes = privateExcludes;
+        prepareProjections();
     }
 
     /**
@@ -119,6 +144,7 @@ public abstract class BaseService <M extends Standalone, R>  {
      */
     public void setGlobalExcludes(String[] globalExcludes) {
         this.globalExcludes = globalExcludes;
+        prepareProjections();
     }
     
     /**
@@ -432,4 +458,233 @@ public abstract class BaseService <M extends Standalone, R>  {
         Error error = new Error("Method for get entitites list not implemented");
         throw new ServerException("NotImplemented", error);
     } 
+
+    /**
+     * Method for get stream of entities with access check. By default
+     * entities list loaded to memory (services override it for read
+     * entities from database cursor)
+     * @param request Spark request object
+     * @param right name of right
+     * @param action name of action
+     * @return entities stream
+     * @throws AccessException throw if user hasn't access to this method
+     * @throws TokenException throw if token not sent or user from url & request not equals
+     * @throws ServerException throw if some error in server logic
+     * @throws DataException throw if some error with data
+     */
+    public DocumentStream<M> streamEntitiesList(
+        Request request, 
+        String right, 
+        String action
+    ) throws AccessException, TokenException, ServerException, DataException {
+        return DocumentStream.of(getEntitiesList(request, right, action));
+    }
+
+    /**
+     * Method for get stream of entities for owner with access check. By
+     * default entities list loaded to memory (services override it for
+     * read entities from database cursor)
+     * @param request Spark request object
+     * @param right name of right
+     * @param action name of action
+     * @return entities stream
+     * @throws AccessException throw if user hasn't access to this method
+     * @throws TokenException throw if token not sent or user from url & request not equals
+     * @throws ServerException throw if some error in server logic
+     * @throws DataException throw if some error with data
+     */
+    public DocumentStream<M> streamEntitiesListByOwner(
+        Request request, 
+        String right, 
+        String action
+    ) throws AccessException, TokenException, ServerException, DataException {
+        return DocumentStream.of(getEntitiesListByOwner(request, right, action));
+    }
+
+    /**
+     * Method for get stream of entities without access check. By default
+     * entities list loaded to memory (services override it for read
+     * entities from database cursor)
+     * @param request Spark request object
+     * @return entities stream
+     * @throws AccessException throw if user hasn't access to this method
+     * @throws TokenException throw if token not sent or user from url & request not equals
+     * @throws ServerException throw if some error in server logic
+     * @throws DataException throw if some error with data
+     */
+    public DocumentStream<M> streamEntitiesList(
+        Request request
+    ) throws AccessException, TokenException, ServerException, DataException {
+        return DocumentStream.of(getEntitiesList(request));
+    }
+
+    /**
+     * Method for get stream of entities for owner without access check. By
+     * default entities list loaded to memory (services override it for
+     * read entities from database cursor)
+     * @param request Spark request object
+     * @return entities stream
+     * @throws AccessException throw if user hasn't access to this method
+     * @throws TokenException throw if token not sent or user from url & request not equals
+     * @throws ServerException throw if some error in server logic
+     * @throws DataException throw if some error with data
+     */
+    public DocumentStream<M> streamEntitiesListByOwner(
+        Request request
+    ) throws AccessException, TokenException, ServerException, DataException {
+        return DocumentStream.of(getEntitiesListByOwner(request));
+    }
+
+    /**
+     * Method for check stream of entities on empty. Empty stream closed
+     * @param entities stream of entities
+     * @param message message of error for empty stream
+     * @return stream of entities
+     * @throws DataException throw if stream is empty
+     */
+    protected DocumentStream<M> checkStream(
+            DocumentStream<M> entities, 
+            String message
+    ) throws DataException {
+        if (entities.isEmpty()) {
+            entities.close();
+            Error error = new Error(message);
+            throw new DataException("NotFound", error);
+        }
+        return entities;
+    }
+
+    /**
+     * Method for get batch of data transfer objects from request body
+     * @param <T> type of data transfer object
+     * @param request Spark request object
+     * @param type type of data transfer objects array
+     * @return list of data transfer objects
+     * @throws DataException throw if batch is empty or too large
+     */
+    protected <T> List<T> getBatch(Request request, Class<T[]> type) 
+            throws DataException {
+        T[] items = BaseDTO.build(request, type);
+        int limit = ListConstants.BATCH_LIMIT.getValue();
+        if (items == null || items.length == 0) {
+            Error error = new Error("Batch is empty");
+            throw new DataException("NotCorrectBatch", error);
+        } else if (items.length > limit) {
+            Error error = new Error("Batch size is more than " + limit);
+            throw new DataException("NotCorrectBatch", error);
+        } else {
+            return Arrays.asList(items);
+        }
+    }
+
+    /**
+     * Method for get batch of documents ids from request body. Not 
+     * correct ids returned as null values
+     * @param request Spark request object
+     * @return list of documents ids
+     * @throws DataException throw if batch is empty or too large
+     */
+    protected List<ObjectId> getBatchIds(Request request) throws DataException {
+        List<String> values = getBatch(request, String[].class);
+        List<ObjectId> ids = new ArrayList<>(values.size());
+        for (String value : values) {
+            ids.add((value != null && ObjectId.isValid(value)) 
+                    ? new ObjectId(value) 
+                    : null);
+        }
+        return ids;
+    }
+
+    /**
+     * Method for get message of error
+     * @param exception data exception
+     * @return error message
+     */
+    protected static String getErrorMessage(DataException exception) {
+        return (exception.getCause() != null)
+                ? exception.getCause().getMessage()
+                : exception.getMessage();
+    }
+
+    /**
+     * Method for merge results of batch items written to database with
+     * results of items failed before write
+     * @param results results of batch items (failed items filled)
+     * @param indexes indexes of written items in batch
+     * @param written results of written items
+     * @return results of all batch items
+     */
+    protected static List<BatchResult> mergeResults(
+            BatchResult[] results,
+            List<Integer> indexes,
+            List<BatchResult> written
+    ) {
+        for (BatchResult result : written) {
+            int index = indexes.get(result.getIndex());
+            results[index] = (result.isSuccess())
+                    ? BatchResult.success(index, result.getId())
+                    : BatchResult.failed(index, result.getId(), result.getError());
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Method for create entities by batch with access check
+     * @param request Spark request object
+     * @param right name of right
+     * @param action name of action
+     * @return results of create by batch items
+     * @throws AccessException throw if user hasn't access to this method
+     * @throws TokenException throw if token not sent or user from url & request not equals
+     * @throws ServerException throw if some error in server logic
+     * @throws DataException throw if some error with data
+     */
+    public List<BatchResult> createEntities(
+        Request request, 
+        String right, 
+        String action
+    ) throws AccessException, TokenException, ServerException, DataException {
+        Error error = new Error("Method for create entities not implemented");
+        throw new ServerException("NotImplemented", error);
+    }
+
+    /**
+     * Method for update entities by batch with access check
+     * @param request Spark request object
+     * @param right name of right
+     * @param action name of action
+     * @return results of update by batch items
+     * @throws AccessException throw if user hasn't access to this method
+     * @throws TokenException throw if token not sent or user from url & request not equals
+     * @throws ServerException throw if some error in server logic
+     * @throws DataException throw if some error with data
+     */
+    public List<BatchResult> updateEntities(
+        Request request, 
+        String right, 
+        String action
+    ) throws AccessException, TokenException, ServerException, DataException {
+        Error error = new Error("Method for update entities not implemented");
+        throw new ServerException("NotImplemented", error);
+    }
+
+    /**
+     * Method for delete (deactivate) entities by batch with access check
+     * @param request Spark request object
+     * @param right name of right
+     * @param action name of action
+     * @return results of delete by batch items
+     * @throws AccessException throw if user hasn't access to this method
+     * @throws TokenException throw if token not sent or user from url & request not equals
+     * @throws ServerException throw if some error in server logic
+     * @throws DataException throw if some error with data
+     */
+    public List<BatchResult> deleteEntities(
+        Request request, 
+        String right, 
+        String action
+    ) throws AccessException, TokenException, ServerException, DataException {
+        Error error = new Error("Method for delete entities not implemented");
+        throw new ServerException("NotImplemented", error);
+    }
 }
@@ -2,14 +2,20 @@ package synthwave.services.core.catalogs;
 
 import synthwave.dto.CatalogDTO;
 import core.exceptions.DataException;
+import core.response.answers.BatchResult;
+import core.response.answers.TreeNode;
+import engine.repositories.morphia.DocumentStream;
 import synthwave.filters.CatalogsFilter;
 import synthwave.models.morphia.extend.Catalog;
 import synthwave.models.morphia.extend.User;
 import synthwave.repositories.morphia.CatalogsRepository;
+import synthwave.repositories.morphia.CategoriesRepository;
 import synthwave.services.abstracts.BaseDocumentService;
+import synthwave.utils.catalogs.CategoryTreeCache;
 import core.utils.ParamsManager;
 import core.utils.QueryManager;
 import dev.morphia.Datastore;
+import java.util.ArrayList;
 import java.util.List;
 import org.bson.types.ObjectId;
 import spark.Request;
@@ -22,6 +28,8 @@ import spark.Request;
 public abstract class CoreCatalogService
         extends BaseDocumentService<Catalog, CatalogsRepository> {
     
+    CategoriesRepository categoriesRepository;
+    
     /**
      * Default constructor for core catalog service. 
      * Create instance by datastore
@@ -29,6 +37,7 @@ public abstract class CoreCatalogService
      */
     public CoreCatalogService(Datastore datastore) {
         super(datastore, new CatalogsRepository(datastore));
+        this.categoriesRepository = new CategoriesRepository(datastore);
     }
     
     /**
@@ -52,6 +61,25 @@ public abstract class CoreCatalogService
                 publicExcludes, 
                 privateExcludes
         );
+        this.categoriesRepository = new CategoriesRepository(datastore);
+    }
+
+    public CategoriesRepository getCategoriesRepository() {
+        return categoriesRepository;
+    }
+
+    public void setCategoriesRepository(CategoriesRepository categoriesRepository) {
+        this.categoriesRepository = categoriesRepository;
+    }
+    
+    /**
+     * Method for get categories tree of catalog (tree got from in-memory
+     * snapshot, snapshot built on first request)
+     * @param catalogId catalog id
+     * @return unmodifiable list of root nodes
+     */
+    protected List<TreeNode> getCategoriesTree(ObjectId catalogId) {
+        return CategoryTreeCache.get(catalogId, getCategoriesRepository());
     }
     
     /**
@@ -125,31 +153,72 @@ public abstract class CoreCatalogService
     protected List<Catalog> getCatalogsByRequestForUser(
             Request request, 
             String[] excludes
+    ) throws DataException {
+        CatalogsFilter filter = getListFilter(request, excludes);
+        filter.setOwner(ParamsManager.getUserId(request));
+        return getRepository().findAllByOwnerId(filter);
+    } 
+    
+    /**
+     * Method for get stream of catalogs by user id from request params
+     * @param request Spark request object
+     * @param excludes exclude fields
+     * @return stream of catalog documents
+     * @throws DataException throw if send not correct cursor
+     */
+    protected DocumentStream<Catalog> streamCatalogsByRequestForUser(
+            Request request, 
+            String[] excludes
+    ) throws DataException {
+        CatalogsFilter filter = getListFilter(request, excludes);
+        filter.setOwner(ParamsManager.getUserId(request));
+        return getRepository().streamAllByOwnerId(filter);
+    }
+    
+    /**
+     * Method for create filter of catalogs list by pagination from request
+     * @param request Spark request object
+     * @param excludes exclude fields
+     * @return filter object
+     * @throws DataException throw if send not correct cursor
+     */
+    private CatalogsFilter getListFilter(
+            Request request, 
+            String[] excludes
     ) throws DataException {
         int skip = QueryManager.getSkip(request);
         int limit = QueryManager.getLimit(request);
-        // User id
-        ObjectId userId = ParamsManager.getUserId(request);
-        
         CatalogsFilter filter = new CatalogsFilter(skip, limit, excludes);
-        filter.setOwner(userId);
-        return getRepository().findAllByOwnerId(filter);
-    } 
+        QueryManager.setPagination(request, filter);
+        return filter;
+    }
     
     /**
      * MEthod for get catalogs list
      * @param request Spark reqeust object
      * @param excludes array of exludes fields
      * @return list of catalog documents
+     * @throws DataException throw if send not correct cursor
      */
     protected List<Catalog> getList(
             Request request, 
             String[] excludes
-    ) {
-        int skip = QueryManager.getSkip(request);
-        int limit = QueryManager.getLimit(request);
-        CatalogsFilter filter = new CatalogsFilter(skip, limit, excludes);
-        return getRepository().findAll(filter);
+    ) throws DataException {
+        return getRepository().findAll(getListFilter(request, excludes));
+    }
+    
+    /**
+     * Method for get stream of catalogs
+     * @param request Spark request object
+     * @param excludes exclude fields
+     * @return stream of catalog documents
+     * @throws DataException throw if send not correct cursor
+     */
+    protected DocumentStream<Catalog> streamList(
+            Request request, 
+            String[] excludes
+    ) throws DataException {
+        return getRepository().streamAll(getListFilter(request, excludes));
     }
     
     /**
@@ -201,4 +270,62 @@ public abstract class CoreCatalogService
         CatalogsFilter filter = new CatalogsFilter(catalogId, userId);
         return getRepository().deactivate(filter);
     }
+    
+    /**
+     * Method for create catalog documents for owner by batch from
+     * request body
+     * @param userId owner id
+     * @param request Spark request object
+     * @return results of create by batch items
+     * @throws DataException throw if can not find user or batch not correct
+     */
+    protected List<BatchResult> createCatalogs(
+            ObjectId userId,
+            Request request
+    ) throws DataException {
+        User user = getOwnerById(userId);
+        List<CatalogDTO> catalogs = getBatch(request, CatalogDTO[].class);
+        for (CatalogDTO catalogDTO : catalogs) {
+            if (catalogDTO != null) {
+                catalogDTO.setOwner(user);
+            }
+        }
+        return getRepository().createMany(catalogs);
+    }
+    
+    /**
+     * Method for update catalog documents of owner by batch from request
+     * body (each batch item must contain document id)
+     * @param userId owner id
+     * @param request Spark request object
+     * @return results of update by batch items
+     * @throws DataException throw if batch not correct
+     */
+    protected List<BatchResult> updateCatalogs(
+            ObjectId userId,
+            Request request
+    ) throws DataException {
+        List<CatalogDTO> catalogs = getBatch(request, CatalogDTO[].class);
+        List<ObjectId> ids = new ArrayList<>(catalogs.size());
+        for (CatalogDTO catalogDTO : catalogs) {
+            ids.add((catalogDTO != null) ? catalogDTO.getId() : null);
+        }
+        return getRepository().updateMany(userId, ids, catalogs);
+    }
+    
+    /**
+     * Method for deactivate catalog documents of owner by batch of ids
+     * from request body
+     * @param userId owner id
+     * @param request Spark request object
+     * @return results of deactivate by batch items
+     * @throws DataException throw if batch not correct
+     */
+    protected List<BatchResult> deleteCatalogs(
+            ObjectId userId,
+            Request request
+    ) throws DataException {
+        List<ObjectId> ids = getBatchIds(request);
+        return getRepository().deactivateMany(userId, ids);
+    }
 }
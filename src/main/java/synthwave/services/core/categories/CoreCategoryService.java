@@ -2,6 +2,10 @@ package synthwave.services.core.categories;
 
 import synthwave.dto.CategoryDTO;
 import core.exceptions.DataException;
+import core.constants.QueryParams;
+import core.response.answers.BatchResult;
+import core.response.answers.TreeNode;
+import engine.repositories.morphia.DocumentStream;
 import synthwave.filters.CategoriesFilter;
 import synthwave.models.morphia.extend.Catalog;
 import synthwave.models.morphia.extend.Category;
@@ -10,10 +14,14 @@ import synthwave.repositories.morphia.CatalogsRepository;
 import synthwave.repositories.morphia.CategoriesRepository;
 import synthwave.services.abstracts.BaseDocumentService;
 import synthwave.services.core.catalogs.CoreCatalogService;
+import synthwave.utils.catalogs.CategoryTreeCache;
 import core.utils.ParamsManager;
 import core.utils.QueryManager;
 import dev.morphia.Datastore;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.bson.types.ObjectId;
 import spark.Request;
 
@@ -24,6 +32,11 @@ import spark.Request;
 public abstract class CoreCategoryService 
         extends BaseDocumentService<Category, CategoriesRepository> {
     
+    /** Fields of parent category required for build path of child */
+    private static final String[] PARENT_INCLUDES = new String[] { 
+        "title", "catalog", "ancestors", "breadcrumbs", "depth"
+    };
+    
     CatalogsRepository catalogsRepository;
     
     public CoreCategoryService(
@@ -60,16 +73,46 @@ public abstract class CoreCategoryService
     protected List<Category> getCategoriesByRequestForUser(
             Request request,
             String[] excludes
+    ) throws DataException {
+        CategoriesFilter filter = getListFilter(request, excludes);
+        filter.setOwner(ParamsManager.getUserId(request));
+        return getRepository().findAllByOwnerId(filter);
+    }
+    
+    /**
+     * Method for get stream of categories by user id from request params
+     * @param request Spark request object
+     * @param excludes array of exludes fields
+     * @return stream of category documents
+     * @throws DataException throw if send not correct cursor
+     */
+    protected DocumentStream<Category> streamCategoriesByRequestForUser(
+            Request request,
+            String[] excludes
+    ) throws DataException {
+        CategoriesFilter filter = getListFilter(request, excludes);
+        filter.setOwner(ParamsManager.getUserId(request));
+        return getRepository().streamAllByOwnerId(filter);
+    }
+    
+    /**
+     * Method for create filter of categories list by pagination from
+     * request
+     * @param request Spark request object
+     * @param excludes array of exludes fields
+     * @return filter object
+     * @throws DataException throw if send not correct cursor
+     */
+    private CategoriesFilter getListFilter(
+            Request request,
+            String[] excludes
     ) throws DataException {
         int skip = QueryManager.getSkip(request);
         // Set limit value from request query
         int limit = QueryManager.getLimit(request);
-        // User id
-        ObjectId userId = ParamsManager.getUserId(request);
-        
         CategoriesFilter filter = new CategoriesFilter(skip, limit, excludes);
-        filter.setOwner(userId);
-        return getRepository().findAllByOwnerId(filter);
+        QueryManager.setPagination(request, filter);
+        return filter;
     }
     
     /**
@@ -77,16 +120,27 @@ public abstract class CoreCategoryService
      * @param request Spark request object
      * @param excludes excludes fields
      * @return founded categories list
+     * @throws DataException throw if send not correct cursor
      */
     protected List<Category> getList(
             Request request,
             String[] excludes
-    ) {
-        int skip = QueryManager.getSkip(request);
-        // Set limit value from request query
-        int limit = QueryManager.getLimit(request);
-        CategoriesFilter filter = new CategoriesFilter(skip, limit, excludes);
-        return  getRepository().findAll(filter);
+    ) throws DataException {
+        return getRepository().findAll(getListFilter(request, excludes));
+    }
+    
+    /**
+     * Method for get stream of categories
+     * @param request Spark request object
+     * @param excludes excludes fields
+     * @return stream of category documents
+     * @throws DataException throw if send not correct cursor
+     */
+    protected DocumentStream<Category> streamList(
+            Request request,
+            String[] excludes
+    ) throws DataException {
+        return getRepository().streamAll(getListFilter(request, excludes));
     }
     
     /**
@@ -141,6 +195,10 @@ public abstract class CoreCategoryService
                 catalogId, 
                 getCatalogsRepository()
         );
+        if (catalog == null) {
+            Error error = new Error("Can not find catalog");
+            throw new DataException("NotFound", error);
+        }
         if (user != null) {
             CategoryDTO categoryDTO = CategoryDTO.build(
                     request, 
@@ -148,7 +206,14 @@ public abstract class CoreCategoryService
             );
             categoryDTO.setCatalog(catalog);
             categoryDTO.setOwner(user);
-            return getRepository().create(categoryDTO);
+            categoryDTO.setParent(getParent(
+                    categoryDTO.getParent(), 
+                    catalogId, 
+                    new HashMap<>()
+            ));
+            Category category = getRepository().create(categoryDTO);
+            CategoryTreeCache.refresh(catalogId, getRepository());
+            return category;
         } else {
             Error error = new Error("Can not find user");
             throw new DataException("NotFound", error);
@@ -161,17 +226,20 @@ public abstract class CoreCategoryService
      * @param catalogId catalog id from request params
      * @param excludes array of exludes fields
      * @return list of categories documents
+     * @throws DataException throw if send not correct cursor
      */
     protected List<Category> getCategoriesByCatalogId(
             Request request, 
             ObjectId catalogId,
             String[] excludes
-    ) {
+    ) throws DataException {
         int skip = QueryManager.getSkip(request);
         // Set limit value from request query
         int limit = QueryManager.getLimit(request);
         
         CategoriesFilter filter = new CategoriesFilter(skip, limit, excludes);
+        
+        QueryManager.setPagination(request, filter);
         filter.setCatalog(catalogId);
         
         return getRepository().findAllByCatalogId(filter);
@@ -210,11 +278,174 @@ public abstract class CoreCategoryService
         );
         filter.setOwner(userId);
         filter.setId(categoryId);
-        return getRepository().update(categoryDTO, filter);
+        Category category = getRepository().update(categoryDTO, filter);
+        if (categoryDTO.getTitle() != null) {
+            getRepository().renameInSubtree(categoryId, categoryDTO.getTitle());
+        }
+        refreshTree(category);
+        return category;
+    }
+    
+    /**
+     * Method for move category of owner to new parent category (parent id
+     * from request body, category without parent moved to root of catalog)
+     * @param userId owner id from request params
+     * @param categoryId category id from request params
+     * @param request Spark request object
+     * @return moved category document
+     * @throws DataException throw if category or parent can not be found
+     *                       or parent is descendant of category
+     */
+    protected Category moveCategory(
+            ObjectId userId,
+            ObjectId categoryId,
+            Request request
+    ) throws DataException {
+        CategoryDTO categoryDTO = CategoryDTO.build(request, CategoryDTO.class);
+        CategoriesFilter filter = new CategoriesFilter();
+        filter.setId(categoryId);
+        filter.setIncludes(PARENT_INCLUDES);
+        Category category = getRepository().findOneById(filter);
+        if (category == null) {
+            Error error = new Error("Can not find category");
+            throw new DataException("NotFound", error);
+        }
+        Category parent = getParent(
+                categoryDTO.getParent(), 
+                category.getCatalog().getId(), 
+                new HashMap<>()
+        );
+        Category moved = getRepository().move(userId, categoryId, parent);
+        refreshTree(category);
+        return moved;
+    }
+    
+    /**
+     * Method for get parent category by id from data transfer object.
+     * Parent must be in same catalog as child category
+     * @param parent parent from data transfer object (can be null)
+     * @param catalogId catalog id of child category
+     * @param parents parents loaded by request
+     * @return parent category or null for root category
+     * @throws DataException throw if parent can not be found or parent
+     *                       in other catalog
+     */
+    private Category getParent(
+            Category parent,
+            ObjectId catalogId,
+            Map<ObjectId, Category> parents
+    ) throws DataException {
+        if (parent == null || parent.getId() == null) {
+            return null;
+        }
+        Category found = parents.get(parent.getId());
+        if (found == null) {
+            CategoriesFilter filter = new CategoriesFilter();
+            filter.setId(parent.getId());
+            filter.setIncludes(PARENT_INCLUDES);
+            found = getRepository().findOneById(filter);
+            if (found == null) {
+                Error error = new Error("Can not find parent category");
+                throw new DataException("NotFound", error);
+            }
+            parents.put(found.getId(), found);
+        }
+        if (catalogId == null 
+                || found.getCatalog() == null
+                || !catalogId.equals(found.getCatalog().getId())) {
+            Error error = new Error("Parent category not in category catalog");
+            throw new DataException("NotCorrectParams", error);
+        }
+        return found;
+    }
+    
+    /**
+     * Method for replace cached tree of category catalog
+     * @param category changed category (with catalog)
+     */
+    private void refreshTree(Category category) {
+        if (category != null && category.getCatalog() != null) {
+            CategoryTreeCache.refresh(category.getCatalog().getId(), getRepository());
+        }
+    }
+    
+    /**
+     * Method for get count of tree levels from query (all levels if param
+     * not send)
+     * @param request Spark request object
+     * @return count of levels or null
+     * @throws DataException throw if count of levels not correct
+     */
+    private static Integer getLevels(Request request) throws DataException {
+        Long levels = QueryManager.getLong(request, QueryParams.DEPTH);
+        if (levels == null) {
+            return null;
+        }
+        if (levels < 1 || levels > Integer.MAX_VALUE) {
+            Error error = new Error("Depth of tree must be positive number");
+            throw new DataException("NotCorrectParams", error);
+        }
+        return levels.intValue();
+    }
+    
+    /**
+     * Method for get categories tree of catalog (full tree got from cache)
+     * @param request Spark request object (count of levels from query)
+     * @param catalogId catalog id
+     * @return root nodes of tree
+     * @throws DataException throw if send not correct depth
+     */
+    protected List<TreeNode> getCatalogTree(
+            Request request,
+            ObjectId catalogId
+    ) throws DataException {
+        Integer levels = getLevels(request);
+        if (levels == null) {
+            return CategoryTreeCache.get(catalogId, getRepository());
+        }
+        CategoriesFilter filter = new CategoriesFilter();
+        filter.setCatalog(catalogId);
+        filter.setIncludes(TreeNode.FIELDS);
+        filter.setMaxDepth(levels - 1);
+        return CategoryTreeCache.build(getRepository().findTreeByCatalogId(filter));
+    }
+    
+    /**
+     * Method for get subtree of category
+     * @param request Spark request object (count of levels from query)
+     * @param categoryId id of subtree root category
+     * @return subtree root node
+     * @throws DataException throw if category can not be found or send not
+     *                       correct depth
+     */
+    protected TreeNode getSubtree(
+            Request request,
+            ObjectId categoryId
+    ) throws DataException {
+        Integer levels = getLevels(request);
+        CategoriesFilter filter = new CategoriesFilter();
+        filter.setId(categoryId);
+        filter.setIncludes(TreeNode.FIELDS);
+        Category category = getRepository().findOneById(filter);
+        if (category == null) {
+            Error error = new Error("Can not find category");
+            throw new DataException("NotFound", error);
+        }
+        List<Category> categories = new ArrayList<>();
+        categories.add(category);
+        if (levels == null || levels > 1) {
+            filter.setId(null);
+            filter.setParent(categoryId);
+            filter.setMaxDepth((levels != null) 
+                    ? category.getDepth() + levels - 1 
+                    : null);
+            categories.addAll(getRepository().findSubtree(filter));
+        }
+        return CategoryTreeCache.build(categories).get(0);
     }
     
     /**
-     * Method for delete (deactivate) category document
+     * Method for delete (deactivate) category document with descendants
      * @param userId owner id from request params
      * @param categoryId category id from requeset params
      * @return category document
@@ -227,6 +458,131 @@ public abstract class CoreCategoryService
         CategoriesFilter filter = new CategoriesFilter(new String[] {});
         filter.setOwner(userId);
         filter.setId(categoryId);
-        return getRepository().deactivate(filter);
+        Category category = getRepository().deactivate(filter);
+        getRepository().deactivateDescendants(List.of(categoryId));
+        refreshTree(category);
+        return category;
+    }
+    
+    /**
+     * Method for create category documents for owner by batch from
+     * request body. Catalog of each category got by catalog id from
+     * batch item (each catalog loaded once per batch). Items with not
+     * found catalog or not correct parent failed without write
+     * @param userId owner id
+     * @param request Spark request object
+     * @return results of create by batch items
+     * @throws DataException throw if can not find user or batch not correct
+     */
+    protected List<BatchResult> createCategories(
+            ObjectId userId,
+            Request request
+    ) throws DataException {
+        User user = getOwnerById(userId);
+        List<CategoryDTO> categories = getBatch(request, CategoryDTO[].class);
+        Map<ObjectId, Catalog> catalogs = new HashMap<>();
+        Map<ObjectId, Category> parents = new HashMap<>();
+        BatchResult[] results = new BatchResult[categories.size()];
+        List<CategoryDTO> valid = new ArrayList<>(categories.size());
+        List<Integer> indexes = new ArrayList<>(categories.size());
+        for (int i = 0; i < categories.size(); i++) {
+            CategoryDTO categoryDTO = categories.get(i);
+            if (categoryDTO != null) {
+                ObjectId catalogId = (categoryDTO.getCatalog() != null)
+                        ? categoryDTO.getCatalog().getId()
+                        : null;
+                if (catalogId != null && !catalogs.containsKey(catalogId)) {
+                    catalogs.put(catalogId, CoreCatalogService.getCatalogById(
+                            catalogId, 
+                            getCatalogsRepository()
+                    ));
+                }
+                Catalog catalog = (catalogId != null) 
+                        ? catalogs.get(catalogId) 
+                        : null;
+                if (catalog == null) {
+                    results[i] = BatchResult.failed(i, null, "Can not find catalog");
+                    continue;
+                }
+                try {
+                    categoryDTO.setParent(getParent(
+                            categoryDTO.getParent(),
+                            catalogId,
+                            parents
+                    ));
+                } catch (DataException exception) {
+                    results[i] = BatchResult.failed(i, null, getErrorMessage(exception));
+                    continue;
+                }
+                categoryDTO.setCatalog(catalog);
+                categoryDTO.setOwner(user);
+            }
+            valid.add(categoryDTO);
+            indexes.add(i);
+        }
+        List<BatchResult> written = getRepository().createMany(valid);
+        for (Map.Entry<ObjectId, Catalog> catalog : catalogs.entrySet()) {
+            if (catalog.getValue() != null) {
+                CategoryTreeCache.refresh(catalog.getKey(), getRepository());
+            }
+        }
+        return mergeResults(results, indexes, written);
+    }
+    
+    /**
+     * Method for update category documents of owner by batch from request
+     * body (each batch item must contain document id)
+     * @param userId owner id
+     * @param request Spark request object
+     * @return results of update by batch items
+     * @throws DataException throw if batch not correct
+     */
+    protected List<BatchResult> updateCategories(
+            ObjectId userId,
+            Request request
+    ) throws DataException {
+        List<CategoryDTO> categories = getBatch(request, CategoryDTO[].class);
+        List<ObjectId> ids = new ArrayList<>(categories.size());
+        for (CategoryDTO categoryDTO : categories) {
+            ids.add((categoryDTO != null) ? categoryDTO.getId() : null);
+        }
+        List<BatchResult> results = getRepository().updateMany(userId, ids, categories);
+        Map<ObjectId, String> titles = new HashMap<>();
+        for (BatchResult result : results) {
+            String title = categories.get(result.getIndex()).getTitle();
+            if (result.isSuccess() && title != null) {
+                titles.put(result.getId(), title);
+            }
+        }
+        getRepository().renameInSubtrees(titles);
+        // Catalogs of updated categories not loaded by batch
+        CategoryTreeCache.invalidateAll();
+        return results;
+    }
+    
+    /**
+     * Method for deactivate category documents of owner (with descendants)
+     * by batch of ids from request body
+     * @param userId owner id
+     * @param request Spark request object
+     * @return results of deactivate by batch items
+     * @throws DataException throw if batch not correct
+     */
+    protected List<BatchResult> deleteCategories(
+            ObjectId userId,
+            Request request
+    ) throws DataException {
+        List<ObjectId> ids = getBatchIds(request);
+        List<BatchResult> results = getRepository().deactivateMany(userId, ids);
+        List<ObjectId> deactivated = new ArrayList<>(results.size());
+        for (BatchResult result : results) {
+            if (result.isSuccess()) {
+                deactivated.add(result.getId());
+            }
+        }
+        getRepository().deactivateDescendants(deactivated);
+        // Catalogs of deactivated categories not loaded by batch
+        CategoryTreeCache.invalidateAll();
+        return results;
     }
 }
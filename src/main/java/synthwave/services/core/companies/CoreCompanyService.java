@@ -2,6 +2,7 @@ package synthwave.services.core.companies;
 
 import synthwave.dto.CompanyDTO;
 import core.exceptions.DataException;
+import core.response.answers.BatchResult;
 import synthwave.filters.CompaniesFilter;
 import synthwave.models.morphia.extend.Company;
 import synthwave.models.morphia.extend.User;
@@ -9,6 +10,7 @@ import synthwave.repositories.morphia.CompaniesRepository;
 import synthwave.services.abstracts.BaseDocumentService;
 import core.utils.QueryManager;
 import dev.morphia.Datastore;
+import java.util.ArrayList;
 import java.util.List;
 import org.bson.types.ObjectId;
 import spark.Request;
@@ -100,6 +102,7 @@ public abstract class CoreCompanyService
         int skip = QueryManager.getSkip(request);
         int limit = QueryManager.getLimit(request);
         CompaniesFilter filter = new CompaniesFilter(skip, limit, excludes);
+        QueryManager.setPagination(request, filter);
         if (ownerId != null) {
             filter.setOwner(ownerId);
             return getRepository().findAllByOwnerId(filter);
@@ -143,4 +146,62 @@ public abstract class CoreCompanyService
         filter.setOwner(userId);
         return getRepository().deactivate(filter);
     }
+    
+    /**
+     * Method for create company documents for owner by batch from
+     * request body
+     * @param userId owner id
+     * @param request Spark request object
+     * @return results of create by batch items
+     * @throws DataException throw if can not find user or batch not correct
+     */
+    protected List<BatchResult> createCompanies(
+            ObjectId userId,
+            Request request
+    ) throws DataException {
+        User user = getOwnerById(userId);
+        List<CompanyDTO> companies = getBatch(request, CompanyDTO[].class);
+        for (CompanyDTO companyDTO : companies) {
+            if (companyDTO != null) {
+                companyDTO.setOwner(user);
+            }
+        }
+        return getRepository().createMany(companies);
+    }
+    
+    /**
+     * Method for update company documents of owner by batch from request
+     * body (each batch item must contain document id)
+     * @param userId owner id
+     * @param request Spark request object
+     * @return results of update by batch items
+     * @throws DataException throw if batch not correct
+     */
+    protected List<BatchResult> updateCompanies(
+            ObjectId userId,
+            Request request
+    ) throws DataException {
+        List<CompanyDTO> companies = getBatch(request, CompanyDTO[].class);
+        List<ObjectId> ids = new ArrayList<>(companies.size());
+        for (CompanyDTO companyDTO : companies) {
+            ids.add((companyDTO != null) ? companyDTO.getId() : null);
+        }
+        return getRepository().updateMany(userId, ids, companies);
+    }
+    
+    /**
+     * Method for deactivate company documents of owner by batch of ids
+     * from request body
+     * @param userId owner id
+     * @param request Spark request object
+     * @return results of deactivate by batch items
+     * @throws DataException throw if batch not correct
+     */
+    protected List<BatchResult> deleteCompanies(
+            ObjectId userId,
+            Request request
+    ) throws DataException {
+        List<ObjectId> ids = getBatchIds(request);
+        return getRepository().deactivateMany(userId, ids);
+    }
 }
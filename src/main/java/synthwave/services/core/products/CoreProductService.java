@@ -0,0 +1,766 @@
+package synthwave.services.core.products;
+
+import synthwave.dto.ProductDTO;
+import core.constants.Currencies;
+import core.constants.QueryParams;
+import core.exceptions.DataException;
+import core.response.answers.BatchResult;
+import core.response.answers.FacetedList;
+import synthwave.filters.CatalogsFilter;
+import synthwave.filters.CategoriesFilter;
+import synthwave.filters.CompaniesFilter;
+import synthwave.filters.ProductsFilter;
+import synthwave.filters.TagsFilter;
+import synthwave.models.morphia.extend.Catalog;
+import synthwave.models.morphia.extend.Category;
+import synthwave.models.morphia.extend.Company;
+import synthwave.models.morphia.extend.Product;
+import synthwave.models.morphia.extend.User;
+import synthwave.models.morphia.simple.Tag;
+import synthwave.repositories.morphia.CatalogsRepository;
+import synthwave.repositories.morphia.CategoriesRepository;
+import synthwave.repositories.morphia.CompaniesRepository;
+import synthwave.repositories.morphia.ProductsRepository;
+import synthwave.repositories.morphia.TagsRepository;
+import synthwave.services.abstracts.BaseDocumentService;
+import engine.repositories.morphia.DocumentStream;
+import core.utils.QueryManager;
+import dev.morphia.Datastore;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.bson.types.ObjectId;
+import spark.Request;
+
+/**
+ * Class with core methods for work with products documents
+ * @author small-entropy
+ */
+public abstract class CoreProductService
+        extends BaseDocumentService<Product, ProductsRepository> {
+
+    /** Fields not needed in products lists (sent only for single product) */
+    private static final String[] LIST_EXCLUDES = new String[] {
+        "description",
+        "profile",
+        "properties",
+        "scores"
+    };
+    /** Fields of catalog needed for embedded catalog */
+    private static final String[] CATALOG_INCLUDES = new String[] { "title", "owner" };
+    /** Fields of category needed for embedded category */
+    private static final String[] CATEGORY_INCLUDES = new String[] { "title", "owner", "catalog" };
+    /** Fields of tag needed for embedded tag */
+    private static final String[] TAG_INCLUDES = new String[] { "name", "title" };
+    /** Fields of company needed for embedded company */
+    private static final String[] COMPANY_INCLUDES = new String[] { "title", "description", "owner" };
+
+    /** List exclude fields by exclude fields of access level */
+    private final Map<String[], String[]> listExcludes = new IdentityHashMap<>();
+
+    CatalogsRepository catalogsRepository;
+    CategoriesRepository categoriesRepository;
+    TagsRepository tagsRepository;
+    CompaniesRepository companiesRepository;
+
+    /**
+     * Class for documents referenced by products (each document loaded
+     * once per request)
+     */
+    private static final class References {
+        private final Map<ObjectId, Catalog> catalogs = new HashMap<>();
+        private final Map<ObjectId, Category> categories = new HashMap<>();
+        private final Map<ObjectId, Tag> tags = new HashMap<>();
+        private final Map<ObjectId, Company> companies = new HashMap<>();
+    }
+
+    public CoreProductService(
+            Datastore datastore,
+            String[] globalExcludes,
+            String[] publicExcludes,
+            String[] privateExcludes
+    ) {
+        super(
+                datastore,
+                new ProductsRepository(datastore),
+                globalExcludes,
+                publicExcludes,
+                privateExcludes
+        );
+        this.catalogsRepository = new CatalogsRepository(datastore);
+        this.categoriesRepository = new CategoriesRepository(datastore);
+        this.tagsRepository = new TagsRepository(datastore);
+        this.companiesRepository = new CompaniesRepository(datastore);
+        // Precompute list projections for all access levels
+        for (String[] excludes : List.of(globalExcludes, publicExcludes, privateExcludes)) {
+            listExcludes.put(excludes, mergeExcludes(excludes));
+        }
+        getRepository().prepareProjections(
+                listExcludes.values().toArray(new String[0][])
+        );
+    }
+
+    public CatalogsRepository getCatalogsRepository() {
+        return catalogsRepository;
+    }
+
+    public void setCatalogsRepository(CatalogsRepository catalogsRepository) {
+        this.catalogsRepository = catalogsRepository;
+    }
+
+    public CategoriesRepository getCategoriesRepository() {
+        return categoriesRepository;
+    }
+
+    public void setCategoriesRepository(CategoriesRepository categoriesRepository) {
+        this.categoriesRepository = categoriesRepository;
+    }
+
+    public TagsRepository getTagsRepository() {
+        return tagsRepository;
+    }
+
+    public void setTagsRepository(TagsRepository tagsRepository) {
+        this.tagsRepository = tagsRepository;
+    }
+
+    public CompaniesRepository getCompaniesRepository() {
+        return companiesRepository;
+    }
+
+    public void setCompaniesRepository(CompaniesRepository companiesRepository) {
+        this.companiesRepository = companiesRepository;
+    }
+
+    /**
+     * Method for merge exclude fields with fields not needed in lists
+     * @param excludes exclude fields
+     * @return merged exclude fields
+     */
+    private static String[] mergeExcludes(String[] excludes) {
+        String[] merged = Arrays.copyOf(excludes, excludes.length + LIST_EXCLUDES.length);
+        System.arraycopy(LIST_EXCLUDES, 0, merged, excludes.length, LIST_EXCLUDES.length);
+        return merged;
+    }
+
+    /**
+     * Method for get exclude fields for products list (list contains only
+     * short product data)
+     * @param excludes exclude fields by access level
+     * @return exclude fields for list
+     */
+    protected String[] getListExcludes(String[] excludes) {
+        String[] merged = listExcludes.get(excludes);
+        return (merged != null) ? merged : mergeExcludes(excludes);
+    }
+
+    /**
+     * Method for create filter for products list with pagination from
+     * request query
+     * @param request Spark request object
+     * @param excludes exclude fields by access level
+     * @return products filter
+     * @throws DataException throw if send not correct cursor
+     */
+    private ProductsFilter getListFilter(
+            Request request,
+            String[] excludes
+    ) throws DataException {
+        int skip = QueryManager.getSkip(request);
+        // Set limit value from request query
+        int limit = QueryManager.getLimit(request);
+        ProductsFilter filter = new ProductsFilter(
+                skip,
+                limit,
+                getListExcludes(excludes)
+        );
+        QueryManager.setPagination(request, filter);
+        return filter;
+    }
+
+    /**
+     * Method for get products list
+     * @param request Spark request object
+     * @param excludes exclude fields
+     * @return products list
+     * @throws DataException throw if send not correct cursor
+     */
+    protected List<Product> getList(
+            Request request,
+            String[] excludes
+    ) throws DataException {
+        return getRepository().findAll(getListFilter(request, excludes));
+    }
+
+    /**
+     * Method for get stream of products
+     * @param request Spark request object
+     * @param excludes exclude fields
+     * @return stream of products
+     * @throws DataException throw if send not correct cursor
+     */
+    protected DocumentStream<Product> streamList(
+            Request request,
+            String[] excludes
+    ) throws DataException {
+        return getRepository().streamAll(getListFilter(request, excludes));
+    }
+
+    /**
+     * Method for get products list of owner
+     * @param request Spark request object
+     * @param userId owner id
+     * @param excludes exclude fields
+     * @return products list
+     * @throws DataException throw if send not correct cursor
+     */
+    protected List<Product> getProductsByOwnerId(
+            Request request,
+            ObjectId userId,
+            String[] excludes
+    ) throws DataException {
+        ProductsFilter filter = getListFilter(request, excludes);
+        filter.setOwner(userId);
+        return getRepository().findAllByOwnerId(filter);
+    }
+
+    /**
+     * Method for get stream of owner products
+     * @param request Spark request object
+     * @param userId owner id
+     * @param excludes exclude fields
+     * @return stream of products
+     * @throws DataException throw if send not correct cursor
+     */
+    protected DocumentStream<Product> streamProductsByOwnerId(
+            Request request,
+            ObjectId userId,
+            String[] excludes
+    ) throws DataException {
+        ProductsFilter filter = getListFilter(request, excludes);
+        filter.setOwner(userId);
+        return getRepository().streamAllByOwnerId(filter);
+    }
+
+    /**
+     * Method for get products list by catalog id
+     * @param request Spark request object
+     * @param catalogId catalog id
+     * @param excludes exclude fields
+     * @return products list
+     * @throws DataException throw if send not correct cursor
+     */
+    protected List<Product> getProductsByCatalogId(
+            Request request,
+            ObjectId catalogId,
+            String[] excludes
+    ) throws DataException {
+        ProductsFilter filter = getListFilter(request, excludes);
+        filter.setCatalog(catalogId);
+        return getRepository().findAllByCatalogId(filter);
+    }
+
+    /**
+     * Method for get products list by category id
+     * @param request Spark request object
+     * @param categoryId category id
+     * @param excludes exclude fields
+     * @return products list
+     * @throws DataException throw if send not correct cursor
+     */
+    protected List<Product> getProductsByCategoryId(
+            Request request,
+            ObjectId categoryId,
+            String[] excludes
+    ) throws DataException {
+        ProductsFilter filter = getListFilter(request, excludes);
+        filter.setCategory(categoryId);
+        return getRepository().findAllByCategoryId(filter);
+    }
+
+    /**
+     * Method for get products list by tag id
+     * @param request Spark request object
+     * @param tagId tag id
+     * @param excludes exclude fields
+     * @return products list
+     * @throws DataException throw if send not correct cursor
+     */
+    protected List<Product> getProductsByTagId(
+            Request request,
+            ObjectId tagId,
+            String[] excludes
+    ) throws DataException {
+        ProductsFilter filter = getListFilter(request, excludes);
+        filter.setTag(tagId);
+        return getRepository().findAllByTagId(filter);
+    }
+
+    /**
+     * Method for get products list of owner by catalog id
+     * @param request Spark request object
+     * @param userId owner id
+     * @param catalogId catalog id
+     * @param excludes exclude fields
+     * @return products list
+     * @throws DataException throw if send not correct cursor
+     */
+    protected List<Product> getProductsByOwnerAndCatalogId(
+            Request request,
+            ObjectId userId,
+            ObjectId catalogId,
+            String[] excludes
+    ) throws DataException {
+        ProductsFilter filter = getListFilter(request, excludes);
+        filter.setOwner(userId);
+        filter.setCatalog(catalogId);
+        return getRepository().findAllByOwnerAndCatalogId(filter);
+    }
+
+    /**
+     * Method for faceted search of products by selections from request
+     * query (categories, tags, sellers, manufacturers & price bounds in
+     * currency)
+     * @param request Spark request object
+     * @param catalogId catalog id (null - search in all catalogs)
+     * @param excludes exclude fields
+     * @return faceted search result
+     * @throws DataException throw if send not correct query params
+     */
+    protected FacetedList<Product> searchProducts(
+            Request request,
+            ObjectId catalogId,
+            String[] excludes
+    ) throws DataException {
+        int skip = QueryManager.getSkip(request);
+        // Set limit value from request query
+        int limit = QueryManager.getLimit(request);
+        ProductsFilter filter = new ProductsFilter(
+                skip,
+                limit,
+                getListExcludes(excludes)
+        );
+        filter.setCatalog(catalogId);
+        filter.setCategories(QueryManager.getObjectIds(request, QueryParams.CATEGORY));
+        filter.setTags(QueryManager.getObjectIds(request, QueryParams.TAG));
+        filter.setSellers(QueryManager.getObjectIds(request, QueryParams.SELLER));
+        filter.setManufacturers(QueryManager.getObjectIds(request, QueryParams.MANUFACTURER));
+        filter.setPriceMin(QueryManager.getLong(request, QueryParams.PRICE_MIN));
+        filter.setPriceMax(QueryManager.getLong(request, QueryParams.PRICE_MAX));
+        Currencies currency = QueryManager.getCurrency(request);
+        if (currency != null) {
+            filter.setCurrency(currency.getName());
+        } else if (filter.getPriceMin() != null || filter.getPriceMax() != null) {
+            Error error = new Error("Currency must be sent with price bounds");
+            throw new DataException("NotCorrectParams", error);
+        }
+        return getRepository().search(filter);
+    }
+
+    /**
+     * Method for get products with price in currency sorted by price
+     * (price bounds & order from request query)
+     * @param request Spark request object
+     * @param currency currency of prices
+     * @param excludes exclude fields
+     * @return products list
+     * @throws DataException throw if send not correct query params
+     */
+    protected List<Product> getProductsByPrice(
+            Request request,
+            Currencies currency,
+            String[] excludes
+    ) throws DataException {
+        int skip = QueryManager.getSkip(request);
+        // Set limit value from request query
+        int limit = QueryManager.getLimit(request);
+        ProductsFilter filter = new ProductsFilter(
+                skip,
+                limit,
+                getListExcludes(excludes)
+        );
+        filter.setCurrency(currency.getName());
+        filter.setPriceMin(QueryManager.getLong(request, QueryParams.PRICE_MIN));
+        filter.setPriceMax(QueryManager.getLong(request, QueryParams.PRICE_MAX));
+        filter.setDescending(QueryManager.isDescending(request));
+        return getRepository().findAllByPrice(filter);
+    }
+
+    /**
+     * Method for get product by id & owner id
+     * @param productId product id
+     * @param ownerId owner id
+     * @param excludes exclude fields
+     * @return product document
+     */
+    protected Product getProductById(
+            ObjectId productId,
+            ObjectId ownerId,
+            String[] excludes
+    ) {
+        ProductsFilter filter = new ProductsFilter(productId, excludes);
+        filter.setOwner(ownerId);
+        return getRepository().findOneByOwnerAndId(filter);
+    }
+
+    /**
+     * Method for get product by id
+     * @param productId product id
+     * @param excludes exclude fields
+     * @return product document
+     */
+    protected Product getProductById(
+            ObjectId productId,
+            String[] excludes
+    ) {
+        ProductsFilter filter = new ProductsFilter(productId, excludes);
+        return getRepository().findOneById(filter);
+    }
+
+    /**
+     * Method for get product by document
+     * @param product product document
+     * @param excludes exclude fields
+     * @return product document
+     */
+    protected Product getProductByDocument(
+            Product product,
+            String[] excludes
+    ) {
+        ObjectId ownerId = product.getOwner().getId();
+        return getProductById(product.getId(), ownerId, excludes);
+    }
+
+    /**
+     * Method for get referenced document by id (document loaded once
+     * per request)
+     * @param <T> type of document
+     * @param cache loaded documents
+     * @param id document id
+     * @param loader loader of document by id
+     * @param message error message
+     * @return document
+     * @throws DataException throw if document can not be found
+     */
+    private static <T> T getReference(
+            Map<ObjectId, T> cache,
+            ObjectId id,
+            Function<ObjectId, T> loader,
+            String message
+    ) throws DataException {
+        T document = (id != null)
+                ? cache.computeIfAbsent(id, loader)
+                : null;
+        if (document == null) {
+            Error error = new Error(message);
+            throw new DataException("NotFound", error);
+        }
+        return document;
+    }
+
+    /**
+     * Method for get catalog by id (only fields for embedded catalog)
+     * @param catalogId catalog id
+     * @return catalog document
+     */
+    private Catalog loadCatalog(ObjectId catalogId) {
+        CatalogsFilter filter = new CatalogsFilter(catalogId);
+        filter.setIncludes(CATALOG_INCLUDES);
+        return getCatalogsRepository().findOneById(filter);
+    }
+
+    /**
+     * Method for get category by id (only fields for embedded category)
+     * @param categoryId category id
+     * @return category document
+     */
+    private Category loadCategory(ObjectId categoryId) {
+        CategoriesFilter filter = new CategoriesFilter();
+        filter.setId(categoryId);
+        filter.setIncludes(CATEGORY_INCLUDES);
+        return getCategoriesRepository().findOneById(filter);
+    }
+
+    /**
+     * Method for get tag by id (only fields for embedded tag)
+     * @param tagId tag id
+     * @return tag document
+     */
+    private Tag loadTag(ObjectId tagId) {
+        TagsFilter filter = new TagsFilter();
+        filter.setId(tagId);
+        filter.setIncludes(TAG_INCLUDES);
+        return getTagsRepository().findOneById(filter);
+    }
+
+    /**
+     * Method for get company by id (only fields for embedded company)
+     * @param companyId company id
+     * @return company document
+     */
+    private Company loadCompany(ObjectId companyId) {
+        CompaniesFilter filter = new CompaniesFilter();
+        filter.setId(companyId);
+        filter.setIncludes(COMPANY_INCLUDES);
+        return getCompaniesRepository().findOneById(filter);
+    }
+
+    /**
+     * Method for replace documents referenced by product data transfer
+     * object (sent only with ids) by documents from database. Catalog of
+     * created product got from data transfer object, catalog of updated
+     * product - from product document. Categories must be in product
+     * catalog
+     * @param productDTO product data transfer object
+     * @param references documents loaded by request
+     * @param create state of create product
+     * @param catalogId catalog id of updated product (not used for create)
+     * @throws DataException throw if referenced document can not be found
+     *                       or category not in product catalog
+     */
+    private void resolveReferences(
+            ProductDTO productDTO,
+            References references,
+            boolean create,
+            ObjectId catalogId
+    ) throws DataException {
+        if (create) {
+            ObjectId id = (productDTO.getCatalog() != null)
+                    ? productDTO.getCatalog().getId()
+                    : null;
+            Catalog catalog = getReference(
+                    references.catalogs,
+                    id,
+                    this::loadCatalog,
+                    "Can not find catalog"
+            );
+            productDTO.setCatalog(catalog);
+            catalogId = catalog.getId();
+        }
+        if (productDTO.getCategories() != null) {
+            List<Category> categories = new ArrayList<>();
+            for (Category item : productDTO.getCategories()) {
+                Category category = getReference(
+                        references.categories,
+                        (item != null) ? item.getId() : null,
+                        this::loadCategory,
+                        "Can not find category"
+                );
+                if (category.getCatalog() == null
+                        || !category.getCatalog().getId().equals(catalogId)) {
+                    Error error = new Error("Category not in product catalog");
+                    throw new DataException(
+                            (create) ? "CanNotCreate" : "CanNotUpdate", 
+                            error
+                    );
+                }
+                categories.add(category);
+            }
+            productDTO.setCategories(categories);
+        }
+        if (productDTO.getTags() != null) {
+            List<Tag> tags = new ArrayList<>();
+            for (Tag item : productDTO.getTags()) {
+                tags.add(getReference(
+                        references.tags,
+                        (item != null) ? item.getId() : null,
+                        this::loadTag,
+                        "Can not find tag"
+                ));
+            }
+            productDTO.setTags(tags);
+        }
+        if (productDTO.getSeller() != null) {
+            productDTO.setSeller(getReference(
+                    references.companies,
+                    productDTO.getSeller().getId(),
+                    this::loadCompany,
+                    "Can not find seller company"
+            ));
+        }
+        if (productDTO.getManufacturer() != null) {
+            productDTO.setManufacturer(getReference(
+                    references.companies,
+                    productDTO.getManufacturer().getId(),
+                    this::loadCompany,
+                    "Can not find manufacturer company"
+            ));
+        }
+    }
+
+    /**
+     * Method for create product. Catalog, categories, tags & companies
+     * of product got by ids from request body
+     * @param userId owner id
+     * @param request Spark request object
+     * @return created product document
+     * @throws DataException throw if can not find user or referenced documents
+     */
+    protected Product createProduct(
+            ObjectId userId,
+            Request request
+    ) throws DataException {
+        User user = getOwnerById(userId);
+        ProductDTO productDTO = ProductDTO.build(request, ProductDTO.class);
+        resolveReferences(productDTO, new References(), true, null);
+        productDTO.setOwner(user);
+        return getRepository().create(productDTO);
+    }
+
+    /**
+     * Method for update product document
+     * @param userId owner id
+     * @param productId product id
+     * @param request Spark request object
+     * @return product document
+     * @throws DataException throw if can not find product or referenced documents
+     */
+    protected Product updateProduct(
+            ObjectId userId,
+            ObjectId productId,
+            Request request
+    ) throws DataException {
+        ProductDTO productDTO = ProductDTO.build(request, ProductDTO.class);
+        ObjectId catalogId = null;
+        if (productDTO.getCategories() != null) {
+            Map<ObjectId, ObjectId> catalogs = getRepository()
+                    .findCatalogIds(userId, List.of(productId));
+            if (!catalogs.containsKey(productId)) {
+                Error error = new Error("Can not find product");
+                throw new DataException("NotFound", error);
+            }
+            catalogId = catalogs.get(productId);
+        }
+        resolveReferences(productDTO, new References(), false, catalogId);
+        ProductsFilter filter = new ProductsFilter(getGlobalExcludes());
+        filter.setOwner(userId);
+        filter.setId(productId);
+        return getRepository().update(productDTO, filter);
+    }
+
+    /**
+     * Method for delete (deactivate) product document
+     * @param userId owner id
+     * @param productId product id
+     * @return product document
+     * @throws DataException throw if can not find product document
+     */
+    protected Product deleteProduct(
+            ObjectId userId,
+            ObjectId productId
+    ) throws DataException {
+        ProductsFilter filter = new ProductsFilter(new String[] {});
+        filter.setOwner(userId);
+        filter.setId(productId);
+        return getRepository().deactivate(filter);
+    }
+
+    /**
+     * Method for create product documents for owner by batch from request
+     * body. Referenced documents loaded once per batch, items with not
+     * correct references failed without write
+     * @param userId owner id
+     * @param request Spark request object
+     * @return results of create by batch items
+     * @throws DataException throw if can not find user or batch not correct
+     */
+    protected List<BatchResult> createProducts(
+            ObjectId userId,
+            Request request
+    ) throws DataException {
+        User user = getOwnerById(userId);
+        List<ProductDTO> products = getBatch(request, ProductDTO[].class);
+        References references = new References();
+        BatchResult[] results = new BatchResult[products.size()];
+        List<ProductDTO> valid = new ArrayList<>(products.size());
+        List<Integer> indexes = new ArrayList<>(products.size());
+        for (int i = 0; i < products.size(); i++) {
+            ProductDTO productDTO = products.get(i);
+            if (productDTO != null) {
+                try {
+                    resolveReferences(productDTO, references, true, null);
+                } catch (DataException exception) {
+                    results[i] = BatchResult.failed(i, null, getErrorMessage(exception));
+                    continue;
+                }
+                productDTO.setOwner(user);
+            }
+            valid.add(productDTO);
+            indexes.add(i);
+        }
+        return mergeResults(results, indexes, getRepository().createMany(valid));
+    }
+
+    /**
+     * Method for update product documents of owner by batch from request
+     * body (each batch item must contain document id). Catalogs of
+     * products loaded by one query, items with not correct references
+     * failed without write
+     * @param userId owner id
+     * @param request Spark request object
+     * @return results of update by batch items
+     * @throws DataException throw if batch not correct
+     */
+    protected List<BatchResult> updateProducts(
+            ObjectId userId,
+            Request request
+    ) throws DataException {
+        List<ProductDTO> products = getBatch(request, ProductDTO[].class);
+        List<ObjectId> ids = new ArrayList<>(products.size());
+        for (ProductDTO productDTO : products) {
+            ids.add((productDTO != null) ? productDTO.getId() : null);
+        }
+        Map<ObjectId, ObjectId> catalogs = getRepository().findCatalogIds(userId, ids);
+        References references = new References();
+        BatchResult[] results = new BatchResult[products.size()];
+        List<ProductDTO> valid = new ArrayList<>(products.size());
+        List<ObjectId> validIds = new ArrayList<>(products.size());
+        List<Integer> indexes = new ArrayList<>(products.size());
+        for (int i = 0; i < products.size(); i++) {
+            ProductDTO productDTO = products.get(i);
+            ObjectId id = ids.get(i);
+            if (productDTO != null 
+                    && productDTO.getCategories() != null
+                    && !catalogs.containsKey(id)) {
+                results[i] = BatchResult.failed(i, id, "Can not find document");
+                continue;
+            }
+            if (productDTO != null) {
+                try {
+                    resolveReferences(productDTO, references, false, catalogs.get(id));
+                } catch (DataException exception) {
+                    results[i] = BatchResult.failed(i, id, getErrorMessage(exception));
+                    continue;
+                }
+            }
+            valid.add(productDTO);
+            validIds.add(id);
+            indexes.add(i);
+        }
+        return mergeResults(
+                results, 
+                indexes, 
+                getRepository().updateMany(userId, validIds, valid)
+        );
+    }
+
+    /**
+     * Method for deactivate product documents of owner by batch of ids
+     * from request body
+     * @param userId owner id
+     * @param request Spark request object
+     * @return results of deactivate by batch items
+     * @throws DataException throw if batch not correct
+     */
+    protected List<BatchResult> deleteProducts(
+            ObjectId userId,
+            Request request
+    ) throws DataException {
+        List<ObjectId> ids = getBatchIds(request);
+        return getRepository().deactivateMany(userId, ids);
+    }
+}
@@ -2,6 +2,8 @@ package synthwave.services.core.tags;
 
 import synthwave.dto.TagDTO;
 import core.exceptions.DataException;
+import core.response.answers.BatchResult;
+import engine.repositories.morphia.DocumentStream;
 import synthwave.filters.TagsFilter;
 import synthwave.models.morphia.simple.Tag;
 import synthwave.models.morphia.extend.User;
@@ -10,6 +12,7 @@ import synthwave.services.abstracts.BaseDocumentService;
 import core.utils.ParamsManager;
 import core.utils.QueryManager;
 import dev.morphia.Datastore;
+import java.util.ArrayList;
 import java.util.List;
 import org.bson.types.ObjectId;
 import spark.Request;
@@ -42,21 +45,57 @@ public abstract class CoreTagService
      * @param excludes exlude fields
      * @param ownerId owner (user) id
      * @return list of tags documents
+     * @throws DataException throw if send not correct cursor
      */
     protected List<Tag> getList(
             Request request,
             String[] excludes,
             ObjectId ownerId
-    ) {
+    ) throws DataException {
+        TagsFilter filter = getListFilter(request, excludes, ownerId);
+        return (ownerId != null)
+                ? getRepository().findAllByOwnerId(filter)
+                : getRepository().findAll(filter);
+    }
+    
+    /**
+     * Method fot get stream of tags documents
+     * @param request Spark request object
+     * @param excludes exlude fields
+     * @param ownerId owner (user) id
+     * @return stream of tags documents
+     * @throws DataException throw if send not correct cursor
+     */
+    protected DocumentStream<Tag> streamList(
+            Request request,
+            String[] excludes,
+            ObjectId ownerId
+    ) throws DataException {
+        TagsFilter filter = getListFilter(request, excludes, ownerId);
+        return (ownerId != null)
+                ? getRepository().streamAllByOwnerId(filter)
+                : getRepository().streamAll(filter);
+    }
+    
+    /**
+     * Method for create filter of tags list by pagination from request
+     * @param request Spark request object
+     * @param excludes exlude fields
+     * @param ownerId owner (user) id
+     * @return filter object
+     * @throws DataException throw if send not correct cursor
+     */
+    private TagsFilter getListFilter(
+            Request request,
+            String[] excludes,
+            ObjectId ownerId
+    ) throws DataException {
         int skip = QueryManager.getSkip(request);
         int limit = QueryManager.getLimit(request);
         TagsFilter filter = new TagsFilter(skip, limit, excludes);
-        if (ownerId != null) {
-            filter.setOwner(ownerId);
-            return getRepository().findAllByOwnerId(filter);
-        } else {
-            return getRepository().findAll(filter);
-        }
+        QueryManager.setPagination(request, filter);
+        filter.setOwner(ownerId);
+        return filter;
     }
     
     /**
@@ -164,4 +203,62 @@ public abstract class CoreTagService
         filter.setOwner(userId);
         return getRepository().deactivate(filter);
     }
+    
+    /**
+     * Method for create tag documents for owner by batch from
+     * request body
+     * @param userId owner id
+     * @param request Spark request object
+     * @return results of create by batch items
+     * @throws DataException throw if can not find user or batch not correct
+     */
+    protected List<BatchResult> createTags(
+            ObjectId userId,
+            Request request
+    ) throws DataException {
+        User user = getOwnerById(userId);
+        List<TagDTO> tags = getBatch(request, TagDTO[].class);
+        for (TagDTO tagDTO : tags) {
+            if (tagDTO != null) {
+                tagDTO.setOwner(user);
+            }
+        }
+        return getRepository().createMany(tags);
+    }
+    
+    /**
+     * Method for update tag documents of owner by batch from request
+     * body (each batch item must contain document id)
+     * @param userId owner id
+     * @param request Spark request object
+     * @return results of update by batch items
+     * @throws DataException throw if batch not correct
+     */
+    protected List<BatchResult> updateTags(
+            ObjectId userId,
+            Request request
+    ) throws DataException {
+        List<TagDTO> tags = getBatch(request, TagDTO[].class);
+        List<ObjectId> ids = new ArrayList<>(tags.size());
+        for (TagDTO tagDTO : tags) {
+            ids.add((tagDTO != null) ? tagDTO.getId() : null);
+        }
+        return getRepository().updateMany(userId, ids, tags);
+    }
+    
+    /**
+     * Method for deactivate tag documents of owner by batch of ids
+     * from request body
+     * @param userId owner id
+     * @param request Spark request object
+     * @return results of deactivate by batch items
+     * @throws DataException throw if batch not correct
+     */
+    protected List<BatchResult> deleteTags(
+            ObjectId userId,
+            Request request
+    ) throws DataException {
+        List<ObjectId> ids = getBatchIds(request);
+        return getRepository().deactivateMany(userId, ids);
+    }
 }
@@ -4,9 +4,11 @@ import engine.dto.RuleDTO;
 import synthwave.dto.UserDTO;
 import synthwave.filters.UsersFilter;
 import synthwave.models.morphia.extend.User;
+import core.utils.AuthContext;
 import core.utils.JsonWebToken;
 import core.utils.RequestManager;
 import synthwave.utils.access.RightManager;
+import synthwave.utils.access.UserRightsCache;
 import dev.morphia.Datastore;
 import java.util.Arrays;
 import spark.Request;
@@ -71,6 +73,14 @@ public abstract class CoreAuthorizationService
             UsersFilter filterForReturn, 
             UsersFilter filterForSearch
     ) {
+        // Get resolved authentication context (it contains issued tokens)
+        AuthContext context = AuthContext.get(request);
+        if (context != null) {
+            // Token must be contains in issued tokens list
+            return (context.isIssuedToken())
+                    ? getUserByToken(request, filterForReturn)
+                    : null;
+        }
         // Get user document by token
         User user = getUserByToken(
                 request,
@@ -124,6 +134,7 @@ public abstract class CoreAuthorizationService
                 token = JsonWebToken.encode(user.getUsername(), user.getStringifiedId());
                 user.setIssuedTokens(Arrays.asList(token));
                 getRepository().save(user);
+                UserRightsCache.invalidate(user.getId());
             }
             return user;
         } else {
@@ -182,6 +193,8 @@ public abstract class CoreAuthorizationService
                 user.getIssuedTokens().remove(tokenIndex);
                 // Save changes in database
                 getRepository().save(user);
+                // Issued tokens changed - remove cached user rights
+                UserRightsCache.invalidate(user.getId());
                 // return user document
                 return user;
             } else {
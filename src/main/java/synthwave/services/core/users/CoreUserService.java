@@ -1,10 +1,8 @@
 package synthwave.services.core.users;
 
 import core.utils.Comparator;
-import core.utils.JsonWebToken;
-import core.utils.HeadersManager;
 import core.utils.ParamsManager;
-import core.utils.QueryManager;
+import core.utils.RequestManager;
 import engine.dto.RuleDTO;
 import synthwave.dto.UserDTO;
 import core.exceptions.DataException;
@@ -14,7 +12,7 @@ import synthwave.models.morphia.extend.User;
 import synthwave.repositories.morphia.UsersRepository;
 import synthwave.services.abstracts.BaseService;
 import synthwave.utils.access.RightManager;
-import com.google.gson.Gson;
+import core.utils.GsonManager;
 import dev.morphia.Datastore;
 import java.util.List;
 import org.bson.types.ObjectId;
@@ -56,7 +54,7 @@ public abstract class CoreUserService
      * @return user data transfer object
      */
     protected UserDTO getUserDtoFromBody(Request request) {
-        return new Gson().fromJson(request.body(), UserDTO.class);
+        return GsonManager.fromRequest(request, UserDTO.class);
     }
     
     /**
@@ -134,20 +132,12 @@ ument
             Request request,
             UsersFilter filter
     ) {
-        // Get token from request headers
-        String header = HeadersManager.getTokenFromHeaders(request);
-        // Get token from request query params
-        String queryParam = QueryManager.getTokenFromQuery(request);
+        // Get user id from token (token verified once per request)
+        ObjectId id = RequestManager.getUserIdByRequest(request);
         // Check token from exist
         // If token exist in headers or query params - find in database
         // If token not exist in headers or query params - return null
-        if (header != null || queryParam != null) {
-            // Get token
-            // If token exist in headers - set it as value
-            // If token not exist in headers - set it as value
-            String token = (header != null) ? header : queryParam;
-            // Get user id from token
-            ObjectId id = JsonWebToken.getIdFromToken(token);
+        if (id != null) {
             // Find & return user document
             filter.setId(id);
             return getUserById(filter);
@@ -168,20 +158,12 @@ ument
             UsersRepository usersRepository,
             UsersFilter filter
     ) {
-        // Get token from request headers
-        String header = HeadersManager.getTokenFromHeaders(request);
-        // Get token from request query params
-        String queryParam = QueryManager.getTokenFromQuery(request);
+        // Get user id from token (token verified once per request)
+        ObjectId id = RequestManager.getUserIdByRequest(request);
         // Check token from exist
         // If token exist in headers or query params - find in database
         // If token not exist in headers or query params - return null
-        if (header != null || queryParam != null) {
-            // Get token
-            // If token exist in headers - set it as value
-            // If token not exist in headers - set it as value
-            String token = (header != null) ? header : queryParam;
-            // Get user id from token
-            ObjectId id = JsonWebToken.getIdFromToken(token);
+        if (id != null) {
             // Find & return user document
             filter.setId(id);
             return usersRepository.findOneById(filter);
@@ -219,7 +201,7 @@ ument
             Request request,
             UsersRepository usersRepository
     ) {
-        UserDTO userDTO = new Gson().fromJson(request.body(), UserDTO.class);
+        UserDTO userDTO = GsonManager.fromRequest(request, UserDTO.class);
         UsersFilter filter = new UsersFilter(
                 userDTO.getUsername(), 
                 new String[] {}
@@ -241,6 +223,16 @@ ument
             String[] excludes
     ) throws DataException {
         UsersFilter filter = new UsersFilter(skip, limit, excludes);
+        return getList(filter);
+    }
+
+    /**
+     * Method for get list from datastore by filter object
+     * @param filter filter object
+     * @return list with user documents
+     * @throws DataException throw if users list is empty
+     */
+    protected List<User> getList(UsersFilter filter) throws DataException {
         List<User> users = getRepository().findAll(filter);
         if (users.isEmpty()) {
             Error error = new Error("Users list is empty");
@@ -2,6 +2,9 @@ package synthwave.services.v1.catalogs;
 
 import engine.dto.RuleDTO;
 import core.exceptions.DataException;
+import core.response.answers.BatchResult;
+import core.response.answers.TreeNode;
+import engine.repositories.morphia.DocumentStream;
 import synthwave.models.morphia.extend.Catalog;
 import synthwave.services.core.catalogs.CoreCatalogService;
 import core.utils.Comparator;
@@ -44,6 +47,29 @@ public class CatalogService extends CoreCatalogService {
         }
     }
     
+    /**
+     * Method for get categories tree of catalog from request params
+     * @param request Spark request object
+     * @param right right name
+     * @param action action name
+     * @return root nodes of tree
+     * @throws DataException throw if catalog has no categories
+     */
+    public List<TreeNode> getCatalogTree(
+            Request request,
+            String right,
+            String action
+    ) throws DataException {
+        ObjectId catalogId = ParamsManager.getCatalogId(request);
+        var tree = getCategoriesTree(catalogId);
+        if (tree != null && !tree.isEmpty()) {
+            return tree;
+        } else {
+            Error error = new Error("Can not find categories in catalog");
+            throw new DataException("NotFound", error);
+        }
+    }
+    
     @Override
     public List<Catalog> getEntitiesListByOwner(
             Request request, 
@@ -78,6 +104,30 @@ public class CatalogService extends CoreCatalogService {
         }
     }
 
+    @Override
+    public DocumentStream<Catalog> streamEntitiesList(
+            Request request, 
+            String right,
+            String action
+    ) throws DataException {
+        RuleDTO rule = getRule(request, right, action);
+        String[] excludes = getExcludes(request, rule);
+        var catalogs = streamList(request, excludes);
+        return checkStream(catalogs, "Can not find catalog documents");
+    }
+
+    @Override
+    public DocumentStream<Catalog> streamEntitiesListByOwner(
+            Request request, 
+            String right,
+            String action
+    ) throws DataException {
+        RuleDTO rule = getRule(request, right, action);
+        String[] excludes = getExcludes(request, rule);
+        var catalogs = streamCatalogsByRequestForUser(request, excludes);
+        return checkStream(catalogs, "Can not find user catalogs by request params");
+    }
+
     @Override
     public Catalog createEntity(
             Request request,
@@ -117,4 +167,34 @@ public class CatalogService extends CoreCatalogService {
         ObjectId catalogId = ParamsManager.getCatalogId(request);
         return deleteCatalog(userId, catalogId);
      }
+
+    @Override
+    public List<BatchResult> createEntities(
+            Request request,
+            String right,
+            String action
+    ) throws DataException {
+        ObjectId userId = ParamsManager.getUserId(request);
+        return createCatalogs(userId, request);
+    }
+
+    @Override
+    public List<BatchResult> updateEntities(
+            Request request,
+            String right,
+            String action
+    ) throws DataException {
+        ObjectId userId = ParamsManager.getUserId(request);
+        return updateCatalogs(userId, request);
+    }
+
+    @Override
+    public List<BatchResult> deleteEntities(
+            Request request,
+            String right,
+            String action
+    ) throws DataException {
+        ObjectId userId = ParamsManager.getUserId(request);
+        return deleteCatalogs(userId, request);
+    }
 }
@@ -2,6 +2,9 @@ package synthwave.services.v1.categories;
 
 import engine.dto.RuleDTO;
 import core.exceptions.DataException;
+import core.response.answers.BatchResult;
+import core.response.answers.TreeNode;
+import engine.repositories.morphia.DocumentStream;
 import synthwave.models.morphia.extend.Category;
 import synthwave.services.core.categories.CoreCategoryService;
 import core.utils.Comparator;
@@ -44,6 +47,30 @@ public class CategoryService extends CoreCategoryService {
         }
     }
     
+    @Override
+    public DocumentStream<Category> streamEntitiesListByOwner(
+            Request request, 
+            String right,
+            String action
+    ) throws DataException {
+        RuleDTO rule = getRule(request, right, action);
+        String[] excludes = getExcludes(request, rule);
+        var categories = streamCategoriesByRequestForUser(request, excludes);
+        return checkStream(categories, "Can not find user categories by request params");
+    }
+    
+    @Override
+    public DocumentStream<Category> streamEntitiesList(
+            Request request, 
+            String right,
+            String action
+    ) throws DataException {
+        RuleDTO rule = getRule(request, right, action);
+        String[] excludes = getExcludes(request, rule);
+        var categories = streamList(request, excludes);
+        return checkStream(categories, "Can not find categories in catalog");
+    }
+    
     @Override
     public Category createEntity(
             Request request, 
@@ -76,6 +103,68 @@ public class CategoryService extends CoreCategoryService {
         }
     }
     
+    /**
+     * Method for get categories tree of catalog from request params
+     * @param request Spark request object
+     * @param right right name
+     * @param action action name
+     * @return root nodes of tree
+     * @throws DataException throw if catalog has no categories
+     */
+    public List<TreeNode> getCatalogTree(
+            Request request,
+            String right,
+            String action
+    ) throws DataException {
+        ObjectId catalogId = ParamsManager.getCatalogId(request);
+        var tree = getCatalogTree(request, catalogId);
+        if (tree != null && !tree.isEmpty()) {
+            return tree;
+        } else {
+            Error error = new Error("Can not find categories in catalog");
+            throw new DataException("NotFound", error);
+        }
+    }
+    
+    /**
+     * Method for get subtree of category from request params
+     * @param request Spark request object
+     * @param right right name
+     * @param action action name
+     * @return subtree root node
+     * @throws DataException throw if category can not be found
+     */
+    public TreeNode getCategorySubtree(
+            Request request,
+            String right,
+            String action
+    ) throws DataException {
+        ObjectId categoryId = ParamsManager.getCategoryId(request);
+        return getSubtree(request, categoryId);
+    }
+    
+    /**
+     * Method for move category to new parent category from request body
+     * @param request Spark request object
+     * @param right right name
+     * @param action action name
+     * @return moved category document
+     * @throws DataException throw if category or parent can not be found
+     */
+    public Category moveEntity(
+            Request request,
+            String right,
+            String action
+    ) throws DataException {
+        RuleDTO rule = getRule(request, right, action);
+        boolean isTrusted = Comparator.id_fromParam_fromToken(request);
+        ObjectId userId = ParamsManager.getUserId(request);
+        ObjectId categoryId = ParamsManager.getCategoryId(request);
+        Category category = moveCategory(userId, categoryId, request);
+        String[] excludes = getExcludes(isTrusted, rule);
+        return getCategoryByDocument(category, excludes);
+    }
+    
     @Override
     public List<Category> getEntitiesList(
             Request request, 
@@ -136,4 +225,34 @@ public class CategoryService extends CoreCategoryService {
         ObjectId categoryId = ParamsManager.getCategoryId(request);
         return deleteCategory(userId, categoryId);
     }
+
+    @Override
+    public List<BatchResult> createEntities(
+            Request request,
+            String right,
+            String action
+    ) throws DataException {
+        ObjectId userId = ParamsManager.getUserId(request);
+        return createCategories(userId, request);
+    }
+
+    @Override
+    public List<BatchResult> updateEntities(
+            Request request,
+            String right,
+            String action
+    ) throws DataException {
+        ObjectId userId = ParamsManager.getUserId(request);
+        return updateCategories(userId, request);
+    }
+
+    @Override
+    public List<BatchResult> deleteEntities(
+            Request request,
+            String right,
+            String action
+    ) throws DataException {
+        ObjectId userId = ParamsManager.getUserId(request);
+        return deleteCategories(userId, request);
+    }
 }
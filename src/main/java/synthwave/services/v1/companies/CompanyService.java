@@ -2,6 +2,7 @@ package synthwave.services.v1.companies;
 
 import engine.dto.RuleDTO;
 import core.exceptions.DataException;
+import core.response.answers.BatchResult;
 import synthwave.models.morphia.extend.Company;
 import synthwave.services.core.companies.CoreCompanyService;
 import core.utils.ParamsManager;
@@ -112,4 +113,34 @@ public class CompanyService extends CoreCompanyService {
         ObjectId companyId = ParamsManager.getCompanyId(request);
         return deleteCompany(userId, companyId);
     }
+
+    @Override
+    public List<BatchResult> createEntities(
+            Request request,
+            String right,
+            String action
+    ) throws DataException {
+        ObjectId userId = ParamsManager.getUserId(request);
+        return createCompanies(userId, request);
+    }
+
+    @Override
+    public List<BatchResult> updateEntities(
+            Request request,
+            String right,
+            String action
+    ) throws DataException {
+        ObjectId userId = ParamsManager.getUserId(request);
+        return updateCompanies(userId, request);
+    }
+
+    @Override
+    public List<BatchResult> deleteEntities(
+            Request request,
+            String right,
+            String action
+    ) throws DataException {
+        ObjectId userId = ParamsManager.getUserId(request);
+        return deleteCompanies(userId, request);
+    }
 }
@@ -0,0 +1,346 @@
+package synthwave.services.v1.products;
+
+import engine.dto.RuleDTO;
+import core.constants.Currencies;
+import core.constants.RequestParams;
+import core.exceptions.DataException;
+import core.response.answers.BatchResult;
+import core.response.answers.FacetedList;
+import engine.repositories.morphia.DocumentStream;
+import synthwave.models.morphia.extend.Product;
+import synthwave.services.core.products.CoreProductService;
+import core.utils.Comparator;
+import core.utils.ParamsManager;
+import dev.morphia.Datastore;
+import java.util.List;
+import org.bson.types.ObjectId;
+import spark.Request;
+
+/**
+ * Class for work with products documents
+ * @version 1
+ * @author small-entropy
+ */
+public class ProductService extends CoreProductService {
+
+    public ProductService(Datastore datastore) {
+        super(
+                datastore,
+                new String[] {},
+                new String[] { "owner", "version", "status" },
+                new String[] { "version", "status" }
+        );
+    }
+
+    /**
+     * Method for check founded products list
+     * @param products founded products
+     * @param message error message
+     * @return founded products
+     * @throws DataException throw if products list is empty
+     */
+    private static List<Product> checkList(
+            List<Product> products,
+            String message
+    ) throws DataException {
+        if (products != null && !products.isEmpty()) {
+            return products;
+        } else {
+            Error error = new Error(message);
+            throw new DataException("NotFound", error);
+        }
+    }
+
+    @Override
+    public List<Product> getEntitiesList(
+            Request request,
+            String right,
+            String action
+    ) throws DataException {
+        RuleDTO rule = getRule(request, right, action);
+        String[] excludes = getExcludes(request, rule);
+        var products = getList(request, excludes);
+        return checkList(products, "Can not find products");
+    }
+
+    @Override
+    public DocumentStream<Product> streamEntitiesList(
+            Request request,
+            String right,
+            String action
+    ) throws DataException {
+        RuleDTO rule = getRule(request, right, action);
+        String[] excludes = getExcludes(request, rule);
+        var products = streamList(request, excludes);
+        return checkStream(products, "Can not find products");
+    }
+
+    @Override
+    public DocumentStream<Product> streamEntitiesListByOwner(
+            Request request,
+            String right,
+            String action
+    ) throws DataException {
+        RuleDTO rule = getRule(request, right, action);
+        String[] excludes = getExcludes(request, rule);
+        ObjectId userId = ParamsManager.getUserId(request);
+        var products = streamProductsByOwnerId(request, userId, excludes);
+        return checkStream(products, "Can not find user products by request params");
+    }
+
+    @Override
+    public List<Product> getEntitiesListByOwner(
+            Request request,
+            String right,
+            String action
+    ) throws DataException {
+        RuleDTO rule = getRule(request, right, action);
+        String[] excludes = getExcludes(request, rule);
+        ObjectId userId = ParamsManager.getUserId(request);
+        var products = getProductsByOwnerId(request, userId, excludes);
+        return checkList(products, "Can not find user products by request params");
+    }
+
+    /**
+     * Method for get products list by catalog id from request params
+     * @param request Spark request object
+     * @param right right name
+     * @param action action name
+     * @return list of products documents
+     * @throws DataException throw if products can not be found
+     */
+    public List<Product> getCatalogProducts(
+            Request request,
+            String right,
+            String action
+    ) throws DataException {
+        RuleDTO rule = getRule(request, right, action);
+        String[] excludes = getExcludes(request, rule);
+        ObjectId catalogId = ParamsManager.getCatalogId(request);
+        var products = getProductsByCatalogId(request, catalogId, excludes);
+        return checkList(products, "Can not find products in catalog");
+    }
+
+    /**
+     * Method for get products list by category id from request params
+     * @param request Spark request object
+     * @param right right name
+     * @param action action name
+     * @return list of products documents
+     * @throws DataException throw if products can not be found
+     */
+    public List<Product> getCategoryProducts(
+            Request request,
+            String right,
+            String action
+    ) throws DataException {
+        RuleDTO rule = getRule(request, right, action);
+        String[] excludes = getExcludes(request, rule);
+        ObjectId categoryId = ParamsManager.getCategoryId(request);
+        var products = getProductsByCategoryId(request, categoryId, excludes);
+        return checkList(products, "Can not find products in category");
+    }
+
+    /**
+     * Method for get products list by tag id from request params
+     * @param request Spark request object
+     * @param right right name
+     * @param action action name
+     * @return list of products documents
+     * @throws DataException throw if products can not be found
+     */
+    public List<Product> getTagProducts(
+            Request request,
+            String right,
+            String action
+    ) throws DataException {
+        RuleDTO rule = getRule(request, right, action);
+        String[] excludes = getExcludes(request, rule);
+        ObjectId tagId = ParamsManager.getTagId(request);
+        var products = getProductsByTagId(request, tagId, excludes);
+        return checkList(products, "Can not find products with tag");
+    }
+
+    /**
+     * Method for get products list of owner by catalog id from request params
+     * @param request Spark request object
+     * @param right right name
+     * @param action action name
+     * @return list of products documents
+     * @throws DataException throw if products can not be found
+     */
+    public List<Product> getOwnerCatalogProducts(
+            Request request,
+            String right,
+            String action
+    ) throws DataException {
+        RuleDTO rule = getRule(request, right, action);
+        String[] excludes = getExcludes(request, rule);
+        ObjectId userId = ParamsManager.getUserId(request);
+        ObjectId catalogId = ParamsManager.getCatalogId(request);
+        var products = getProductsByOwnerAndCatalogId(
+                request,
+                userId,
+                catalogId,
+                excludes
+        );
+        return checkList(products, "Can not find user products in catalog");
+    }
+
+    /**
+     * Method for faceted search of products (in catalog if catalog id sent
+     * in request params)
+     * @param request Spark request object
+     * @param right right name
+     * @param action action name
+     * @return faceted search result
+     * @throws DataException throw if send not correct params
+     */
+    public FacetedList<Product> searchProducts(
+            Request request,
+            String right,
+            String action
+    ) throws DataException {
+        RuleDTO rule = getRule(request, right, action);
+        String[] excludes = getExcludes(request, rule);
+        ObjectId catalogId = (request.params(RequestParams.CATALOG_ID.getName()) != null)
+                ? ParamsManager.getCatalogId(request)
+                : null;
+        return searchProducts(request, catalogId, excludes);
+    }
+
+    /**
+     * Method for get products list sorted by price in currency from
+     * request params
+     * @param request Spark request object
+     * @param right right name
+     * @param action action name
+     * @return list of products documents
+     * @throws DataException throw if products can not be found
+     */
+    public List<Product> getPriceProducts(
+            Request request,
+            String right,
+            String action
+    ) throws DataException {
+        RuleDTO rule = getRule(request, right, action);
+        String[] excludes = getExcludes(request, rule);
+        Currencies currency = ParamsManager.getCurrency(request);
+        var products = getProductsByPrice(request, currency, excludes);
+        return checkList(products, "Can not find products with price in currency");
+    }
+
+    /**
+     * Method for get product document by id from request params
+     * @param request Spark request object
+     * @param right right name
+     * @param action action name
+     * @return product document
+     * @throws DataException throw if product can not be found
+     */
+    public Product getProduct(
+            Request request,
+            String right,
+            String action
+    ) throws DataException {
+        RuleDTO rule = getRule(request, right, action);
+        String[] excludes = getExcludes(request, rule);
+        ObjectId productId = ParamsManager.getProductId(request);
+        var product = getProductById(productId, excludes);
+        if (product != null) {
+            return product;
+        } else {
+            Error error = new Error("Can not find product");
+            throw new DataException("NotFound", error);
+        }
+    }
+
+    @Override
+    public Product getEntityByIdByOwner(
+            Request request,
+            String right,
+            String action
+    ) throws DataException {
+        RuleDTO rule = getRule(request, right, action);
+        String[] excludes = getExcludes(request, rule);
+        ObjectId userId = ParamsManager.getUserId(request);
+        ObjectId productId = ParamsManager.getProductId(request);
+        var product = getProductById(productId, userId, excludes);
+        if (product != null) {
+            return product;
+        } else {
+            Error error = new Error("Can not find user product");
+            throw new DataException("NotFound", error);
+        }
+    }
+
+    @Override
+    public Product createEntity(
+            Request request,
+            String right,
+            String action
+    ) throws DataException {
+        RuleDTO rule = getRule(request, right, action);
+        boolean isTrusted = Comparator.id_fromParam_fromToken(request);
+        ObjectId userId = ParamsManager.getUserId(request);
+        Product product = createProduct(userId, request);
+        String[] excludes = getExcludes(isTrusted, rule);
+        return getProductByDocument(product, excludes);
+    }
+
+    @Override
+    public Product updateEntity(
+            Request request,
+            String right,
+            String action
+    ) throws DataException {
+        RuleDTO rule = getRule(request, right, action);
+        boolean isTrusted = Comparator.id_fromParam_fromToken(request);
+        ObjectId userId = ParamsManager.getUserId(request);
+        ObjectId productId = ParamsManager.getProductId(request);
+        Product product = updateProduct(userId, productId, request);
+        String[] excludes = getExcludes(isTrusted, rule);
+        return getProductByDocument(product, excludes);
+    }
+
+    @Override
+    public Product deleteEntity(
+            Request request,
+            String right,
+            String action
+    ) throws DataException {
+        ObjectId userId = ParamsManager.getUserId(request);
+        ObjectId productId = ParamsManager.getProductId(request);
+        return deleteProduct(userId, productId);
+    }
+
+    @Override
+    public List<BatchResult> createEntities(
+            Request request,
+            String right,
+            String action
+    ) throws DataException {
+        ObjectId userId = ParamsManager.getUserId(request);
+        return createProducts(userId, request);
+    }
+
+    @Override
+    public List<BatchResult> updateEntities(
+            Request request,
+            String right,
+            String action
+    ) throws DataException {
+        ObjectId userId = ParamsManager.getUserId(request);
+        return updateProducts(userId, request);
+    }
+
+    @Override
+    public List<BatchResult> deleteEntities(
+            Request request,
+            String right,
+            String action
+    ) throws DataException {
+        ObjectId userId = ParamsManager.getUserId(request);
+        return deleteProducts(userId, request);
+    }
+}
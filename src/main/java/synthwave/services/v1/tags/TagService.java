@@ -7,6 +7,8 @@ import spark.Request;
 
 import engine.dto.RuleDTO;
 import core.exceptions.DataException;
+import core.response.answers.BatchResult;
+import engine.repositories.morphia.DocumentStream;
 import core.utils.ParamsManager;
 
 import synthwave.models.morphia.simple.Tag;
@@ -59,6 +61,48 @@ public class TagService extends CoreTagService {
         }
     }
 
+    /**
+     * Method for get stream of tags
+     * @param request Spark request object
+     * @param right right name
+     * @param action action name
+     * @param byOwner true if stream for owner
+     * @return stream of tags
+     * @throws DataException throw if tags stream is empty
+     */
+    private DocumentStream<Tag> streamEntitiesList(
+            Request request,
+            String right,
+            String action,
+            boolean byOwner
+    ) throws DataException {
+        RuleDTO rule = getRule(request, right, action);
+        String[] excludes = getExcludes(request, rule);
+        var userId = (byOwner)
+                ? ParamsManager.getUserId(request)
+                : null;
+        var tags = streamList(request, excludes, userId);
+        return checkStream(tags, "Can not find tag documents");
+    }
+
+    @Override
+    public DocumentStream<Tag> streamEntitiesList(
+        Request request,
+        String right,
+        String action
+    ) throws DataException {
+        return streamEntitiesList(request, right, action, false);
+    }
+
+    @Override
+    public DocumentStream<Tag> streamEntitiesListByOwner(
+        Request request,
+        String right,
+        String action
+    ) throws DataException {
+        return streamEntitiesList(request, right, action, true);
+    }
+
     @Override
     public List<Tag> getEntitiesList(
         Request request,
@@ -124,4 +168,34 @@ public class TagService extends CoreTagService {
     protected boolean checkExistHasAccess(RuleDTO rule, boolean isTrusted) {
     	return  (isTrusted) ? rule.isMyPrivate() : rule.isOtherPrivate();
     }
+
+    @Override
+    public List<BatchResult> createEntities(
+            Request request,
+            String right,
+            String action
+    ) throws DataException {
+        ObjectId userId = ParamsManager.getUserId(request);
+        return createTags(userId, request);
+    }
+
+    @Override
+    public List<BatchResult> updateEntities(
+            Request request,
+            String right,
+            String action
+    ) throws DataException {
+        ObjectId userId = ParamsManager.getUserId(request);
+        return updateTags(userId, request);
+    }
+
+    @Override
+    public List<BatchResult> deleteEntities(
+            Request request,
+            String right,
+            String action
+    ) throws DataException {
+        ObjectId userId = ParamsManager.getUserId(request);
+        return deleteTags(userId, request);
+    }
 }
@@ -8,11 +8,14 @@ import spark.Request;
 import engine.dto.RuleDTO;
 import core.exceptions.DataException;
 import core.exceptions.TokenException;
+import engine.repositories.morphia.DocumentStream;
 import core.utils.ParamsManager;
 import core.utils.QueryManager;
 
+import synthwave.filters.UsersFilter;
 import synthwave.models.morphia.extend.User;
 import synthwave.services.core.users.CoreUserService;
+import synthwave.utils.access.UserRightsCache;
 import core.utils.Comparator;
 
 /**
@@ -51,6 +54,7 @@ public class UserService extends CoreUserService {
         User user = getUserById(userId);
         user.deactivate();
         getRepository().save(user);
+        UserRightsCache.invalidate(userId);
         return user;
     }
 
@@ -87,6 +91,24 @@ public class UserService extends CoreUserService {
         int limit = QueryManager.getLimit(request);
         RuleDTO rule = getRule(request, right, action);
         String[] excludes = getExcludes(rule, true);
-        return getList(skip, limit, excludes);
+        UsersFilter filter = new UsersFilter(skip, limit, excludes);
+        QueryManager.setPagination(request, filter);
+        return getList(filter);
+    }
+    
+    @Override
+    public DocumentStream<User> streamEntitiesList(
+            Request request, 
+            String right,
+            String action
+    ) throws DataException {
+        int skip = QueryManager.getSkip(request);
+        int limit = QueryManager.getLimit(request);
+        RuleDTO rule = getRule(request, right, action);
+        String[] excludes = getExcludes(rule, true);
+        UsersFilter filter = new UsersFilter(skip, limit, excludes);
+        QueryManager.setPagination(request, filter);
+        var users = getRepository().streamAll(filter);
+        return checkStream(users, "Users list is empty");
     }
 }
@@ -1,7 +1,10 @@
 package synthwave.utils.access;
 
 import core.models.morphia.embeddeds.EmbeddedRight;
+import core.utils.AuthContext;
 import core.utils.Comparator;
+import core.utils.CompiledRights;
+import core.utils.RequestManager;
 
 import engine.dto.RuleDTO;
 
@@ -11,7 +14,7 @@ import synthwave.repositories.morphia.UsersRepository;
 import synthwave.filters.UsersFilter;
 import synthwave.models.morphia.extend.User;
 
-
+import org.bson.types.ObjectId;
 import spark.Request;
 
 /**
@@ -21,6 +24,13 @@ import spark.Request;
 public class RightManager {
     // Global excludes for get documents for all fields
     public static final String[] GLOBAL_EXCLUDES = new String[] {};
+    // Include fields for get user document for authorization
+    // (document id included by default)
+    public static final String[] AUTH_INCLUDES = new String[] {
+        "status",
+        "rights",
+        "issuedToken"
+    };
     
     /**
      * Method fo get excludes with default global excludes array
@@ -213,9 +223,18 @@ public class RightManager {
             String rightName, 
             String ruleName
     ) {
+        // Use rights from authentication context if it resolved
+        AuthContext context = AuthContext.get(request);
+        if (context != null) {
+            return RightManager.getRuleObject(
+                    context.getRights(), 
+                    rightName, 
+                    ruleName
+            );
+        }
         try {
             UsersFilter filter = new UsersFilter();
-            filter.setExcludes(new String[] {});
+            filter.setIncludes(AUTH_INCLUDES);
             User user = CoreUserService.getUserByToken(
                     request, 
                     usersRepository, 
@@ -227,6 +246,46 @@ public class RightManager {
         }
     }
 
+    /**
+     * Method for resolve authentication context for request. Context
+     * contains token, user id, user rights & issued tokens and resolved
+     * only once per request
+     * @param request Spark request object
+     * @param usersRepository users repository
+     * @return resolved context or null if token not send or not valid
+     */
+    public static AuthContext resolveAuthContext(
+            Request request, 
+            UsersRepository usersRepository
+    ) {
+        AuthContext context = AuthContext.get(request);
+        if (context == null) {
+            try {
+                ObjectId userId = RequestManager.getUserIdByRequest(request);
+                if (userId != null) {
+                    // Rights & issued tokens of user got from shared cache
+                    UserRightsCache.Entry entry = UserRightsCache.get(
+                            userId, 
+                            usersRepository
+                    );
+                    if (entry != null) {
+                        context = new AuthContext(
+                                RequestManager.getTokenByRequest(request),
+                                userId,
+                                entry.getRights(),
+                                entry.getIssuedTokens()
+                        );
+                        AuthContext.set(request, context);
+                    }
+                }
+            } catch (Exception exception) {
+                // Not valid token - context not resolved
+                context = null;
+            }
+        }
+        return context;
+    }
+
     /**
      * Method for get right from user document
      * @param name  name of collection
@@ -235,10 +294,11 @@ public class RightManager {
      */
     private static EmbeddedRight getRight(String name, User user) {
         EmbeddedRight result = null;
-        if (user != null) {
+        if (user != null && user.getRights() != null) {
             for (EmbeddedRight right : user.getRights()) {
                 if (right.getName().equals(name)) {
                     result = right;
+                    break;
                 }
             }
         }
@@ -246,18 +306,18 @@ public class RightManager {
     }
 
     /**
-     * Method for get rule from user right by action name
+     * Method for get rule bitmask from user right by action name
      * @param right user right
      * @param action action name
-     * @return rule string
+     * @return rule bitmask
      */
-    private static String getRule(EmbeddedRight right, String action) {
+    private static int getRule(EmbeddedRight right, String action) {
         return switch (action) {
-            case "create" -> right.getCreate();
-            case "read" -> right.getRead();
-            case "update" -> right.getUpdate();
-            case "delete" -> right.getDelete();
-            default -> "000000";
+            case "create" -> CompiledRights.parseRule(right.getCreate());
+            case "read" -> CompiledRights.parseRule(right.getRead());
+            case "update" -> CompiledRights.parseRule(right.getUpdate());
+            case "delete" -> CompiledRights.parseRule(right.getDelete());
+            default -> 0;
         };
     }
 
@@ -270,7 +330,26 @@ public class RightManager {
      */
     public static RuleDTO getRuleObject(User user, String rightName, String ruleName) {
         EmbeddedRight right = RightManager.getRight(rightName, user);
-        String rule = (right != null) ? RightManager.getRule(right, ruleName) : null;
-        return (rule != null) ? new RuleDTO(rule) : null;
+        return (right != null) 
+                ? RuleDTO.of(RightManager.getRule(right, ruleName)) 
+                : null;
+    }
+
+    /**
+     * Method for get rule data transfer object by compiled user rights,
+     * right name and rule name
+     * @param rights compiled user rights
+     * @param rightName right name
+     * @param ruleName rule name
+     * @return rule data transfer object (shared instance)
+     */
+    public static RuleDTO getRuleObject(
+            CompiledRights rights, 
+            String rightName, 
+            String ruleName
+    ) {
+        return (rights != null) 
+                ? RuleDTO.of(rights.getRule(rightName, ruleName)) 
+                : null;
     }
 }
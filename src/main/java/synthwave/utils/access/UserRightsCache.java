@@ -0,0 +1,155 @@
+package synthwave.utils.access;
+
+import core.utils.CompiledRights;
+import core.utils.ExpiringCache;
+
+import synthwave.filters.UsersFilter;
+import synthwave.models.morphia.extend.User;
+import synthwave.repositories.morphia.UsersRepository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.bson.types.ObjectId;
+
+/**
+ * Class for in-process cache of compiled user rights & issued tokens.
+ * Cache entries must be invalidated after any change of user rights,
+ * user issued tokens or user status
+ * @author small-entropy
+ */
+public class UserRightsCache {
+
+    /** Maximum count of cached users */
+    public static final int MAX_SIZE = 50000;
+    /** Time to live for cached user (in milliseconds) */
+    public static final long TTL = 5 * 60 * 1000L;
+
+    /** Cache with user entries by user id */
+    private static final ExpiringCache<ObjectId, Entry> CACHE =
+            new ExpiringCache<>(MAX_SIZE, TTL);
+
+    /**
+     * Class for cache entry (compiled rights & issued tokens of user)
+     */
+    public static final class Entry {
+        /** Compiled user rights */
+        private final CompiledRights rights;
+        /** User issued tokens */
+        private final List<String> issuedTokens;
+
+        private Entry(CompiledRights rights, List<String> issuedTokens) {
+            this.rights = rights;
+            this.issuedTokens = issuedTokens;
+        }
+
+        /**
+         * Getter for compiled user rights
+         * @return compiled user rights
+         */
+        public CompiledRights getRights() {
+            return rights;
+        }
+
+        /**
+         * Getter for user issued tokens
+         * @return unmodifiable list of issued tokens
+         */
+        public List<String> getIssuedTokens() {
+            return issuedTokens;
+        }
+    }
+
+    /**
+     * Method for get cache entry by user id. If entry not exist in cache -
+     * user document will be loaded from users repository
+     * @param userId user id
+     * @param usersRepository users repository
+     * @return cache entry or null if user not found
+     */
+    public static Entry get(ObjectId userId, UsersRepository usersRepository) {
+        return CACHE.get(userId, id -> load(id, usersRepository));
+    }
+
+    /**
+     * Method for load cache entry from users repository
+     * @param userId user id
+     * @param usersRepository users repository
+     * @return cache entry or null if user not found
+     */
+    private static Entry load(ObjectId userId, UsersRepository usersRepository) {
+        UsersFilter filter = new UsersFilter();
+        filter.setId(userId);
+        filter.setIncludes(RightManager.AUTH_INCLUDES);
+        User user = usersRepository.findOneById(filter);
+        if (user != null) {
+            List<String> issuedTokens = (user.getIssuedTokens() != null)
+                    ? Collections.unmodifiableList(
+                            new ArrayList<>(user.getIssuedTokens()))
+                    : Collections.emptyList();
+            return new Entry(
+                    CompiledRights.compile(user.getRights()),
+                    issuedTokens
+            );
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Method for remove user entry from cache
+     * @param userId user id
+     */
+    public static void invalidate(ObjectId userId) {
+        if (userId != null) {
+            CACHE.invalidate(userId);
+        }
+    }
+
+    /**
+     * Method for remove all entries from cache
+     */
+    public static void invalidateAll() {
+        CACHE.invalidateAll();
+    }
+
+    /**
+     * Getter for cache of user entries
+     * @return cache of user entries
+     */
+    public static ExpiringCache<ObjectId, Entry> getCache() {
+        return CACHE;
+    }
+
+    /**
+     * Getter for count of cached users
+     * @return count of cached users
+     */
+    public static int getSize() {
+        return CACHE.size();
+    }
+
+    /**
+     * Getter for count of cache hits
+     * @return count of hits
+     */
+    public static long getHits() {
+        return CACHE.getHits();
+    }
+
+    /**
+     * Getter for count of cache misses
+     * @return count of misses
+     */
+    public static long getMisses() {
+        return CACHE.getMisses();
+    }
+
+    /**
+     * Getter for count of evicted entries
+     * @return count of evictions
+     */
+    public static long getEvictions() {
+        return CACHE.getEvictions();
+    }
+}
@@ -0,0 +1,141 @@
+package synthwave.utils.catalogs;
+
+import core.response.answers.TreeNode;
+import core.utils.ExpiringCache;
+
+import synthwave.filters.CategoriesFilter;
+import synthwave.models.morphia.extend.Category;
+import synthwave.repositories.morphia.CategoriesRepository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.bson.types.ObjectId;
+
+/**
+ * Class for in-process cache of categories trees by catalogs. Cached tree
+ * is immutable snapshot, snapshot replaced after any change of catalog
+ * categories (readers never see partially built tree). Tree loaded
+ * before change of catalog categories not cached after it (cache checks
+ * invalidations of catalog key while tree loading)
+ * @author small-entropy
+ */
+public class CategoryTreeCache {
+
+    /** Maximum count of cached catalogs */
+    public static final int MAX_SIZE = 1000;
+    /** Time to live for cached tree (in milliseconds) */
+    public static final long TTL = 10 * 60 * 1000L;
+
+    /** Cache with trees by catalog id */
+    private static final ExpiringCache<ObjectId, List<TreeNode>> CACHE =
+            new ExpiringCache<>(MAX_SIZE, TTL);
+
+    /**
+     * Method for get tree of catalog. If tree not exist in cache - tree
+     * will be built by categories from repository
+     * @param catalogId catalog id
+     * @param categoriesRepository categories repository
+     * @return unmodifiable list of root nodes
+     */
+    public static List<TreeNode> get(
+            ObjectId catalogId, 
+            CategoriesRepository categoriesRepository
+    ) {
+        return CACHE.get(catalogId, id -> load(id, categoriesRepository));
+    }
+
+    /**
+     * Method for replace tree of catalog after change of catalog
+     * categories. Must be called after change saved
+     * @param catalogId catalog id
+     * @param categoriesRepository categories repository
+     */
+    public static void refresh(
+            ObjectId catalogId, 
+            CategoriesRepository categoriesRepository
+    ) {
+        if (catalogId == null) {
+            return;
+        }
+        // Trees of catalog loaded before change can not be put to cache
+        CACHE.invalidate(catalogId);
+        CACHE.get(catalogId, id -> load(id, categoriesRepository));
+    }
+
+    /**
+     * Method for remove all trees from cache (for changes of categories
+     * in unknown catalogs)
+     */
+    public static void invalidateAll() {
+        CACHE.invalidateAll();
+    }
+
+    /**
+     * Method for load tree of catalog from repository
+     * @param catalogId catalog id
+     * @param categoriesRepository categories repository
+     * @return unmodifiable list of root nodes
+     */
+    private static List<TreeNode> load(
+            ObjectId catalogId, 
+            CategoriesRepository categoriesRepository
+    ) {
+        CategoriesFilter filter = new CategoriesFilter();
+        filter.setCatalog(catalogId);
+        filter.setIncludes(TreeNode.FIELDS);
+        List<TreeNode> tree = build(categoriesRepository.findTreeByCatalogId(filter));
+        for (TreeNode node : tree) {
+            node.freeze();
+        }
+        return Collections.unmodifiableList(tree);
+    }
+
+    /**
+     * Method for build tree by categories sorted by depth. Categories with
+     * minimal depth (or without parent) used as root nodes. Categories
+     * with parent not in list (inactive parent) skipped with descendants
+     * @param categories categories sorted by depth
+     * @return root nodes of tree
+     */
+    public static List<TreeNode> build(List<Category> categories) {
+        Map<ObjectId, TreeNode> nodes = new HashMap<>();
+        List<TreeNode> roots = new ArrayList<>();
+        int rootDepth = (!categories.isEmpty()) 
+                ? categories.get(0).getDepth() 
+                : 0;
+        for (Category category : categories) {
+            TreeNode parent = (category.getParent() != null)
+                    ? nodes.get(category.getParent())
+                    : null;
+            boolean root = category.getParent() == null
+                    || category.getDepth() == rootDepth;
+            if (parent == null && !root) {
+                continue;
+            }
+            TreeNode node = new TreeNode(
+                    category.getId(),
+                    category.getName(),
+                    category.getTitle(),
+                    category.getDepth()
+            );
+            nodes.put(category.getId(), node);
+            if (parent != null) {
+                parent.addChild(node);
+            } else {
+                roots.add(node);
+            }
+        }
+        return roots;
+    }
+
+    /**
+     * Getter for cache of trees
+     * @return cache of trees
+     */
+    public static ExpiringCache<ObjectId, List<TreeNode>> getCache() {
+        return CACHE;
+    }
+}